@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.apache.maven.model.Dependency;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+
+/**
+ * Creates the synthetic inputs shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Dependency> createDependencies(int count) {
+        List<Dependency> dependencies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Dependency dependency = new Dependency();
+            dependency.setGroupId("com.example.group" + (i % 50));
+            dependency.setArtifactId("artifact-" + i);
+            dependency.setVersion("1." + (i % 10) + ".0");
+            dependency.setScope(i % 5 == 0 ? "provided" : "compile");
+            dependency.setType("jar");
+            dependencies.add(dependency);
+        }
+        return dependencies;
+    }
+
+    static File createRandomFile(File directory, String name, long size) throws IOException {
+        File file = new File(directory, name);
+        byte[] chunk = new byte[1024 * 1024];
+        Random random = new Random(size);
+        try (OutputStream output = Files.newOutputStream(file.toPath())) {
+            for (long remaining = size; remaining > 0; remaining -= chunk.length) {
+                random.nextBytes(chunk);
+                output.write(chunk, 0, (int) Math.min(chunk.length, remaining));
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Creates a Git repository with the given number of commits on {@code main} and an {@code origin} remote on GitHub.
+     */
+    static void createGitRepository(File directory, int commits) throws Exception {
+        try (Git git = Git.init().setDirectory(directory).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "git@github.com:example/benchmark-app.git");
+            config.save();
+            File file = new File(directory, "README.md");
+            for (int i = 0; i < commits; i++) {
+                Files.write(file.toPath(), ("revision " + i).getBytes(StandardCharsets.UTF_8));
+                git.add().addFilepattern("README.md").call();
+                git.commit().setMessage("Commit " + i).setAuthor("benchmark", "benchmark@example.com").setCommitter("benchmark", "benchmark@example.com").call();
+            }
+        }
+    }
+
+    static void delete(File directory) throws IOException {
+        if (!directory.exists()) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.WarResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+
+/**
+ * Hashing of subject files of several sizes with one or more digest algorithms. The files stay in the page cache after the first
+ * read, so this measures the hashing itself rather than the disk. Hashing through {@link WarResourceDescriptor}, which always
+ * uses SHA-256, is the baseline.
+ * <p>
+ * Besides operations per second, each benchmark reports a {@code :bytes} secondary result: the number of bytes hashed per second.
+ * JMH labels it {@code ops/s}, where each operation is one byte, so dividing it by 1048576 gives MB/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigestBenchmark {
+
+    @Param({ "1024", "1048576", "67108864" })
+    public long fileSize;
+
+    @Param({ "sha256", "sha256,sha512" })
+    public String algorithms;
+
+    private File directory;
+    private File file;
+    private DigestUtils digestUtils;
+
+    @Setup
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("slsa-digest-benchmark").toFile();
+        file = BenchmarkFixtures.createRandomFile(directory, "subject.war", fileSize);
+        digestUtils = new DigestUtils(Arrays.asList(algorithms.split(",")));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkFixtures.delete(directory);
+    }
+
+    @Benchmark
+    public DigestSet getDigest(BytesHashed bytesHashed) throws Exception {
+        bytesHashed.bytes += fileSize;
+        return digestUtils.getDigest(file);
+    }
+
+    @Benchmark
+    public Object warResourceDescriptor(BytesHashed bytesHashed) throws Exception {
+        bytesHashed.bytes += fileSize;
+        return new WarResourceDescriptor(file).toJson();
+    }
+
+    /**
+     * Counts the bytes hashed by each benchmark thread. JMH reports the count as a rate per {@link OutputTimeUnit}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class BytesHashed {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+}
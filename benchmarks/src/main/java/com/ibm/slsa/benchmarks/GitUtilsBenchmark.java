@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+
+/**
+ * Git repository lookups on a synthetic repository, from a module directory nested inside it. The uncached lookup opens the
+ * repository every time, as the plugin did before lookups were shared across a Maven session; the cached lookup is what every
+ * module after the first one in a reactor pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GitUtilsBenchmark {
+
+    @Param({ "1", "100" })
+    public int commits;
+
+    private File repositoryDir;
+    private File moduleDir;
+    private GitUtils cachedGitUtils;
+
+    @Setup
+    public void setup() throws Exception {
+        repositoryDir = Files.createTempDirectory("slsa-git-benchmark").toFile();
+        BenchmarkFixtures.createGitRepository(repositoryDir, commits);
+        moduleDir = new File(repositoryDir, "modules/app");
+        moduleDir.mkdirs();
+        cachedGitUtils = new GitUtils(mock(MavenSession.class), moduleDir);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkFixtures.delete(repositoryDir);
+    }
+
+    @Benchmark
+    public GitRepositoryResourceDescriptor uncachedLookup() throws Exception {
+        return new GitUtils(null, moduleDir).getGitRepositoryResourceDescriptor();
+    }
+
+    @Benchmark
+    public GitRepositoryResourceDescriptor cachedLookup() throws Exception {
+        return cachedGitUtils.getGitRepositoryResourceDescriptor();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.slsa.JsonFactories;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Building and writing a Statement-shaped document with the static {@link Json} methods, which look up the JSON provider on
+ * every call, compared with the shared {@link JsonFactories}. Run with {@code -prof gc} to also compare the allocations per
+ * Statement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonFactoriesBenchmark {
+
+    @Param({ "10", "500" })
+    public int dependencyCount;
+
+    private List<Dependency> dependencies;
+
+    @Setup
+    public void setup() {
+        dependencies = BenchmarkFixtures.createDependencies(dependencyCount);
+    }
+
+    @Benchmark
+    public JsonObject buildWithStaticJson() {
+        JsonArrayBuilder resolvedDependencies = Json.createArrayBuilder();
+        for (Dependency dependency : dependencies) {
+            resolvedDependencies.add(addDependency(Json.createObjectBuilder(), dependency));
+        }
+        return addStatement(Json.createObjectBuilder(), Json.createObjectBuilder(), resolvedDependencies);
+    }
+
+    @Benchmark
+    public JsonObject buildWithJsonFactories() {
+        JsonArrayBuilder resolvedDependencies = JsonFactories.createArrayBuilder();
+        for (Dependency dependency : dependencies) {
+            resolvedDependencies.add(addDependency(JsonFactories.createObjectBuilder(), dependency));
+        }
+        return addStatement(JsonFactories.createObjectBuilder(), JsonFactories.createObjectBuilder(), resolvedDependencies);
+    }
+
+    @Benchmark
+    public void writeWithStaticJson(Blackhole blackhole) {
+        try (JsonGenerator generator = Json.createGenerator(new SerializationBenchmark.BlackholeOutputStream(blackhole))) {
+            writeStatement(generator);
+        }
+    }
+
+    @Benchmark
+    public void writeWithJsonFactories(Blackhole blackhole) {
+        try (JsonGenerator generator = JsonFactories.createGenerator(new SerializationBenchmark.BlackholeOutputStream(blackhole))) {
+            writeStatement(generator);
+        }
+    }
+
+    private JsonObjectBuilder addDependency(JsonObjectBuilder builder, Dependency dependency) {
+        return builder.add("uri", "pkg:maven/" + dependency.getGroupId() + "/" + dependency.getArtifactId() + "@" + dependency.getVersion())
+                .add("name", dependency.getArtifactId());
+    }
+
+    private JsonObject addStatement(JsonObjectBuilder statement, JsonObjectBuilder buildDefinition, JsonArrayBuilder resolvedDependencies) {
+        buildDefinition.add("buildType", "https://example.com/buildType").add("resolvedDependencies", resolvedDependencies);
+        return statement.add("_type", "https://in-toto.io/Statement/v1").add("predicate", buildDefinition).build();
+    }
+
+    private void writeStatement(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write("_type", "https://in-toto.io/Statement/v1");
+        generator.writeStartObject("predicate");
+        generator.write("buildType", "https://example.com/buildType");
+        generator.writeStartArray("resolvedDependencies");
+        for (Dependency dependency : dependencies) {
+            generator.writeStartObject();
+            generator.write("uri", "pkg:maven/" + dependency.getGroupId() + "/" + dependency.getArtifactId() + "@" + dependency.getVersion());
+            generator.write("name", dependency.getArtifactId());
+            generator.writeEnd();
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+}
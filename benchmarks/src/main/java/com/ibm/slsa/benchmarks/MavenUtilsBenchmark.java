@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.slsa.maven.plugin.utils.maven.DependencyDescriptors;
+import com.ibm.slsa.maven.plugin.utils.maven.MavenUtils;
+
+/**
+ * How {@link MavenUtils#addMavenProjectDependencies(DependencyDescriptors)} scales with the number of declared dependencies, both
+ * for the first module of a build, which builds every descriptor, and for later modules, which share the descriptors that the
+ * first module built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MavenUtilsBenchmark {
+
+    @Param({ "10", "500", "5000" })
+    public int dependencyCount;
+
+    private MavenProject project;
+    private MavenUtils mavenUtils;
+
+    @Setup
+    public void setup() {
+        project = new MavenProject();
+        project.setDependencies(BenchmarkFixtures.createDependencies(dependencyCount));
+        mavenUtils = new MavenUtils(project, null);
+    }
+
+    @Benchmark
+    public DependencyDescriptors addMavenProjectDependencies() {
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+        mavenUtils.addMavenProjectDependencies(descriptors);
+        return descriptors;
+    }
+
+    @Benchmark
+    public DependencyDescriptors addMavenProjectDependencies_firstModule() {
+        // Without a session, each instance has its own descriptor cache
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+        new MavenUtils(project, null).addMavenProjectDependencies(descriptors);
+        return descriptors;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.slsa.maven.plugin.ProvenanceGenerator;
+import jakarta.json.JsonObject;
+
+/**
+ * End-to-end generation of the provenance Statement for a synthetic project: a Git repository, a built .war file, and a list of
+ * declared dependencies. A new Maven session is used for every invocation, so nothing is shared between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProvenanceGeneratorBenchmark {
+
+    @Param({ "1048576", "67108864" })
+    public long warSize;
+
+    @Param({ "10", "5000" })
+    public int dependencyCount;
+
+    private File projectDir;
+    private MavenProject project;
+
+    @Setup
+    public void setup() throws Exception {
+        projectDir = Files.createTempDirectory("slsa-provenance-benchmark").toFile();
+        BenchmarkFixtures.createGitRepository(projectDir, 10);
+        File buildDir = new File(projectDir, "target");
+        buildDir.mkdirs();
+        BenchmarkFixtures.createRandomFile(buildDir, "app.war", warSize);
+
+        project = new MavenProject();
+        project.setFile(new File(projectDir, "pom.xml"));
+        Build build = new Build();
+        build.setDirectory(buildDir.getAbsolutePath());
+        project.getModel().setBuild(build);
+        project.setDependencies(BenchmarkFixtures.createDependencies(dependencyCount));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkFixtures.delete(projectDir);
+    }
+
+    @Benchmark
+    public JsonObject generateProvenanceFileData() throws Exception {
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+        when(mavenSession.getUserProperties()).thenReturn(new Properties());
+        return new ProvenanceGenerator("https://example.com/builder", "https://example.com/buildType", project, mavenSession, new SystemStreamLog()).generateProvenanceFileData();
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.model.Dependency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.slsa.BuildDefinition;
+import com.ibm.slsa.BuildMetadata;
+import com.ibm.slsa.Builder;
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.RunDetails;
+import com.ibm.slsa.SlsaPredicate;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Serialization of the SLSA predicate with small, medium, and huge lists of resolved dependencies, by building the JSON in
+ * memory, by streaming it through a {@link JsonGenerator}, and by writing its canonical form both from memory and streamed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({ "10", "500", "5000" })
+    public int dependencyCount;
+
+    private SlsaPredicate predicate;
+
+    @Setup
+    public void setup() {
+        List<Dependency> dependencies = BenchmarkFixtures.createDependencies(dependencyCount);
+        JsonArrayBuilder resolvedDependencies = Json.createArrayBuilder();
+        for (Dependency dependency : dependencies) {
+            resolvedDependencies.add(new MavenArtifactResourceDescriptor(dependency).toJson());
+        }
+        JsonObject externalParameters = Json.createObjectBuilder()
+                .add("repository", "git@github.com:example/benchmark-app.git")
+                .add("ref", "refs/heads/main")
+                .build();
+        BuildDefinition buildDefinition = new BuildDefinition.Builder("https://example.com/buildType", externalParameters)
+                .resolvedDependencies(resolvedDependencies.build())
+                .build();
+        RunDetails runDetails = new RunDetails.Builder(new Builder.BuilderBuilder("https://example.com/builder").build())
+                .metadata(new BuildMetadata.Builder().startedOn("2024-01-01T00:00:00Z").build())
+                .build();
+        predicate = new SlsaPredicate(buildDefinition, runDetails);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return predicate.getPredicateParameters().toString();
+    }
+
+    @Benchmark
+    public void writeJson(Blackhole blackhole) {
+        try (JsonGenerator generator = Json.createGenerator(new BlackholeOutputStream(blackhole))) {
+            predicate.writePredicateParameters(generator);
+        }
+    }
+
+    @Benchmark
+    public void writeCanonicalJson(Blackhole blackhole) throws IOException {
+        CanonicalJson.write(predicate.getPredicateParameters(), new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void streamCanonicalJson(Blackhole blackhole) {
+        try (JsonGenerator generator = CanonicalJson.createGenerator(new BlackholeOutputStream(blackhole))) {
+            predicate.writePredicateParameters(generator);
+        }
+    }
+
+    /**
+     * Consumes the serialized bytes without keeping them, so that only the cost of serialization is measured.
+     */
+    static class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            blackhole.consume(b);
+        }
+    }
+
+}
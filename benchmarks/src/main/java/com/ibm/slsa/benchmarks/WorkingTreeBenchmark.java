@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.benchmarks;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+import com.ibm.slsa.maven.plugin.utils.git.WorkingTreeStatus;
+
+/**
+ * Checking a synthetic working tree with one modified file for uncommitted changes. The plugin's check trusts the stat data in
+ * the index and only hashes the modified file; JGit's status is the full scan it replaces, including untracked files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkingTreeBenchmark {
+
+    private static final int DIRECTORIES = 100;
+
+    @Param({ "1000", "20000" })
+    public int files;
+
+    private File repositoryDir;
+    private File moduleDir;
+
+    @Setup
+    public void setup() throws Exception {
+        repositoryDir = Files.createTempDirectory("slsa-working-tree-benchmark").toFile();
+        BenchmarkFixtures.createGitRepository(repositoryDir, 1);
+        // Files written in the same second as the index can't be trusted by their stat data, so they are backdated
+        FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < files; i++) {
+            File file = new File(repositoryDir, "modules/m" + (i % DIRECTORIES) + "/File" + i + ".java");
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), ("class File" + i + " {}").getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(file.toPath(), lastModified);
+        }
+        try (Git git = Git.open(repositoryDir)) {
+            git.add().addFilepattern("modules").call();
+            git.commit().setMessage("Add modules").setAuthor("benchmark", "benchmark@example.com").setCommitter("benchmark", "benchmark@example.com").call();
+            // Git records the commit's tree in the index when it commits, but JGit doesn't
+            DirCache index = git.getRepository().lockDirCache();
+            try (ObjectInserter inserter = git.getRepository().newObjectInserter()) {
+                index.writeTree(inserter);
+                index.write();
+                index.commit();
+            } finally {
+                index.unlock();
+            }
+        }
+        Files.write(new File(repositoryDir, "modules/m0/File0.java").toPath(), "class Changed {}".getBytes(StandardCharsets.UTF_8));
+        moduleDir = new File(repositoryDir, "modules/m0");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        BenchmarkFixtures.delete(repositoryDir);
+    }
+
+    @Benchmark
+    public WorkingTreeStatus workingTreeStatus() throws Exception {
+        return new GitUtils(null, moduleDir).getWorkingTreeStatus(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public Status jgitStatus() throws Exception {
+        try (Git git = Git.open(repositoryDir)) {
+            return git.status().call();
+        }
+    }
+
+}
@@ -17,10 +17,10 @@
 package com.ibm.slsa;
 
 import com.ibm.intoto.attestation.utils.Utils;
-import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * The BuildDefinition describes all of the inputs to the build. It SHOULD contain all the information necessary and
@@ -65,14 +65,14 @@ public class BuildDefinition {
      * the build. There is no need to verify these parameters because the build platform is already trusted, and in many cases it
      * is not practical to do so.
      */
-    private JsonObject internalParameters = null;
+    private JsonWritable internalParameters = null;
 
     /**
      * Unordered collection of artifacts needed at build time. Completeness is best effort, at least through SLSA Build L3. For
      * example, if the build script fetches and executes "example.com/foo.sh", which in turn fetches "example.com/bar.tar.gz",
      * then both "foo.sh" and "bar.tar.gz" SHOULD be listed here.
      */
-    private JsonArray resolvedDependencies = null;
+    private JsonWritable resolvedDependencies = null;
 
     private BuildDefinition(Builder builder) {
         this.buildType = builder.buildType;
@@ -82,20 +82,36 @@ public class BuildDefinition {
     }
 
     public JsonObject toJson() {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         builder.add(KEY_BUILD_TYPE, buildType);
         Utils.addIfNonNullAndNotEmpty(externalParameters, KEY_EXTERNAL_PARAMETERS, builder);
-        Utils.addIfNonNullAndNotEmpty(internalParameters, KEY_INTERNAL_PARAMETERS, builder);
-        Utils.addIfNonNullAndNotEmpty(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, builder);
+        if (internalParameters != null && !internalParameters.isEmpty()) {
+            builder.add(KEY_INTERNAL_PARAMETERS, internalParameters.toJson());
+        }
+        if (resolvedDependencies != null && !resolvedDependencies.isEmpty()) {
+            builder.add(KEY_RESOLVED_DEPENDENCIES, resolvedDependencies.toJson());
+        }
         return builder.build();
     }
 
+    /**
+     * Writes the same JSON object as {@link #toJson()} directly to the given generator, without first building it in memory.
+     */
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(KEY_BUILD_TYPE, buildType);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(externalParameters, KEY_EXTERNAL_PARAMETERS, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(internalParameters, KEY_INTERNAL_PARAMETERS, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(resolvedDependencies, KEY_RESOLVED_DEPENDENCIES, generator);
+        generator.writeEnd();
+    }
+
     public static class Builder {
 
         private String buildType;
         private JsonObject externalParameters = null;
-        private JsonObject internalParameters = null;
-        private JsonArray resolvedDependencies = null;
+        private JsonWritable internalParameters = null;
+        private JsonWritable resolvedDependencies = null;
 
         public Builder(String buildType, JsonObject externalParameters) {
             this.buildType = buildType;
@@ -103,11 +119,29 @@ public class BuildDefinition {
         }
 
         public Builder internalParameters(JsonObject internalParameters) {
+            this.internalParameters = internalParameters == null ? null : JsonWritable.of(internalParameters);
+            return this;
+        }
+
+        /**
+         * Sets internal parameters that are written directly to the generator when the provenance is streamed, instead of being
+         * built into a {@link JsonObject} first.
+         */
+        public Builder internalParameters(JsonWritable internalParameters) {
             this.internalParameters = internalParameters;
             return this;
         }
 
         public Builder resolvedDependencies(JsonArray resolvedDependencies) {
+            this.resolvedDependencies = resolvedDependencies == null ? null : JsonWritable.of(resolvedDependencies);
+            return this;
+        }
+
+        /**
+         * Sets resolved dependencies that are written one at a time when the provenance is streamed, instead of being built into
+         * a {@link JsonArray} first.
+         */
+        public Builder resolvedDependencies(JsonWritable resolvedDependencies) {
             this.resolvedDependencies = resolvedDependencies;
             return this;
         }
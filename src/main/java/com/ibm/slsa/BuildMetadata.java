@@ -17,9 +17,9 @@
 package com.ibm.slsa;
 
 import com.ibm.intoto.attestation.utils.Utils;
-import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Metadata about this particular execution of the build.
@@ -56,13 +56,35 @@ public class BuildMetadata {
     }
 
     public JsonObject toJson() {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         Utils.addIfNonNullAndNotEmpty(invocationId, KEY_INVOCATION_ID, builder);
         Utils.addIfNonNullAndNotEmpty(startedOn, KEY_STARTED_ON, builder);
         Utils.addIfNonNullAndNotEmpty(finishedOn, KEY_FINISHED_ON, builder);
         return builder.build();
     }
 
+    /**
+     * Writes the same JSON object as {@link #toJson()} directly to the given generator, without first building it in memory.
+     */
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(finishedOn, KEY_FINISHED_ON, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(invocationId, KEY_INVOCATION_ID, generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(startedOn, KEY_STARTED_ON, generator);
+        generator.writeEnd();
+    }
+
+    /**
+     * Returns whether none of the metadata has been set, in which case {@link #toJson()} returns an empty object.
+     */
+    public boolean isEmpty() {
+        return isNullOrEmpty(invocationId) && isNullOrEmpty(startedOn) && isNullOrEmpty(finishedOn);
+    }
+
+    private boolean isNullOrEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
     public static class Builder {
 
         private String invocationId = null;
@@ -19,10 +19,10 @@ package com.ibm.slsa;
 import java.util.Map;
 
 import com.ibm.intoto.attestation.utils.Utils;
-import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Identifies the build platform that executed the invocation, which is trusted to have correctly performed the operation and
@@ -71,13 +71,24 @@ public class Builder {
     }
 
     public JsonObject toJson() {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         builder.add(KEY_ID, id);
         Utils.addIfNonNullAndNotEmpty(builderDependencies, KEY_BUILDER_DEPENDENCIES, builder);
         Utils.addIfNonNullAndNotEmpty(version, KEY_VERSION, builder);
         return builder.build();
     }
 
+    /**
+     * Writes the same JSON object as {@link #toJson()} directly to the given generator, without first building it in memory.
+     */
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(builderDependencies, KEY_BUILDER_DEPENDENCIES, generator);
+        generator.write(KEY_ID, id);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(version, KEY_VERSION, generator);
+        generator.writeEnd();
+    }
+
     /**
      * I know, I know...
      */
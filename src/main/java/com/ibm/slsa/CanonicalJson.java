@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+/**
+ * Serializes JSON in the canonical form defined by the JSON Canonicalization Scheme (RFC 8785, see
+ * https://www.rfc-editor.org/rfc/rfc8785), so that the same JSON value always produces the same bytes regardless of the JSON
+ * provider:
+ * <ul>
+ * <li>No whitespace is written between tokens.
+ * <li>Object members are sorted by the UTF-16 code units of their names.
+ * <li>Strings only escape the characters that JSON requires to be escaped, using the shortest escape sequence.
+ * <li>Numbers are written as IEEE 754 doubles, in the shortest form that reads back as the same double, using the ECMAScript
+ * {@code Number.prototype.toString} format.
+ * <li>The output is UTF-8 encoded.
+ * </ul>
+ */
+public final class CanonicalJson {
+
+    private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+    private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+    private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+    private static final byte[] HEX = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+    /**
+     * Doubles below this magnitude that have no fractional part are written exactly by their {@code long} value.
+     */
+    private static final double MAX_EXACT_INTEGER = 9007199254740992d;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+
+    CanonicalJson(OutputStream out) {
+        this.out = out;
+    }
+
+    public static byte[] toBytes(JsonValue value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(value, out);
+        } catch (IOException e) {
+            // Can't happen when writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Creates a generator that writes the canonical form of the JSON it is given to the stream as it goes, without building the
+     * JSON in memory first. See {@link CanonicalJsonGenerator} for the order in which object members have to be written.
+     */
+    public static CanonicalJsonGenerator createGenerator(OutputStream out) {
+        return new CanonicalJsonGenerator(out);
+    }
+
+    /**
+     * Writes the canonical form of the value to the stream. The stream is flushed but not closed.
+     *
+     * @throws IllegalArgumentException if a string contains an unpaired surrogate, which can't be encoded as UTF-8
+     */
+    public static void write(JsonValue value, OutputStream out) throws IOException {
+        CanonicalJson writer = new CanonicalJson(out);
+        writer.writeValue(value);
+        writer.flush();
+    }
+
+    void writeValue(JsonValue value) throws IOException {
+        switch (value.getValueType()) {
+        case OBJECT:
+            writeObject(value.asJsonObject());
+            break;
+        case ARRAY:
+            writeArray(value.asJsonArray());
+            break;
+        case STRING:
+            writeString(((JsonString) value).getString());
+            break;
+        case NUMBER:
+            writeAscii(formatNumber(((JsonNumber) value).doubleValue()));
+            break;
+        case TRUE:
+            writeBytes(TRUE);
+            break;
+        case FALSE:
+            writeBytes(FALSE);
+            break;
+        default:
+            writeBytes(NULL);
+            break;
+        }
+    }
+
+    private void writeObject(JsonObject object) throws IOException {
+        // String.compareTo orders by UTF-16 code units, as RFC 8785 requires
+        String[] names = object.keySet().toArray(new String[object.size()]);
+        Arrays.sort(names);
+        writeByte('{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            writeString(names[i]);
+            writeByte(':');
+            writeValue(object.get(names[i]));
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(JsonArray array) throws IOException {
+        writeByte('[');
+        for (int i = 0; i < array.size(); i++) {
+            if (i > 0) {
+                writeByte(',');
+            }
+            writeValue(array.get(i));
+        }
+        writeByte(']');
+    }
+
+    void writeString(String value) throws IOException {
+        writeByte('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                writeAsciiChar(c);
+            } else if (c < 0x800) {
+                writeByte(0xc0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == length || !Character.isLowSurrogate(value.charAt(i + 1))) {
+                    throw new IllegalArgumentException("The string contains an unpaired surrogate at index " + i + " and can't be canonicalized.");
+                }
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                writeByte(0xf0 | (codePoint >> 18));
+                writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+                writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+                writeByte(0x80 | (codePoint & 0x3f));
+            } else {
+                writeByte(0xe0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3f));
+                writeByte(0x80 | (c & 0x3f));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeAsciiChar(char c) throws IOException {
+        switch (c) {
+        case '"':
+        case '\\':
+            writeByte('\\');
+            writeByte(c);
+            return;
+        case '\b':
+            writeByte('\\');
+            writeByte('b');
+            return;
+        case '\f':
+            writeByte('\\');
+            writeByte('f');
+            return;
+        case '\n':
+            writeByte('\\');
+            writeByte('n');
+            return;
+        case '\r':
+            writeByte('\\');
+            writeByte('r');
+            return;
+        case '\t':
+            writeByte('\\');
+            writeByte('t');
+            return;
+        default:
+            if (c < 0x20) {
+                writeByte('\\');
+                writeByte('u');
+                writeByte('0');
+                writeByte('0');
+                writeByte(HEX[c >> 4]);
+                writeByte(HEX[c & 0xf]);
+            } else {
+                writeByte(c);
+            }
+        }
+    }
+
+    /**
+     * Formats the number the way ECMAScript's {@code Number.prototype.toString} does: the shortest digits that read back as the
+     * same double, without an exponent for magnitudes from 1e-6 up to (but not including) 1e21.
+     */
+    static String formatNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("JSON numbers must be finite but the number was " + value + ".");
+        }
+        if (value == 0) {
+            // Also covers -0
+            return "0";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < MAX_EXACT_INTEGER) {
+            return Long.toString((long) value);
+        }
+        BigDecimal shortest = getShortestDecimal(value);
+        String digits = shortest.unscaledValue().abs().toString();
+        int k = digits.length();
+        // The value is 0.digits * 10^n
+        int n = k - shortest.scale();
+        StringBuilder formatted = new StringBuilder(k + 8);
+        if (value < 0) {
+            formatted.append('-');
+        }
+        if (k <= n && n <= 21) {
+            formatted.append(digits);
+            for (int i = k; i < n; i++) {
+                formatted.append('0');
+            }
+        } else if (0 < n && n <= 21) {
+            formatted.append(digits, 0, n).append('.').append(digits, n, k);
+        } else if (-6 < n && n <= 0) {
+            formatted.append("0.");
+            for (int i = n; i < 0; i++) {
+                formatted.append('0');
+            }
+            formatted.append(digits);
+        } else {
+            formatted.append(digits.charAt(0));
+            if (k > 1) {
+                formatted.append('.').append(digits, 1, k);
+            }
+            formatted.append('e').append(n - 1 > 0 ? "+" : "-").append(Math.abs(n - 1));
+        }
+        return formatted.toString();
+    }
+
+    private static BigDecimal getShortestDecimal(double value) {
+        BigDecimal exact = new BigDecimal(value);
+        // 17 significant digits are always enough to read back the same double
+        for (int precision = 1; precision < 17; precision++) {
+            BigDecimal rounded = exact.round(new MathContext(precision, RoundingMode.HALF_EVEN));
+            if (rounded.doubleValue() == value) {
+                return rounded.stripTrailingZeros();
+            }
+        }
+        return exact.round(new MathContext(17, RoundingMode.HALF_EVEN)).stripTrailingZeros();
+    }
+
+    void writeAscii(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            out.write(buffer, 0, position);
+            position = 0;
+            if (bytes.length > buffer.length) {
+                out.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    void flush() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+        out.flush();
+    }
+
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+
+}
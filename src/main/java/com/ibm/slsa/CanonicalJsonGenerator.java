@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A {@link JsonGenerator} that writes the canonical form described by {@link CanonicalJson} as the JSON is generated, so that
+ * the canonical form of a large document can be written without building the document in memory.
+ * <p>
+ * Object members can't be reordered once they are written, so the caller has to write the members of every object in sorted
+ * order, as {@link CanonicalJson} orders them. Members written out of order, or twice, fail with a
+ * {@link JsonGenerationException} rather than silently producing JSON that isn't canonical. Values written with
+ * {@link #write(JsonValue)} or {@link #write(String, JsonValue)} are already complete, so their members are sorted here.
+ */
+public final class CanonicalJsonGenerator implements JsonGenerator {
+
+    private final CanonicalJson writer;
+    private final Deque<Scope> scopes = new ArrayDeque<>();
+    /**
+     * Whether the name of an object member has been written and its value is expected next.
+     */
+    private boolean named = false;
+    private boolean complete = false;
+
+    CanonicalJsonGenerator(OutputStream out) {
+        this.writer = new CanonicalJson(out);
+    }
+
+    /**
+     * Writes the map as a JSON object with its members in sorted order, so that maps whose keys aren't known in advance, such as
+     * digest sets, can be written to a {@link CanonicalJsonGenerator} as well as to any other generator.
+     */
+    public static void writeSorted(Map<String, String> members, JsonGenerator generator) {
+        String[] names = members.keySet().toArray(new String[members.size()]);
+        Arrays.sort(names);
+        generator.writeStartObject();
+        for (String name : names) {
+            generator.write(name, members.get(name));
+        }
+        generator.writeEnd();
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        beforeValue();
+        writeByte('{');
+        scopes.push(new Scope(true));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        return writeKey(name).writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        Scope scope = scopes.peek();
+        if (scope == null || !scope.object || named) {
+            throw new JsonGenerationException("A name can only be written for a member of an object, before its value.");
+        }
+        if (scope.lastName != null) {
+            // String.compareTo orders by UTF-16 code units, as RFC 8785 requires
+            if (name.compareTo(scope.lastName) <= 0) {
+                throw new JsonGenerationException("The member \"" + name + "\" was written after the member \"" + scope.lastName
+                        + "\", but canonical JSON requires the members of an object to be written once each, in sorted order.");
+            }
+            writeByte(',');
+        }
+        try {
+            writer.writeString(name);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        writeByte(':');
+        scope.lastName = name;
+        named = true;
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        beforeValue();
+        writeByte('[');
+        scopes.push(new Scope(false));
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        return writeKey(name).writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        return writeKey(name).write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        return writeKey(name).writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        Scope scope = scopes.peek();
+        if (scope == null || named) {
+            throw new JsonGenerationException("There is no object or array to end.");
+        }
+        scopes.pop();
+        writeByte(scope.object ? '}' : ']');
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        beforeValue();
+        try {
+            writer.writeValue(value);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        beforeValue();
+        try {
+            writer.writeString(value);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a value that is already in canonical form, such as one returned by {@link CanonicalJson#toBytes(JsonValue)}, as is.
+     * The bytes are not checked, so they must hold exactly one canonical JSON value.
+     */
+    public CanonicalJsonGenerator writeFragment(byte[] value) {
+        beforeValue();
+        try {
+            writer.writeBytes(value);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        return writeNumber(value.doubleValue());
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        return writeNumber(value.doubleValue());
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        return writeNumber(value);
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        return writeNumber(value);
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        return writeNumber(value);
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        return write(value ? JsonValue.TRUE : JsonValue.FALSE);
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        return write(JsonValue.NULL);
+    }
+
+    /**
+     * Flushes the JSON written so far to the stream, without closing it.
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        if (!complete) {
+            throw new JsonGenerationException("The JSON was closed before it was complete.");
+        }
+    }
+
+    private JsonGenerator writeNumber(double value) {
+        beforeValue();
+        try {
+            writer.writeAscii(CanonicalJson.formatNumber(value));
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+        afterValue();
+        return this;
+    }
+
+    private void beforeValue() {
+        if (complete) {
+            throw new JsonGenerationException("The JSON value is already complete.");
+        }
+        Scope scope = scopes.peek();
+        if (scope == null) {
+            return;
+        }
+        if (scope.object) {
+            if (!named) {
+                throw new JsonGenerationException("A member of an object needs a name before its value.");
+            }
+            named = false;
+        } else {
+            if (scope.hasValues) {
+                writeByte(',');
+            }
+            scope.hasValues = true;
+        }
+    }
+
+    private void afterValue() {
+        if (scopes.isEmpty()) {
+            complete = true;
+        }
+    }
+
+    private void writeByte(int b) {
+        try {
+            writer.writeByte(b);
+        } catch (IOException e) {
+            throw new JsonException(e.getMessage(), e);
+        }
+    }
+
+    private static final class Scope {
+
+        private final boolean object;
+        private String lastName;
+        private boolean hasValues;
+
+        private Scope(boolean object) {
+            this.object = object;
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import java.io.OutputStream;
+import java.util.Collections;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+
+/**
+ * Shared factories for the JSON built and written while generating provenance. Each of the static {@code Json.create*} methods
+ * looks up a {@link JsonProvider} through the {@code ServiceLoader} on every call, which is costly when it happens for every
+ * object in a Statement. The provider is looked up once here instead, and the factories it creates are thread-safe.
+ */
+public final class JsonFactories {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+    private static final JsonBuilderFactory BUILDER_FACTORY = PROVIDER.createBuilderFactory(Collections.emptyMap());
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = PROVIDER.createGeneratorFactory(Collections.emptyMap());
+
+    private JsonFactories() {
+    }
+
+    public static JsonProvider getProvider() {
+        return PROVIDER;
+    }
+
+    public static JsonBuilderFactory getBuilderFactory() {
+        return BUILDER_FACTORY;
+    }
+
+    public static JsonGeneratorFactory getGeneratorFactory() {
+        return GENERATOR_FACTORY;
+    }
+
+    public static JsonObjectBuilder createObjectBuilder() {
+        return BUILDER_FACTORY.createObjectBuilder();
+    }
+
+    public static JsonObjectBuilder createObjectBuilder(JsonObject object) {
+        return BUILDER_FACTORY.createObjectBuilder(object);
+    }
+
+    public static JsonArrayBuilder createArrayBuilder() {
+        return BUILDER_FACTORY.createArrayBuilder();
+    }
+
+    /**
+     * Creates a generator that writes UTF-8 encoded JSON to the given stream.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) {
+        return GENERATOR_FACTORY.createGenerator(out);
+    }
+
+}
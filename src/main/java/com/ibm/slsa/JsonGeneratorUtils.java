@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Streaming counterparts of the {@code Utils.addIfNonNullAndNotEmpty} methods used when the SLSA model classes build their JSON
+ * in memory, so that both serialization paths produce the same output.
+ */
+class JsonGeneratorUtils {
+
+    private JsonGeneratorUtils() {
+    }
+
+    static void writeIfNonNullAndNotEmpty(String value, String key, JsonGenerator generator) {
+        if (value != null && !value.isEmpty()) {
+            generator.write(key, value);
+        }
+    }
+
+    static void writeIfNonNullAndNotEmpty(JsonObject value, String key, JsonGenerator generator) {
+        if (value != null && !value.isEmpty()) {
+            generator.write(key, value);
+        }
+    }
+
+    static void writeIfNonNullAndNotEmpty(JsonArray value, String key, JsonGenerator generator) {
+        if (value != null && !value.isEmpty()) {
+            generator.write(key, value);
+        }
+    }
+
+    static void writeIfNonNullAndNotEmpty(JsonWritable value, String key, JsonGenerator generator) {
+        if (value != null && !value.isEmpty()) {
+            generator.writeKey(key);
+            value.writeJson(generator);
+        }
+    }
+
+    static void writeIfNonNullAndNotEmpty(Map<String, String> value, String key, JsonGenerator generator) {
+        if (value != null && !value.isEmpty()) {
+            generator.writeKey(key);
+            CanonicalJsonGenerator.writeSorted(value, generator);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A JSON value that can either be built in memory or written directly to a {@link JsonGenerator}. Large members of the
+ * provenance, such as the resolved dependencies, implement it so that streaming the provenance never builds them in memory.
+ */
+public interface JsonWritable {
+
+    boolean isEmpty();
+
+    JsonValue toJson();
+
+    /**
+     * Writes the same JSON value as {@link #toJson()} to the given generator, as an array element or after a key. The members
+     * of every object are written in sorted order, so that the value can also be written to a {@link CanonicalJsonGenerator}.
+     */
+    void writeJson(JsonGenerator generator);
+
+    static JsonWritable of(JsonArray value) {
+        return new JsonWritable() {
+            @Override
+            public boolean isEmpty() {
+                return value.isEmpty();
+            }
+
+            @Override
+            public JsonValue toJson() {
+                return value;
+            }
+
+            @Override
+            public void writeJson(JsonGenerator generator) {
+                generator.write(value);
+            }
+        };
+    }
+
+    static JsonWritable of(JsonObject value) {
+        return new JsonWritable() {
+            @Override
+            public boolean isEmpty() {
+                return value.isEmpty();
+            }
+
+            @Override
+            public JsonValue toJson() {
+                return value;
+            }
+
+            @Override
+            public void writeJson(JsonGenerator generator) {
+                generator.write(value);
+            }
+        };
+    }
+
+}
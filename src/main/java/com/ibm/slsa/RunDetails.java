@@ -17,10 +17,10 @@
 package com.ibm.slsa;
 
 import com.ibm.intoto.attestation.utils.Utils;
-import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Details specific to this particular execution of the build.
@@ -58,7 +58,7 @@ public class RunDetails {
     }
 
     public JsonObject toJson() {
-        JsonObjectBuilder resultBuilder = Json.createObjectBuilder();
+        JsonObjectBuilder resultBuilder = JsonFactories.createObjectBuilder();
         Utils.addIfNonNullAndNotEmpty(builder.toJson(), KEY_BUILDER, resultBuilder);
         if (metadata != null) {
             Utils.addIfNonNullAndNotEmpty(metadata.toJson(), KEY_METADATA, resultBuilder);
@@ -67,6 +67,21 @@ public class RunDetails {
         return resultBuilder.build();
     }
 
+    /**
+     * Writes the same JSON object as {@link #toJson()} directly to the given generator, without first building it in memory.
+     */
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.writeKey(KEY_BUILDER);
+        builder.writeJson(generator);
+        JsonGeneratorUtils.writeIfNonNullAndNotEmpty(byproducts, KEY_BYPRODUCTS, generator);
+        if (metadata != null && !metadata.isEmpty()) {
+            generator.writeKey(KEY_METADATA);
+            metadata.writeJson(generator);
+        }
+        generator.writeEnd();
+    }
+
     public static class Builder {
 
         private com.ibm.slsa.Builder builder = null;
@@ -17,9 +17,9 @@
 package com.ibm.slsa;
 
 import com.ibm.intoto.attestation.Predicate;
-import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Predicate type specifically for SLSA provenance.
@@ -55,7 +55,7 @@ public class SlsaPredicate extends Predicate {
 
     @Override
     public JsonObject getPredicateParameters() {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         if (buildDefinition != null) {
             builder.add(KEY_BUILD_DEFINITION, buildDefinition.toJson());
         }
@@ -65,4 +65,21 @@ public class SlsaPredicate extends Predicate {
         return builder.build();
     }
 
+    /**
+     * Writes the same JSON object as {@link #getPredicateParameters()} directly to the given generator, without first building it
+     * in memory.
+     */
+    public void writePredicateParameters(JsonGenerator generator) {
+        generator.writeStartObject();
+        if (buildDefinition != null) {
+            generator.writeKey(KEY_BUILD_DEFINITION);
+            buildDefinition.writeJson(generator);
+        }
+        if (runDetails != null) {
+            generator.writeKey(KEY_RUN_DETAILS);
+            runDetails.writeJson(generator);
+        }
+        generator.writeEnd();
+    }
+
 }
@@ -0,0 +1,485 @@
+/*
+ * Copyright 2023, 2024 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Component;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectDependenciesResolver;
+
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
+import com.ibm.slsa.maven.plugin.exceptions.SigningException;
+import com.ibm.slsa.maven.plugin.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.metrics.ReactorMetrics;
+import com.ibm.slsa.maven.plugin.signing.DsseSigner;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+import com.ibm.slsa.maven.plugin.utils.file.AttestationBundleWriter;
+import com.ibm.slsa.maven.plugin.utils.file.ProvenanceFileWriter;
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Parameters and behavior shared by all of the goals that generate provenance.
+ */
+public abstract class AbstractProvenanceMojo extends AbstractMojo {
+
+    public static final String BUILD_TYPE_DEFAULT = "https://github.com/WASdev/slsa-maven-plugin/tree/main/v1.0";
+
+    public static final String PROVENANCE_FILE_DEFAULT_OUTPUT_PATH = "target/slsa";
+
+    public static final String METRICS_FILE_SUFFIX = "_metrics";
+    public static final String REACTOR_METRICS_FILE_DEFAULT_NAME = "slsa_reactor_metrics";
+    public static final String ENVELOPE_FILE_SUFFIX = ".dsse.json";
+    public static final String ATTESTATION_BUNDLE_FILE_DEFAULT_NAME = "slsa_attestations.jsonl";
+
+    /**
+     * The digest cache directories that have already been evicted during each build.
+     */
+    private static final SessionScopedValues<Set<File>> EVICTED_DIGEST_CACHES = new SessionScopedValues<>(ConcurrentHashMap::newKeySet);
+
+    /**
+     * The Maven project executing this plugin.
+     */
+    @Parameter(defaultValue = "${project}", required = true, readonly = true)
+    protected MavenProject project;
+
+    /**
+     * The Maven session executing this plugin.
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    protected MavenSession mavenSession;
+
+    /**
+     * Collects the dependency graph of the project when {@code recordDependencyGraph} is enabled.
+     */
+    @Component
+    protected ProjectDependenciesResolver dependenciesResolver;
+
+    /**
+     * URI indicating the transitive closure of the trusted build platform. This is intended to be the sole determiner of the SLSA
+     * Build level. The {@code builder.id} URI SHOULD resolve to documentation explaining:
+     * <ul>
+     * <li>The scope of what this ID represents.
+     * <li>The claimed SLSA Build level.
+     * <li>The accuracy and completeness guarantees of the fields in the provenance.
+     * <li>Any fields that are generated by the tenant-controlled build process and not verified by the trusted control plane,
+     * except for the subject.
+     * <li>The interpretation of any extension fields.
+     * </ul>
+     */
+    @Parameter(property = "builderId", required = true)
+    protected String builderId;
+
+    /**
+     * Identifies the template for how to perform the build and interpret the parameters and dependencies.
+     * <p>
+     * The URI SHOULD resolve to a human-readable specification that includes: overall description of the build type; schema for
+     * {@code externalParameters} and {@code internalParameters}; unambiguous instructions for how to initiate the build given
+     * this {@code BuildDefinition}, and a complete example. Example:
+     * https://slsa-framework.github.io/github-actions-buildtypes/workflow/v1.
+     */
+    @Parameter(property = "buildType", defaultValue = BUILD_TYPE_DEFAULT)
+    protected String buildType;
+
+    /**
+     * The directory path to which the provenance file is written.
+     */
+    @Parameter(property = "provenanceFilePath", defaultValue = PROVENANCE_FILE_DEFAULT_OUTPUT_PATH)
+    protected String provenanceFilePath;
+
+    /**
+     * The algorithms used to calculate the digests of the subject artifacts. All of the algorithms are calculated from a single
+     * read of each file. Supported values are {@code sha1}, {@code sha224}, {@code sha256}, {@code sha384}, and {@code sha512}.
+     */
+    @Parameter(property = "digestAlgorithms", defaultValue = "sha256")
+    protected List<String> digestAlgorithms;
+
+    /**
+     * Whether to cache the digests of files on disk so that files that haven't changed since a previous build are not hashed
+     * again.
+     */
+    @Parameter(property = "digestCache", defaultValue = "false")
+    protected boolean useDigestCache;
+
+    /**
+     * The directory in which digests are cached. The directory can be shared by multiple projects and builds.
+     */
+    @Parameter(property = "digestCacheDirectory", defaultValue = "${project.build.directory}/slsa/.cache")
+    protected File digestCacheDirectory;
+
+    /**
+     * The maximum number of files whose digests are kept in the digest cache. The least recently used entries are removed once the
+     * cache grows beyond this size. Removing entries looks at every entry in the cache, so it is done once per build for each
+     * cache directory, by the first module to finish; the cache can hold more entries until the next build.
+     */
+    @Parameter(property = "digestCacheMaxEntries", defaultValue = "10000")
+    protected int digestCacheMaxEntries;
+
+    /**
+     * Whether to record every artifact resolved for the project, including transitive dependencies, along with the digests of
+     * their files in the resolved dependencies of the provenance. By default, only the declared dependencies are recorded, without
+     * digests.
+     */
+    @Parameter(property = "digestDependencies", defaultValue = "false")
+    protected boolean digestDependencies;
+
+    /**
+     * The maximum number of threads used to calculate the digests of the resolved dependencies. Values less than 1 use the number
+     * of available processors.
+     */
+    @Parameter(property = "digestThreads", defaultValue = "0")
+    protected int digestThreads;
+
+    /**
+     * Whether to take the digests of dependency artifacts in the local repository from the checksum files Maven wrote next to them
+     * (for example {@code foo-1.0.jar.sha1}) instead of hashing the artifacts. Artifacts without checksum files for all of the
+     * digest algorithms, or whose checksum files are older than the artifact, are still hashed. Only applies when
+     * {@code digestDependencies} is enabled.
+     * <p>
+     * The checksum files are recorded as they are, without reading the artifacts, unless {@code checksumVerificationRate} selects
+     * some of them for verification, so this is off by default. Maven only downloads {@code .sha1} and {@code .md5} checksum files
+     * by default, so with the default {@code sha256} digest algorithm most artifacts are hashed anyway.
+     */
+    @Parameter(property = "repositoryChecksums", defaultValue = "false")
+    protected boolean useRepositoryChecksums;
+
+    /**
+     * The fraction of dependency artifacts, between 0 and 1, whose repository checksum files are verified against the contents of
+     * the artifacts. The build fails if a checksum file does not match.
+     */
+    @Parameter(property = "checksumVerificationRate", defaultValue = "0")
+    protected double checksumVerificationRate;
+
+    /**
+     * Whether to record the full graph of resolved dependencies, including transitive dependencies, in the
+     * {@code internalParameters} of the build definition. Each unique artifact is recorded once, and the edges between them refer
+     * to the artifacts by index.
+     */
+    @Parameter(property = "recordDependencyGraph", defaultValue = "false")
+    protected boolean recordDependencyGraph;
+
+    /**
+     * Whether to record in the {@code externalParameters} of the build definition if the Git working tree had uncommitted changes
+     * to tracked files, along with a digest of the changed paths. Only files whose stat data differs from the Git index are
+     * hashed, on at most {@code digestThreads} threads. Untracked files aren't considered.
+     */
+    @Parameter(property = "recordWorkingTreeStatus", defaultValue = "false")
+    protected boolean recordWorkingTreeStatus;
+
+    /**
+     * Whether to record every Git submodule checked out in the working tree, including the submodules of submodules, in the
+     * resolved dependencies of the provenance. Each submodule is named after its path in the working tree.
+     */
+    @Parameter(property = "recordSubmodules", defaultValue = "false")
+    protected boolean recordSubmodules;
+
+    /**
+     * The digest algorithms for which checksum files (for example {@code slsa_provenance.json.sha256}) are written alongside the
+     * provenance file. The checksums are calculated while the provenance file is written. Supported values are the same as for
+     * {@code digestAlgorithms}. By default, no checksum files are written.
+     */
+    @Parameter(property = "provenanceChecksumAlgorithms")
+    protected List<String> provenanceChecksumAlgorithms;
+
+    /**
+     * Whether to write the provenance file in the canonical form described by RFC 8785, with sorted keys and normalized numbers
+     * and strings, so that the same provenance always produces the same bytes and therefore the same digest. The canonical form
+     * is streamed like the default one, since the members are generated in sorted order. When disabled, the JSON provider's own
+     * formatting of strings and numbers is used instead.
+     */
+    @Parameter(property = "canonicalJson", defaultValue = "true")
+    protected boolean canonicalJson;
+
+    /**
+     * Whether to force the provenance file to disk before it is moved into place.
+     */
+    @Parameter(property = "syncProvenanceFile", defaultValue = "false")
+    protected boolean syncProvenanceFile;
+
+    /**
+     * Whether to write the time spent in each phase of generating the provenance file to {@code <name>_metrics.json} and
+     * {@code <name>_metrics.prom} next to the provenance file, and the times of every module built so far to
+     * {@code slsa_reactor_metrics.json} and {@code slsa_reactor_metrics.prom} in the {@code reactorMetricsDirectory}. The
+     * {@code .prom} files use the Prometheus text format.
+     */
+    @Parameter(property = "metrics", defaultValue = "false")
+    protected boolean writeMetrics;
+
+    /**
+     * Whether to log a single line with the time spent in each phase of generating the provenance file.
+     */
+    @Parameter(property = "metricsSummary", defaultValue = "false")
+    protected boolean metricsSummary;
+
+    /**
+     * The directory to which the metrics of the whole reactor are written when {@code metrics} is enabled.
+     */
+    @Parameter(property = "reactorMetricsDirectory", defaultValue = "${session.executionRootDirectory}/" + PROVENANCE_FILE_DEFAULT_OUTPUT_PATH)
+    protected File reactorMetricsDirectory;
+
+    /**
+     * The file holding the private key with which to sign the provenance. When set, the provenance file is also written as a
+     * signed DSSE envelope to {@code <name>.dsse.json}. The file can be a PKCS#12 key store or a PEM file holding an unencrypted
+     * PKCS#8 private key. ECDSA keys on the P-256 curve and, on Java 15 or later, Ed25519 keys are supported.
+     */
+    @Parameter(property = "signingKeyFile")
+    protected File signingKeyFile;
+
+    /**
+     * The alias of the signing key in a PKCS#12 key store. Only needed if the key store holds more than one key.
+     */
+    @Parameter(property = "signingKeyAlias")
+    protected String signingKeyAlias;
+
+    /**
+     * The password of the PKCS#12 key store and of the signing key in it.
+     */
+    @Parameter(property = "signingKeyPassword")
+    protected String signingKeyPassword;
+
+    /**
+     * The key ID recorded with the signature in the DSSE envelope. By default, no key ID is recorded.
+     */
+    @Parameter(property = "signingKeyId")
+    protected String signingKeyId;
+
+    /**
+     * Whether to also append the provenance of every module, one per line, to a single JSON Lines file for the whole reactor. When
+     * the provenance is signed, its DSSE envelope is appended instead. The bundle is replaced by each build.
+     */
+    @Parameter(property = "attestationBundle", defaultValue = "false")
+    protected boolean attestationBundle;
+
+    /**
+     * The file to which the attestation bundle is written when {@code attestationBundle} is enabled.
+     */
+    @Parameter(property = "attestationBundleFile", defaultValue = "${session.executionRootDirectory}/" + PROVENANCE_FILE_DEFAULT_OUTPUT_PATH + "/" + ATTESTATION_BUNDLE_FILE_DEFAULT_NAME)
+    protected File attestationBundleFile;
+
+    /**
+     * Whether to compress the attestation bundle with gzip, in which case {@code .gz} is appended to its file name.
+     */
+    @Parameter(property = "attestationBundleGzip", defaultValue = "false")
+    protected boolean attestationBundleGzip;
+
+    private DigestCache digestCache = null;
+
+    /**
+     * Applies the optional configuration of this goal to the given generator.
+     */
+    protected ProvenanceGenerator configure(ProvenanceGenerator generator) throws MojoExecutionException {
+        for (String algorithm : digestAlgorithms) {
+            if (!DigestUtils.isSupportedAlgorithm(algorithm)) {
+                throw new MojoExecutionException("Unsupported digest algorithm \"" + algorithm + "\" configured for the digestAlgorithms parameter.");
+            }
+        }
+        if (provenanceChecksumAlgorithms != null) {
+            for (String algorithm : provenanceChecksumAlgorithms) {
+                if (!DigestUtils.isSupportedAlgorithm(algorithm)) {
+                    throw new MojoExecutionException("Unsupported digest algorithm \"" + algorithm + "\" configured for the provenanceChecksumAlgorithms parameter.");
+                }
+            }
+        }
+        if (checksumVerificationRate < 0 || checksumVerificationRate > 1) {
+            throw new MojoExecutionException("The checksumVerificationRate parameter must be between 0 and 1 but was " + checksumVerificationRate + ".");
+        }
+        generator.digestAlgorithms(digestAlgorithms);
+        generator.digestDependencies(digestDependencies);
+        generator.digestThreads(digestThreads);
+        generator.useRepositoryChecksums(useRepositoryChecksums);
+        generator.recordDependencyGraph(recordDependencyGraph);
+        generator.dependenciesResolver(dependenciesResolver);
+        generator.recordWorkingTreeStatus(recordWorkingTreeStatus);
+        generator.recordSubmodules(recordSubmodules);
+        generator.checksumVerificationRate(checksumVerificationRate);
+        if (useDigestCache) {
+            digestCache = new DigestCache(digestCacheDirectory, digestCacheMaxEntries);
+            generator.digestCache(digestCache);
+        }
+        return generator;
+    }
+
+    protected void createProvenanceFile(String provenanceFileName, ProvenanceGenerator generator) throws MojoExecutionException {
+        File newFile = getProvenanceFile(provenanceFileName);
+        File envelopeFile = getProvenanceFile(getEnvelopeFileName(provenanceFileName));
+        try {
+            DsseSigner signer = getSigner();
+            ProvenanceFileWriter fileWriter = new ProvenanceFileWriter(newFile).sync(syncProvenanceFile).checksumAlgorithms(provenanceChecksumAlgorithms);
+            long[] generationDuration = new long[1];
+            byte[][] payload = new byte[1][];
+            long start = System.nanoTime();
+            fileWriter.write(out -> {
+                long generationStart = System.nanoTime();
+                if (signer == null && !attestationBundle) {
+                    writeProvenanceFileData(generator, out);
+                } else {
+                    // Keep the bytes that are written so that they can be signed and bundled exactly as they are, without reading them back
+                    ByteArrayOutputStream payloadOut = new ByteArrayOutputStream(ProvenanceFileWriter.BUFFER_SIZE);
+                    writeProvenanceFileData(generator, payloadOut);
+                    payload[0] = payloadOut.toByteArray();
+                    out.write(payload[0]);
+                }
+                generationDuration[0] = System.nanoTime() - generationStart;
+            });
+            // The generator records its own phases, so only the time spent outside of it is attributed to writing the file
+            generator.getMetrics().add(ProvenanceMetrics.PHASE_WRITE_FILE, System.nanoTime() - start - generationDuration[0]);
+            byte[] attestation = payload[0];
+            if (signer == null) {
+                // Never leave behind an envelope that no longer matches the provenance file
+                Files.deleteIfExists(envelopeFile.toPath());
+            } else {
+                long signStart = System.nanoTime();
+                byte[] envelope = CanonicalJson.toBytes(signer.createEnvelope(DsseSigner.PAYLOAD_TYPE_IN_TOTO, payload[0]));
+                new ProvenanceFileWriter(envelopeFile).sync(syncProvenanceFile).write(out -> out.write(envelope));
+                generator.getMetrics().add(ProvenanceMetrics.PHASE_SIGN, System.nanoTime() - signStart);
+                attestation = envelope;
+            }
+            if (attestationBundle) {
+                long bundleStart = System.nanoTime();
+                getAttestationBundleWriter().write(attestation);
+                generator.getMetrics().add(ProvenanceMetrics.PHASE_ATTESTATION_BUNDLE, System.nanoTime() - bundleStart);
+            }
+        } catch (Exception e) {
+            throw new MojoExecutionException("Failed creating the provenance file or writing the provenance file contents: " + e.getMessage(), e);
+        } finally {
+            closeDigestCache();
+        }
+        reportMetrics(provenanceFileName, generator.getMetrics());
+    }
+
+    private void writeProvenanceFileData(ProvenanceGenerator generator, OutputStream out) throws ProvenanceGenerationException {
+        if (canonicalJson) {
+            generator.writeCanonicalProvenanceFileData(out);
+        } else {
+            // Stream the Statement straight to the file so that the whole document is never held in memory as a string
+            try (JsonGenerator jsonGenerator = JsonFactories.createGenerator(out)) {
+                generator.writeProvenanceFileData(jsonGenerator);
+            }
+        }
+    }
+
+    /**
+     * Appends the provenance that was previously written for the given provenance file name to the attestation bundle, for goals
+     * that don't regenerate it.
+     */
+    protected void appendToAttestationBundle(String provenanceFileName) throws MojoExecutionException {
+        if (!attestationBundle) {
+            return;
+        }
+        File attestationFile = getProvenanceFile(signingKeyFile == null ? provenanceFileName : getEnvelopeFileName(provenanceFileName));
+        try {
+            getAttestationBundleWriter().write(Files.readAllBytes(attestationFile.toPath()));
+        } catch (IOException | RuntimeException e) {
+            throw new MojoExecutionException("Failed appending " + attestationFile.getAbsolutePath() + " to the attestation bundle: " + e.getMessage(), e);
+        }
+    }
+
+    private AttestationBundleWriter getAttestationBundleWriter() {
+        File bundleFile = attestationBundleGzip && !attestationBundleFile.getName().endsWith(AttestationBundleWriter.GZIP_FILE_SUFFIX)
+                ? new File(attestationBundleFile.getPath() + AttestationBundleWriter.GZIP_FILE_SUFFIX)
+                : attestationBundleFile;
+        return AttestationBundleWriter.forSession(mavenSession, bundleFile, attestationBundleGzip);
+    }
+
+    private DsseSigner getSigner() throws SigningException {
+        if (signingKeyFile == null) {
+            return null;
+        }
+        char[] password = signingKeyPassword == null ? null : signingKeyPassword.toCharArray();
+        return DsseSigner.forSession(mavenSession, signingKeyFile, signingKeyAlias, password, signingKeyId);
+    }
+
+    /**
+     * Records in the metrics that no provenance file is generated for the given reason. Nothing is written to the module's
+     * directory, so a module without anything to attest is left untouched.
+     */
+    protected void skipProvenanceFile(String provenanceFileName, String reason, ProvenanceMetrics metrics) throws MojoExecutionException {
+        getLog().info("Skipping provenance generation because " + reason + ".");
+        metrics.skip(reason);
+        reportMetrics(provenanceFileName, metrics);
+    }
+
+    private void reportMetrics(String provenanceFileName, ProvenanceMetrics metrics) throws MojoExecutionException {
+        String module = getMetricsModuleName();
+        if (metricsSummary) {
+            getLog().info("Provenance generation times for " + module + ": " + metrics.getSummary());
+        }
+        if (!writeMetrics) {
+            return;
+        }
+        ReactorMetrics reactorMetrics = ReactorMetrics.forSession(mavenSession);
+        reactorMetrics.record(module, metrics);
+        try {
+            if (!metrics.isSkipped()) {
+                ReactorMetrics.writeModule(new File(provenanceFilePath), getMetricsFileBaseName(provenanceFileName), module, metrics);
+            }
+            reactorMetrics.write(reactorMetricsDirectory, REACTOR_METRICS_FILE_DEFAULT_NAME);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed writing the provenance generation metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the name under which the metrics of this goal are recorded in the reactor metrics.
+     */
+    protected String getMetricsModuleName() {
+        return project.getGroupId() + ":" + project.getArtifactId();
+    }
+
+    static String getMetricsFileBaseName(String provenanceFileName) {
+        return getBaseName(provenanceFileName) + METRICS_FILE_SUFFIX;
+    }
+
+    static String getEnvelopeFileName(String provenanceFileName) {
+        return getBaseName(provenanceFileName) + ENVELOPE_FILE_SUFFIX;
+    }
+
+    private static String getBaseName(String provenanceFileName) {
+        return provenanceFileName.endsWith(ReactorMetrics.JSON_FILE_SUFFIX)
+                ? provenanceFileName.substring(0, provenanceFileName.length() - ReactorMetrics.JSON_FILE_SUFFIX.length())
+                : provenanceFileName;
+    }
+
+    protected File getProvenanceFile(String provenanceFileName) {
+        return new File(provenanceFilePath + File.separator + provenanceFileName);
+    }
+
+    private void closeDigestCache() {
+        if (digestCache != null) {
+            getLog().info(digestCache.getStatistics());
+            if (EVICTED_DIGEST_CACHES.get(mavenSession).add(digestCacheDirectory.getAbsoluteFile())) {
+                digestCache.evict();
+            }
+        }
+    }
+
+}
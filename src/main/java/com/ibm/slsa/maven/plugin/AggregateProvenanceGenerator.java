@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectDependenciesResolver;
+
+import com.ibm.slsa.maven.plugin.utils.concurrent.ParallelTasks;
+import com.ibm.slsa.maven.plugin.utils.maven.DependencyDescriptors;
+import com.ibm.slsa.maven.plugin.utils.maven.DependencyGraph;
+import com.ibm.slsa.maven.plugin.utils.maven.MavenUtils;
+
+/**
+ * Generates a single provenance Statement for an entire reactor build. Every artifact built by the modules in the Maven session
+ * is included as its own entry in the subject of the Statement, and the SLSA predicate is built only once and shared by all of
+ * them. Subject names are prefixed with the group and artifact ID of the module, since modules often build files with the same
+ * name. The resolved dependencies are the union of the dependencies declared by each module.
+ */
+public class AggregateProvenanceGenerator extends ProvenanceGenerator {
+
+    private static final String POM_PACKAGING = "pom";
+
+    private List<MavenProject> projects;
+    private MavenSession mavenSession;
+    private Log log;
+
+    public AggregateProvenanceGenerator(String builderId, String buildType, MavenProject project, MavenSession mavenSession, Log log) {
+        super(builderId, buildType, project, mavenSession, log);
+        List<MavenProject> reactorProjects = mavenSession.getProjects();
+        this.projects = (reactorProjects == null || reactorProjects.isEmpty()) ? Collections.singletonList(project) : reactorProjects;
+        this.mavenSession = mavenSession;
+        this.log = log;
+    }
+
+    @Override
+    List<SubjectDescriptor> buildSubjectDescriptors() throws IOException {
+        Map<String, File> subjectFiles = getBuiltArtifactFiles();
+        if (subjectFiles.isEmpty()) {
+            throw new IOException("No built artifacts were found for any of the projects in the reactor.");
+        }
+        return buildSubjectDescriptors(subjectFiles);
+    }
+
+    @Override
+    protected void addProjectDependencies(DependencyDescriptors descriptors) throws IOException {
+        // Most modules in a reactor share dependencies, so only record each distinct dependency once
+        DependencyDescriptors dependencies = new DependencyDescriptors();
+        for (MavenProject reactorProject : projects) {
+            addProjectDependencies(new MavenUtils(reactorProject, mavenSession), dependencies);
+        }
+        descriptors.addAll(dependencies.distinct());
+    }
+
+    @Override
+    protected void addDependencyGraph(DependencyGraph dependencyGraph, ProjectDependenciesResolver resolver) throws IOException {
+        for (MavenProject reactorProject : projects) {
+            new MavenUtils(reactorProject, mavenSession).addDependencyGraph(dependencyGraph, resolver);
+        }
+    }
+
+    /**
+     * Returns the built artifact files of every project, keyed by their subject name.
+     */
+    private Map<String, File> getBuiltArtifactFiles() {
+        Map<String, File> files = new LinkedHashMap<>();
+        for (MavenProject reactorProject : projects) {
+            if (!addIfBuilt(reactorProject, reactorProject.getArtifact(), files) && !POM_PACKAGING.equals(reactorProject.getPackaging())) {
+                log.warn("The artifact of project " + reactorProject.getId() + " wasn't found, so it isn't included in the aggregate provenance. Make sure the goal runs after the package phase.");
+            }
+            List<?> attachedArtifacts = reactorProject.getAttachedArtifacts();
+            if (attachedArtifacts != null) {
+                for (Object attachedArtifact : attachedArtifacts) {
+                    addIfBuilt(reactorProject, (Artifact) attachedArtifact, files);
+                }
+            }
+        }
+        return files;
+    }
+
+    private boolean addIfBuilt(MavenProject reactorProject, Artifact artifact, Map<String, File> files) {
+        if (artifact == null) {
+            return false;
+        }
+        File file = artifact.getFile();
+        // Projects that haven't been packaged may still point to their output directory instead of a file
+        if (file == null || !file.isFile()) {
+            return false;
+        }
+        log.info("Found artifact: " + file.getAbsolutePath());
+        files.put(reactorProject.getGroupId() + ":" + reactorProject.getArtifactId() + ":" + file.getName(), file);
+        return true;
+    }
+
+    private List<SubjectDescriptor> buildSubjectDescriptors(Map<String, File> files) throws IOException {
+        return ParallelTasks.map(files.entrySet(), Runtime.getRuntime().availableProcessors(), file -> buildFileSubjectDescriptor(file.getKey(), file.getValue()));
+    }
+
+}
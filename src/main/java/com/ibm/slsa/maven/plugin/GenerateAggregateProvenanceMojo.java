@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.execution.MavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+
+/**
+ * Generates a single provenance file for all of the projects in the reactor. The goal can be configured for every module, but
+ * it only does its work once: when every other project in the reactor has either finished building or run this goal. In a
+ * parallel build that is whichever module reaches the goal last, not necessarily the last one in the reactor build order.
+ * <p>
+ * As an aggregator, the goal can also be run once from the command line after the modules are built, for example with
+ * {@code mvn package <plugin>:generate-aggregate-provenance}, in which case every project has finished by the time it runs. When
+ * the goal is only bound in some of the modules and none of the projects still being built would run it, the build fails
+ * instead of silently leaving out the provenance file.
+ */
+@Mojo(name = "generate-aggregate-provenance", aggregator = true, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
+public class GenerateAggregateProvenanceMojo extends AbstractProvenanceMojo {
+
+    public static final String AGGREGATE_PROVENANCE_FILE_DEFAULT_NAME = "slsa_aggregate_provenance.json";
+
+    private static final SessionScopedValues<ReactorProgress> SESSION_PROGRESS = new SessionScopedValues<>(ReactorProgress::new);
+
+    /**
+     * The name of the aggregate provenance file.
+     */
+    @Parameter(property = "aggregateProvenanceFileName", defaultValue = AGGREGATE_PROVENANCE_FILE_DEFAULT_NAME)
+    private String aggregateProvenanceFileName;
+
+    /**
+     * The execution of this goal, used to find out whether the projects that are still being built also run it.
+     */
+    @Parameter(defaultValue = "${mojoExecution}", required = true, readonly = true)
+    private MojoExecution mojoExecution;
+
+    public void execute() throws MojoExecutionException {
+        List<MavenProject> unfinishedProjects = SESSION_PROGRESS.get(mavenSession).finish(project, mavenSession);
+        if (unfinishedProjects == null) {
+            getLog().debug("Skipping aggregate provenance generation because it was already generated for this build.");
+            return;
+        }
+        if (!unfinishedProjects.isEmpty()) {
+            if (!anyRunsGoal(unfinishedProjects)) {
+                PluginDescriptor plugin = mojoExecution.getMojoDescriptor().getPluginDescriptor();
+                throw new MojoExecutionException("The aggregate provenance can't be generated because none of the projects that are still being built run the "
+                        + mojoExecution.getGoal() + " goal: " + getIds(unfinishedProjects) + ". Configure the goal for every module, for example in the parent pom without"
+                        + " <inherited>false</inherited>, or run it once after the modules are built, for example with mvn package " + plugin.getGroupId() + ":"
+                        + plugin.getArtifactId() + ":" + mojoExecution.getGoal() + ".");
+            }
+            getLog().info("Skipping aggregate provenance generation until the following projects are built: " + getIds(unfinishedProjects));
+            return;
+        }
+        ProvenanceGenerator generator = configure(new AggregateProvenanceGenerator(builderId, buildType, project, mavenSession, getLog()));
+        createProvenanceFile(aggregateProvenanceFileName, generator);
+    }
+
+    @Override
+    protected String getMetricsModuleName() {
+        // Keeps the aggregate provenance separate from the provenance of the last project in the reactor
+        return super.getMetricsModuleName() + ":aggregate";
+    }
+
+    /**
+     * Returns whether any of the given projects has an execution of this goal, and so will generate the provenance if it is the
+     * last to finish.
+     */
+    private boolean anyRunsGoal(List<MavenProject> projects) {
+        String pluginKey = mojoExecution.getMojoDescriptor().getPluginDescriptor().getPluginLookupKey();
+        for (MavenProject reactorProject : projects) {
+            List<?> plugins = reactorProject.getBuildPlugins();
+            if (plugins == null) {
+                continue;
+            }
+            for (Object plugin : plugins) {
+                if (pluginKey.equals(((Plugin) plugin).getKey()) && runsGoal((Plugin) plugin)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean runsGoal(Plugin plugin) {
+        for (Object execution : plugin.getExecutions()) {
+            if (((PluginExecution) execution).getGoals().contains(mojoExecution.getGoal())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> getIds(List<MavenProject> projects) {
+        List<String> ids = new ArrayList<>();
+        for (MavenProject reactorProject : projects) {
+            ids.add(reactorProject.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Tracks which projects of a build have run the goal, so that the provenance is generated exactly once and only after every
+     * project has been packaged, even when modules are built in parallel.
+     */
+    private static class ReactorProgress {
+
+        private final Set<MavenProject> finishedProjects = new HashSet<>();
+        private boolean claimed;
+
+        /**
+         * Records that the goal ran for the given project and returns the projects of the reactor that are still being built.
+         * An empty list means the caller is the last to finish and should generate the provenance; {@code null} means another
+         * project already did. Projects that don't run the goal count as finished once Maven records their build summary.
+         */
+        synchronized List<MavenProject> finish(MavenProject project, MavenSession mavenSession) {
+            if (claimed) {
+                return null;
+            }
+            finishedProjects.add(project);
+            List<MavenProject> unfinishedProjects = new ArrayList<>();
+            List<MavenProject> projects = mavenSession.getProjects();
+            MavenExecutionResult result = mavenSession.getResult();
+            if (projects != null) {
+                for (MavenProject reactorProject : projects) {
+                    if (!finishedProjects.contains(reactorProject) && (result == null || result.getBuildSummary(reactorProject) == null)) {
+                        unfinishedProjects.add(reactorProject);
+                    }
+                }
+            }
+            claimed = unfinishedProjects.isEmpty();
+            return unfinishedProjects;
+        }
+    }
+
+}
@@ -17,100 +17,113 @@
 package com.ibm.slsa.maven.plugin;
 
 import java.io.File;
-import java.io.FileWriter;
-import java.nio.charset.Charset;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.maven.execution.MavenSession;
-import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.project.MavenProject;
+import org.apache.maven.plugins.annotations.ResolutionScope;
 
-import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
-import jakarta.json.JsonObject;
+import com.ibm.slsa.maven.plugin.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+import com.ibm.slsa.maven.plugin.utils.war.WarUtils;
 
 /**
  * This is the Javadoc for the GenerateProvenanceMojo class.
  */
-@Mojo(name = "generate-provenance")
-public class GenerateProvenanceMojo extends AbstractMojo {
+@Mojo(name = "generate-provenance", requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
+public class GenerateProvenanceMojo extends AbstractProvenanceMojo {
 
-    public static final String BUILD_TYPE_DEFAULT = "https://github.com/WASdev/slsa-maven-plugin/tree/main/v1.0";
-
-    public static final String PROVENANCE_FILE_DEFAULT_OUTPUT_PATH = "target/slsa";
     public static final String PROVENANCE_FILE_DEFAULT_NAME = "slsa_provenance.json";
 
     /**
-     * The Maven project executing this plugin.
-     */
-    @Parameter(defaultValue = "${project}", required = true, readonly = true)
-    private MavenProject project;
-
-    /**
-     * The Maven session executing this plugin.
+     * Modules built in parallel can be configured to write the same provenance file, for example when the relative default
+     * {@code provenanceFilePath} is used. Each provenance file and its fingerprint are written by one module at a time so that
+     * the fingerprint always describes the provenance file next to it. The locks are released along with the build.
      */
-    @Parameter(defaultValue = "${session}", required = true, readonly = true)
-    private MavenSession mavenSession;
+    private static final SessionScopedValues<ConcurrentMap<File, Object>> PROVENANCE_FILE_LOCKS = new SessionScopedValues<>(ConcurrentHashMap::new);
 
     /**
-     * URI indicating the transitive closure of the trusted build platform. This is intended to be the sole determiner of the SLSA
-     * Build level. The {@code builder.id} URI SHOULD resolve to documentation explaining:
-     * <ul>
-     * <li>The scope of what this ID represents.
-     * <li>The claimed SLSA Build level.
-     * <li>The accuracy and completeness guarantees of the fields in the provenance.
-     * <li>Any fields that are generated by the tenant-controlled build process and not verified by the trusted control plane,
-     * except for the subject.
-     * <li>The interpretation of any extension fields.
-     * </ul>
+     * The name of the provenance file.
      */
-    @Parameter(property = "builderId", required = true)
-    private String builderId;
+    @Parameter(property = "provenanceFileName", defaultValue = PROVENANCE_FILE_DEFAULT_NAME)
+    private String provenanceFileName;
 
     /**
-     * Identifies the template for how to perform the build and interpret the parameters and dependencies.
-     * <p>
-     * The URI SHOULD resolve to a human-readable specification that includes: overall description of the build type; schema for
-     * {@code externalParameters} and {@code internalParameters}; unambiguous instructions for how to initiate the build given
-     * this {@code BuildDefinition}, and a complete example. Example:
-     * https://slsa-framework.github.io/github-actions-buildtypes/workflow/v1.
+     * Whether to skip generating the provenance file when none of the inputs that affect its contents have changed since it was
+     * last generated. The fingerprint is stored next to the provenance file. Checking it doesn't hash the built artifact or the
+     * dependency artifacts, whose size and modification time are used instead, and doesn't read any Git objects, but it still
+     * reads the Git HEAD, the remote URL, and, with {@code recordSubmodules}, the HEAD of every submodule. With
+     * {@code recordWorkingTreeStatus}, it also scans the whole working tree as {@code git status} does, which hashes the files
+     * whose stat data differs from the index.
      */
-    @Parameter(property = "buildType", defaultValue = BUILD_TYPE_DEFAULT)
-    private String buildType;
+    @Parameter(property = "skipUnchanged", defaultValue = "false")
+    private boolean skipUnchanged;
 
     /**
-     * The directory path to which the provenance file is written.
+     * The descriptor of this plugin, used to regenerate the provenance when a different version of the plugin is used.
      */
-    @Parameter(property = "provenanceFilePath", defaultValue = PROVENANCE_FILE_DEFAULT_OUTPUT_PATH)
-    private String provenanceFilePath;
-
-    /**
-     * The name of the provenance file.
-     */
-    @Parameter(property = "provenanceFileName", defaultValue = PROVENANCE_FILE_DEFAULT_NAME)
-    private String provenanceFileName;
+    @Parameter(defaultValue = "${plugin}", required = true, readonly = true)
+    private PluginDescriptor pluginDescriptor;
 
     public void execute() throws MojoExecutionException {
-        createProvenanceFile();
+        // Decide from the project model alone, before any Git, dependency, or file system work, whether there is a subject
+        long checkStart = System.nanoTime();
+        boolean buildsWar = new WarUtils(project, getLog()).buildsWar();
+        if (!buildsWar) {
+            ProvenanceMetrics metrics = new ProvenanceMetrics();
+            metrics.add(ProvenanceMetrics.PHASE_CHECK_SUBJECT, System.nanoTime() - checkStart);
+            skipProvenanceFile(provenanceFileName, project.getId() + " with " + project.getPackaging() + " packaging does not build a .war file", metrics);
+            return;
+        }
+        ProvenanceGenerator generator = configure(new ProvenanceGenerator(builderId, buildType, project, mavenSession, getLog()));
+        File provenanceFile = getProvenanceFile(provenanceFileName);
+        synchronized (PROVENANCE_FILE_LOCKS.get(mavenSession).computeIfAbsent(provenanceFile.getAbsoluteFile(), f -> new Object())) {
+            generateProvenanceFile(generator, provenanceFile);
+        }
     }
 
-    private void createProvenanceFile() throws MojoExecutionException {
-        new File(provenanceFilePath).mkdirs();
-        File newFile = new File(provenanceFilePath + File.separator + provenanceFileName);
-        try {
-            FileWriter writer = new FileWriter(newFile);
-            newFile.createNewFile();
-            writer.write(getFileContents().toString());
-            writer.close();
-        } catch (Exception e) {
-            throw new MojoExecutionException("Failed creating the provenance file or writing the provenance file contents: " + e.getMessage(), e);
+    private void generateProvenanceFile(ProvenanceGenerator generator, File provenanceFile) throws MojoExecutionException {
+        File fingerprintFile = InputFingerprint.getFingerprintFile(provenanceFile);
+        InputFingerprint fingerprint = skipUnchanged ? getInputFingerprint(generator) : null;
+        boolean envelopeUpToDate = signingKeyFile == null || getProvenanceFile(getEnvelopeFileName(provenanceFileName)).isFile();
+        if (fingerprint != null && provenanceFile.isFile() && envelopeUpToDate && fingerprint.matches(fingerprintFile)) {
+            getLog().info("Skipping provenance generation because the inputs have not changed since " + provenanceFile.getAbsolutePath() + " was generated.");
+            appendToAttestationBundle(provenanceFileName);
+            return;
+        }
+        // A fingerprint left behind by an earlier build must not outlive the provenance file it describes
+        fingerprintFile.delete();
+        createProvenanceFile(provenanceFileName, generator);
+        if (fingerprint != null) {
+            try {
+                fingerprint.write(fingerprintFile);
+            } catch (IOException e) {
+                getLog().warn("Failed to write the provenance input fingerprint to " + fingerprintFile.getAbsolutePath() + ": " + e.getMessage());
+            }
         }
     }
 
-    private JsonObject getFileContents() throws ProvenanceGenerationException {
-        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, getLog());
-        return generator.generateProvenanceFileData();
+    private InputFingerprint getInputFingerprint(ProvenanceGenerator generator) {
+        try {
+            InputFingerprint fingerprint = generator.getInputFingerprint();
+            fingerprint.add("pluginVersion", pluginDescriptor == null ? null : pluginDescriptor.getVersion());
+            fingerprint.add("canonicalJson", canonicalJson);
+            fingerprint.add("provenanceChecksumAlgorithms", provenanceChecksumAlgorithms);
+            fingerprint.add("syncProvenanceFile", syncProvenanceFile);
+            fingerprint.add("signingKey", signingKeyFile == null ? null : DigestCache.FileIdentity.of(signingKeyFile));
+            fingerprint.add("signingKeyAlias", signingKeyAlias);
+            fingerprint.add("signingKeyId", signingKeyId);
+            return fingerprint;
+        } catch (Exception e) {
+            // Without a fingerprint, the provenance is always generated
+            getLog().debug("Could not fingerprint the provenance inputs: " + e.getMessage());
+            return null;
+        }
     }
 
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+
+/**
+ * A digest of every input that affects the contents of a provenance file. If the fingerprint of the current inputs matches the
+ * fingerprint stored when the provenance file was last written, the provenance file is still up to date and doesn't need to be
+ * generated again.
+ */
+public class InputFingerprint {
+
+    public static final String FILE_SUFFIX = ".fingerprint";
+
+    private final StringBuilder inputs = new StringBuilder();
+
+    public InputFingerprint add(String name, Object value) {
+        String valueString = String.valueOf(value);
+        // Length prefixes keep inputs from running into each other, e.g. ("a", "bc") versus ("ab", "c")
+        inputs.append(name.length()).append(':').append(name).append('=');
+        inputs.append(valueString.length()).append(':').append(valueString).append('\n');
+        return this;
+    }
+
+    public String getValue() {
+        try {
+            MessageDigest digest = DigestUtils.createMessageDigest(DigestUtils.ALG_SHA256);
+            return DigestUtils.toHex(digest.digest(inputs.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns whether the given file holds this fingerprint.
+     */
+    public boolean matches(File fingerprintFile) {
+        if (!fingerprintFile.isFile()) {
+            return false;
+        }
+        try {
+            String storedValue = new String(Files.readAllBytes(fingerprintFile.toPath()), StandardCharsets.UTF_8).trim();
+            return getValue().equals(storedValue);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public void write(File fingerprintFile) throws IOException {
+        Files.write(fingerprintFile.toPath(), getValue().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static File getFingerprintFile(File provenanceFile) {
+        return new File(provenanceFile.getParentFile(), provenanceFile.getName() + FILE_SUFFIX);
+    }
+
+}
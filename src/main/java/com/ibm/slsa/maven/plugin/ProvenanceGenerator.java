@@ -16,25 +16,35 @@
 */
 package com.ibm.slsa.maven.plugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectDependenciesResolver;
 
 import com.ibm.intoto.attestation.Statement;
 import com.ibm.intoto.attestation.Subject;
-import com.ibm.intoto.attestation.custom.resource.descriptors.file.WarResourceDescriptor;
-import com.ibm.intoto.attestation.custom.resource.descriptors.file.exceptions.WarFileException;
 import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
-import com.ibm.intoto.attestation.exceptions.DigestCalculationException;
 import com.ibm.intoto.attestation.exceptions.StatementValueNullException;
 import com.ibm.intoto.attestation.utils.Utils;
 import com.ibm.slsa.BuildDefinition;
 import com.ibm.slsa.BuildMetadata;
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.CanonicalJsonGenerator;
 import com.ibm.slsa.Builder.BuilderBuilder;
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.JsonWritable;
 import com.ibm.slsa.RunDetails;
 import com.ibm.slsa.SlsaPredicate;
 import com.ibm.slsa.maven.plugin.exceptions.BuildDefinitionGenerationException;
@@ -42,16 +52,25 @@ import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
 import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
 import com.ibm.slsa.maven.plugin.exceptions.SlsaPredicateGenerationException;
 import com.ibm.slsa.maven.plugin.exceptions.StatementException;
+import com.ibm.slsa.maven.plugin.jfr.EventScope;
+import com.ibm.slsa.maven.plugin.jfr.ProvenanceEvents;
+import com.ibm.slsa.maven.plugin.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.concurrent.ParallelTasks;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
 import com.ibm.slsa.maven.plugin.utils.git.GitUtils;
+import com.ibm.slsa.maven.plugin.utils.git.WorkingTreeStatus;
+import com.ibm.slsa.maven.plugin.utils.maven.DependencyDescriptors;
+import com.ibm.slsa.maven.plugin.utils.maven.DependencyGraph;
 import com.ibm.slsa.maven.plugin.utils.maven.MavenUtils;
+import com.ibm.slsa.maven.plugin.utils.maven.RepositoryChecksums;
 import com.ibm.slsa.maven.plugin.utils.war.WarUtils;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.WarException;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.WarNotFoundException;
-import jakarta.json.Json;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.stream.JsonGenerator;
 
 /**
  * Generates provenance in the form of an in-toto attestation Statement (see https://github.com/in-toto/attestation/blob/main/spec/v1/statement.md).
@@ -64,29 +83,191 @@ public class ProvenanceGenerator {
     public static final String KEY_EXT_PARAMS_REPOSITORY = "repository";
     public static final String KEY_EXT_PARAMS_REF = "ref";
     public static final String KEY_EXT_PARAMS_USER_PROPERTIES = "userProperties";
+    public static final String KEY_EXT_PARAMS_WORKING_TREE = "workingTree";
+    public static final String KEY_INT_PARAMS_DEPENDENCY_GRAPH = "dependencyGraph";
 
     private String builderId;
     private String buildType;
     private MavenSession mavenSession;
     private GitUtils gitUtils;
     private WarUtils warUtils;
+    private DigestUtils digestUtils;
+    private List<String> digestAlgorithms = null;
+    private DigestCache digestCache = null;
+    private boolean digestDependencies = false;
+    private int digestThreads = Runtime.getRuntime().availableProcessors();
+    private boolean useRepositoryChecksums = false;
+    private boolean recordDependencyGraph = false;
+    private ProjectDependenciesResolver dependenciesResolver = null;
+    private boolean recordWorkingTreeStatus = false;
+    private boolean recordSubmodules = false;
+    private WorkingTreeStatus workingTreeStatus = null;
+    private double checksumVerificationRate = 0;
     private MavenUtils mavenUtils;
+    private final ProvenanceMetrics metrics = new ProvenanceMetrics();
 
     public ProvenanceGenerator(String builderId, String buildType, MavenProject project, MavenSession mavenSession, Log log) {
         this.builderId = builderId;
         this.buildType = buildType;
         this.mavenSession = mavenSession;
-        this.gitUtils = new GitUtils();
+        // Each module may live in a different repository, such as a submodule or linked worktree, so search from its directory
+        this.gitUtils = new GitUtils(mavenSession, project.getBasedir());
         this.warUtils = new WarUtils(project, log);
+        this.digestUtils = new DigestUtils();
         this.mavenUtils = new MavenUtils(project, mavenSession);
     }
 
+    /**
+     * Sets the algorithms used to calculate the digests of the subject artifacts. Defaults to {@code sha256}.
+     */
+    public ProvenanceGenerator digestAlgorithms(List<String> digestAlgorithms) {
+        this.digestAlgorithms = digestAlgorithms;
+        this.digestUtils = new DigestUtils(digestAlgorithms, digestCache);
+        return this;
+    }
+
+    /**
+     * Sets the cache used to avoid hashing files that haven't changed since a previous build.
+     */
+    public ProvenanceGenerator digestCache(DigestCache digestCache) {
+        this.digestCache = digestCache;
+        this.digestUtils = new DigestUtils(digestAlgorithms, digestCache);
+        return this;
+    }
+
+    /**
+     * Sets whether the resolved dependencies include every artifact resolved for the project, along with the digests of their
+     * files, instead of only the declared dependencies. Defaults to {@code false}.
+     */
+    public ProvenanceGenerator digestDependencies(boolean digestDependencies) {
+        this.digestDependencies = digestDependencies;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of threads used to calculate the digests of the resolved dependencies. Defaults to the number of
+     * available processors.
+     */
+    public ProvenanceGenerator digestThreads(int digestThreads) {
+        this.digestThreads = digestThreads > 0 ? digestThreads : Runtime.getRuntime().availableProcessors();
+        return this;
+    }
+
+    /**
+     * Sets whether the digests of dependency artifacts in the local repository are taken from the checksum files Maven wrote next
+     * to them, when those are available, instead of hashing the artifacts. Defaults to {@code false}.
+     */
+    public ProvenanceGenerator useRepositoryChecksums(boolean useRepositoryChecksums) {
+        this.useRepositoryChecksums = useRepositoryChecksums;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of dependency artifacts, between 0 and 1, whose repository checksum files are verified against the
+     * contents of the artifacts. Defaults to {@code 0}.
+     */
+    public ProvenanceGenerator checksumVerificationRate(double checksumVerificationRate) {
+        this.checksumVerificationRate = checksumVerificationRate;
+        return this;
+    }
+
+    /**
+     * Sets whether the full graph of resolved dependencies, including transitive dependencies, is recorded in the internal
+     * parameters of the build definition. Defaults to {@code false}.
+     */
+    public ProvenanceGenerator recordDependencyGraph(boolean recordDependencyGraph) {
+        this.recordDependencyGraph = recordDependencyGraph;
+        return this;
+    }
+
+    /**
+     * Sets the resolver used to collect the dependency graph that is recorded when {@link #recordDependencyGraph(boolean)} is
+     * enabled. Without a resolver, the graph is rebuilt from the dependency trails of the resolved artifacts.
+     */
+    public ProvenanceGenerator dependenciesResolver(ProjectDependenciesResolver dependenciesResolver) {
+        this.dependenciesResolver = dependenciesResolver;
+        return this;
+    }
+
+    /**
+     * Sets whether the external parameters of the build definition record if the working tree had uncommitted changes to tracked
+     * files, along with a digest of the changed paths. Defaults to {@code false}.
+     */
+    public ProvenanceGenerator recordWorkingTreeStatus(boolean recordWorkingTreeStatus) {
+        this.recordWorkingTreeStatus = recordWorkingTreeStatus;
+        return this;
+    }
+
+    /**
+     * Sets whether every Git submodule checked out in the working tree, including the submodules of submodules, is recorded in
+     * the resolved dependencies along with the repository being built. Defaults to {@code false}.
+     */
+    public ProvenanceGenerator recordSubmodules(boolean recordSubmodules) {
+        this.recordSubmodules = recordSubmodules;
+        return this;
+    }
+
+    /**
+     * Builds a fingerprint of every input that affects the generated provenance. The subject and the dependency artifacts are
+     * identified by their path, size, and timestamps rather than hashed, and the Git repository by the state of its HEAD and its
+     * remote URL, along with the HEADs of its submodules when they are recorded. No Git objects are read, but recording the
+     * working tree status scans the whole working tree, hashing the files whose stat data differs from the index.
+     */
+    public InputFingerprint getInputFingerprint() throws WarException, GitRepositoryException, IOException {
+        InputFingerprint fingerprint = new InputFingerprint();
+        fingerprint.add("builderId", builderId);
+        fingerprint.add("buildType", buildType);
+        fingerprint.add("digestAlgorithms", digestUtils.getAlgorithms());
+        fingerprint.add("subject", DigestCache.FileIdentity.of(warUtils.getBuiltWar()));
+        fingerprint.add("gitHead", gitUtils.getHeadState());
+        fingerprint.add("gitRemoteOriginUrl", gitUtils.getRemoteOriginUrl());
+        if (recordSubmodules) {
+            // Reading the submodules only reads their HEADs, so it is as cheap as the state of the repository's own HEAD
+            JsonArrayBuilder submodules = JsonFactories.createArrayBuilder();
+            getSubmoduleResourceDescriptors().forEach(submodule -> submodules.add(submodule.toJson()));
+            fingerprint.add("submodules", submodules.build());
+        }
+        fingerprint.add("userProperties", new TreeMap<>(mavenUtils.getMavenSessionUserProperties()));
+        DependencyDescriptors dependencies = new DependencyDescriptors();
+        mavenUtils.addMavenProjectDependencies(dependencies);
+        fingerprint.add("dependencies", dependencies.toJson());
+        fingerprint.add("digestDependencies", digestDependencies);
+        fingerprint.add("useRepositoryChecksums", useRepositoryChecksums);
+        fingerprint.add("checksumVerificationRate", checksumVerificationRate);
+        if (digestDependencies) {
+            List<DigestCache.FileIdentity> dependencyFiles = new ArrayList<>();
+            for (File file : mavenUtils.getResolvedArtifactFiles()) {
+                dependencyFiles.add(DigestCache.FileIdentity.of(file));
+            }
+            fingerprint.add("dependencyFiles", dependencyFiles);
+        }
+        if (recordDependencyGraph) {
+            // The dependency trails come from the same resolution as the graph, without collecting the graph again
+            fingerprint.add("dependencyGraph", buildDependencyGraph(null).toJson());
+        }
+        if (recordWorkingTreeStatus) {
+            fingerprint.add("workingTree", getWorkingTreeStatus().toJson());
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the time spent in each phase of the provenance generated so far by this generator.
+     */
+    public ProvenanceMetrics getMetrics() {
+        return metrics;
+    }
+
     public JsonObject generateProvenanceFileData() throws ProvenanceGenerationException {
         try {
-            Subject subject = buildSubject();
-            SlsaPredicate predicate = buildSlsaPredicate();
-            Statement statement = buildStatement(subject, predicate);
-            return statement.toJson();
+            StatementParts parts = buildStatementParts();
+            long start = System.nanoTime();
+            JsonObject provenanceFileData;
+            try (EventScope event = ProvenanceEvents.serialization(false)) {
+                provenanceFileData = buildStatement(buildSubject(parts.subject), parts.predicate).toJson();
+            }
+            metrics.add(ProvenanceMetrics.PHASE_SERIALIZATION, System.nanoTime() - start);
+            return provenanceFileData;
         } catch (WarNotFoundException e) {
             // Allow for now
             return JsonObject.EMPTY_JSON_OBJECT;
@@ -95,18 +276,111 @@ public class ProvenanceGenerator {
         }
     }
 
-    private Subject buildSubject() throws DigestCalculationException, WarException, WarFileException {
-        // Subject reflects only a single .war file located in the Maven project's build directory
-        WarResourceDescriptor warResourceDescriptor = new WarResourceDescriptor(warUtils.getBuiltWar());
+    /**
+     * Writes the same provenance Statement as {@link #generateProvenanceFileData()} directly to the given generator, without
+     * first building the whole Statement in memory.
+     */
+    public void writeProvenanceFileData(JsonGenerator generator) throws ProvenanceGenerationException {
+        try {
+            StatementParts parts = buildStatementParts();
+            long start = System.nanoTime();
+            try (EventScope event = ProvenanceEvents.serialization(true)) {
+                writeStatement(parts.subject, parts.predicate, generator);
+            }
+            metrics.add(ProvenanceMetrics.PHASE_SERIALIZATION, System.nanoTime() - start);
+        } catch (WarNotFoundException e) {
+            // Allow for now
+            generator.writeStartObject().writeEnd();
+        } catch (Exception e) {
+            throw new ProvenanceGenerationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the same provenance Statement as {@link #generateProvenanceFileData()} to the given stream in the canonical form
+     * described by RFC 8785, so that the same Statement always produces the same bytes. Like
+     * {@link #writeProvenanceFileData(JsonGenerator)}, the Statement is streamed rather than built in memory, since every member
+     * is written in sorted order. The stream is not closed.
+     */
+    public void writeCanonicalProvenanceFileData(OutputStream out) throws ProvenanceGenerationException {
+        try {
+            StatementParts parts = buildStatementParts();
+            long start = System.nanoTime();
+            try (EventScope event = ProvenanceEvents.serialization(true)) {
+                CanonicalJsonGenerator generator = CanonicalJson.createGenerator(out);
+                writeStatement(parts.subject, parts.predicate, generator);
+                generator.flush();
+            }
+            metrics.add(ProvenanceMetrics.PHASE_SERIALIZATION, System.nanoTime() - start);
+        } catch (WarNotFoundException e) {
+            // Allow for now
+            writeCanonicalEmptyObject(out);
+        } catch (Exception e) {
+            throw new ProvenanceGenerationException(e.getMessage(), e);
+        }
+    }
+
+    private void writeCanonicalEmptyObject(OutputStream out) throws ProvenanceGenerationException {
+        try {
+            CanonicalJson.write(JsonObject.EMPTY_JSON_OBJECT, out);
+        } catch (IOException e) {
+            throw new ProvenanceGenerationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Builds the subject and the predicate of the Statement. The subject's digests, the Git lookup, and the enumeration of the
+     * project's dependencies don't depend on each other and are bound by different resources, so they run concurrently and are
+     * joined before the Statement is built. Failures are reported in the same order, and with the same exception types, as when
+     * the phases ran one after another: first the subject, then the Git repository, then the dependencies.
+     */
+    private StatementParts buildStatementParts() throws Exception {
+        Future<List<SubjectDescriptor>> subject = ParallelTasks.submit(this::timeBuildSubjectDescriptors);
+        try {
+            SlsaPredicate predicate;
+            try {
+                predicate = buildSlsaPredicate();
+            } catch (Exception e) {
+                ParallelTasks.getResult(subject, Exception.class);
+                throw e;
+            }
+            return new StatementParts(ParallelTasks.getResult(subject, Exception.class), predicate);
+        } finally {
+            subject.cancel(true);
+        }
+    }
+
+    private List<SubjectDescriptor> timeBuildSubjectDescriptors() throws WarException, IOException {
+        long start = System.nanoTime();
+        List<SubjectDescriptor> subject = buildSubjectDescriptors();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, System.nanoTime() - start);
+        return subject;
+    }
+
+    private Subject buildSubject(List<SubjectDescriptor> subjectDescriptors) {
         Subject.Builder subjectBuilder = new Subject.Builder();
-        subjectBuilder.resourceDescriptor(warResourceDescriptor);
+        for (SubjectDescriptor subjectDescriptor : subjectDescriptors) {
+            subjectBuilder.resourceDescriptor(subjectDescriptor.toResourceDescriptor());
+        }
         return subjectBuilder.build();
     }
 
+    List<SubjectDescriptor> buildSubjectDescriptors() throws WarException, IOException {
+        // Subject reflects only a single .war file located in the Maven project's build directory
+        File war = warUtils.getBuiltWar();
+        return Collections.singletonList(buildFileSubjectDescriptor(war.getName(), war));
+    }
+
+    SubjectDescriptor buildFileSubjectDescriptor(String name, File file) throws IOException {
+        return new SubjectDescriptor(name, digestUtils.getDigest(file));
+    }
+
     private SlsaPredicate buildSlsaPredicate() throws SlsaPredicateGenerationException {
         try {
             BuildDefinition buildDefinition = buildBuildDefinition();
+            long start = System.nanoTime();
             RunDetails runDetails = buildRunDetails();
+            metrics.add(ProvenanceMetrics.PHASE_RUN_DETAILS, System.nanoTime() - start);
             return new SlsaPredicate(buildDefinition, runDetails);
         } catch (BuildDefinitionGenerationException e) {
             throw new SlsaPredicateGenerationException(e.getMessage(), e);
@@ -114,32 +388,111 @@ public class ProvenanceGenerator {
     }
 
     private BuildDefinition buildBuildDefinition() throws BuildDefinitionGenerationException {
+        Future<DependencyDescriptors> projectDependencies = ParallelTasks.submit(this::buildProjectDependencies);
         try {
+            long start = System.nanoTime();
             GitRepositoryResourceDescriptor gitRepositoryResourceDescriptor = gitUtils.getGitRepositoryResourceDescriptor();
-            JsonObject externalParameters = populateExternalParameters(gitRepositoryResourceDescriptor);
+            List<GitRepositoryResourceDescriptor> submodules = getSubmoduleResourceDescriptors();
+            long workingTreeStart = System.nanoTime();
+            WorkingTreeStatus workingTree = recordWorkingTreeStatus ? getWorkingTreeStatus() : null;
+            long workingTreeDuration = System.nanoTime() - workingTreeStart;
+            if (workingTree != null) {
+                metrics.add(ProvenanceMetrics.PHASE_WORKING_TREE_STATUS, workingTreeDuration);
+            }
+            JsonObject externalParameters = populateExternalParameters(gitRepositoryResourceDescriptor, workingTree);
 
             BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(buildType, externalParameters);
-            JsonArray resolvedDependencies = populateResolvedDependencies(gitRepositoryResourceDescriptor);
+            long waitStart = System.nanoTime();
+            DependencyDescriptors resolvedDependencies = populateResolvedDependencies(gitRepositoryResourceDescriptor, submodules, ParallelTasks.getResult(projectDependencies, IOException.class));
+            long waitDuration = System.nanoTime() - waitStart;
             buildDefinitionBuilder.resolvedDependencies(resolvedDependencies);
-            return buildDefinitionBuilder.build();
-        } catch (GitRepositoryException e) {
+            if (recordDependencyGraph) {
+                buildDefinitionBuilder.internalParameters(populateInternalParameters());
+            }
+            BuildDefinition buildDefinition = buildDefinitionBuilder.build();
+            // Time spent waiting for the dependencies is already part of populateResolvedDependencies
+            metrics.add(ProvenanceMetrics.PHASE_BUILD_DEFINITION, System.nanoTime() - start - waitDuration - workingTreeDuration);
+            return buildDefinition;
+        } catch (GitRepositoryException | IOException e) {
             throw new BuildDefinitionGenerationException(e.getMessage(), e);
+        } finally {
+            projectDependencies.cancel(true);
         }
     }
 
-    private JsonObject populateExternalParameters(GitRepositoryResourceDescriptor repoResourceDescriptor) {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+    private JsonObject populateExternalParameters(GitRepositoryResourceDescriptor repoResourceDescriptor, WorkingTreeStatus workingTree) throws IOException {
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         builder.add(KEY_EXT_PARAMS_REPOSITORY, repoResourceDescriptor.getGitRepoUrl());
         builder.add(KEY_EXT_PARAMS_REF, repoResourceDescriptor.getRef());
         Utils.addIfNonNullAndNotEmpty(mavenUtils.getMavenSessionUserProperties(), KEY_EXT_PARAMS_USER_PROPERTIES, builder);
+        if (workingTree != null) {
+            builder.add(KEY_EXT_PARAMS_WORKING_TREE, workingTree.toJson());
+        }
         return builder.build();
     }
 
-    private JsonArray populateResolvedDependencies(GitRepositoryResourceDescriptor repoResourceDescriptor) {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
-        builder.add(repoResourceDescriptor.toJson());
-        mavenUtils.addMavenProjectDependencies(builder);
-        return builder.build();
+    /**
+     * Checks the working tree once per generator, so that the fingerprint and the provenance describe the same state.
+     */
+    private synchronized WorkingTreeStatus getWorkingTreeStatus() throws GitRepositoryException {
+        if (workingTreeStatus == null) {
+            workingTreeStatus = gitUtils.getWorkingTreeStatus(digestThreads);
+        }
+        return workingTreeStatus;
+    }
+
+    private JsonWritable populateInternalParameters() throws IOException {
+        return new InternalParameters(buildDependencyGraph(dependenciesResolver));
+    }
+
+    private DependencyGraph buildDependencyGraph(ProjectDependenciesResolver resolver) throws IOException {
+        DependencyGraph dependencyGraph = new DependencyGraph();
+        addDependencyGraph(dependencyGraph, resolver);
+        return dependencyGraph;
+    }
+
+    protected void addDependencyGraph(DependencyGraph dependencyGraph, ProjectDependenciesResolver resolver) throws IOException {
+        mavenUtils.addDependencyGraph(dependencyGraph, resolver);
+    }
+
+    private List<GitRepositoryResourceDescriptor> getSubmoduleResourceDescriptors() throws GitRepositoryException {
+        return recordSubmodules ? gitUtils.getSubmoduleResourceDescriptors(digestThreads) : Collections.emptyList();
+    }
+
+    private DependencyDescriptors populateResolvedDependencies(GitRepositoryResourceDescriptor repoResourceDescriptor, List<GitRepositoryResourceDescriptor> submodules, DependencyDescriptors projectDependencies) {
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+        descriptors.add(repoResourceDescriptor.toJson(), null);
+        for (GitRepositoryResourceDescriptor submodule : submodules) {
+            descriptors.add(submodule.toJson(), null);
+        }
+        return descriptors.addAll(projectDependencies);
+    }
+
+    private DependencyDescriptors buildProjectDependencies() throws IOException {
+        long start = System.nanoTime();
+        DependencyDescriptors projectDependencies = new DependencyDescriptors();
+        addProjectDependencies(projectDependencies);
+        metrics.add(ProvenanceMetrics.PHASE_RESOLVED_DEPENDENCIES, System.nanoTime() - start);
+        return projectDependencies;
+    }
+
+    protected void addProjectDependencies(DependencyDescriptors descriptors) throws IOException {
+        addProjectDependencies(mavenUtils, descriptors);
+    }
+
+    protected void addProjectDependencies(MavenUtils projectMavenUtils, DependencyDescriptors descriptors) throws IOException {
+        if (digestDependencies) {
+            projectMavenUtils.addResolvedMavenProjectDependencies(descriptors, digestUtils, getRepositoryChecksums(), digestThreads);
+        } else {
+            projectMavenUtils.addMavenProjectDependencies(descriptors);
+        }
+    }
+
+    private RepositoryChecksums getRepositoryChecksums() throws IOException {
+        if (!useRepositoryChecksums || mavenSession.getLocalRepository() == null || mavenSession.getLocalRepository().getBasedir() == null) {
+            return null;
+        }
+        return new RepositoryChecksums(new File(mavenSession.getLocalRepository().getBasedir()), digestUtils.getAlgorithms(), checksumVerificationRate);
     }
 
     private RunDetails buildRunDetails() {
@@ -167,4 +520,70 @@ public class ProvenanceGenerator {
         }
     }
 
+    /**
+     * Writes the Statement with the members of every object in sorted order, so that the same code streams both the default and
+     * the canonical form.
+     */
+    private void writeStatement(List<SubjectDescriptor> subject, SlsaPredicate predicate, JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.write(Statement.KEY_TYPE, Statement.TYPE_IN_TOTO_STATEMENT);
+        generator.writeKey(Statement.KEY_PREDICATE);
+        predicate.writePredicateParameters(generator);
+        generator.write(Statement.KEY_PREDICATE_TYPE, SlsaPredicate.PREDICATE_TYPE_SLSA_PROVENANCE_V1);
+        generator.writeStartArray(Statement.KEY_SUBJECT);
+        for (SubjectDescriptor subjectDescriptor : subject) {
+            subjectDescriptor.writeJson(generator);
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    /**
+     * The internal parameters of the build definition, which only hold the dependency graph. The graph is written directly to
+     * the generator when the provenance is streamed.
+     */
+    private static final class InternalParameters implements JsonWritable {
+
+        private final DependencyGraph dependencyGraph;
+
+        private InternalParameters(DependencyGraph dependencyGraph) {
+            this.dependencyGraph = dependencyGraph;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return dependencyGraph.isEmpty();
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
+            if (!dependencyGraph.isEmpty()) {
+                builder.add(KEY_INT_PARAMS_DEPENDENCY_GRAPH, dependencyGraph.toJson());
+            }
+            return builder.build();
+        }
+
+        @Override
+        public void writeJson(JsonGenerator generator) {
+            generator.writeStartObject();
+            if (!dependencyGraph.isEmpty()) {
+                generator.writeKey(KEY_INT_PARAMS_DEPENDENCY_GRAPH);
+                dependencyGraph.writeJson(generator);
+            }
+            generator.writeEnd();
+        }
+    }
+
+    private static final class StatementParts {
+
+        private final List<SubjectDescriptor> subject;
+        private final SlsaPredicate predicate;
+
+        private StatementParts(List<SubjectDescriptor> subject, SlsaPredicate predicate) {
+            this.subject = subject;
+            this.predicate = predicate;
+        }
+    }
+
 }
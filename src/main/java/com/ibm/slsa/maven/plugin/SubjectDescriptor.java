@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.CanonicalJsonGenerator;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * The name and digest of a subject artifact. The streaming writer writes them directly to the {@link JsonGenerator}, so a
+ * {@link ResourceDescriptor} and its JSON are only built when the Statement is built in memory.
+ */
+class SubjectDescriptor {
+
+    private final String name;
+    private final DigestSet digest;
+
+    SubjectDescriptor(String name, DigestSet digest) {
+        this.name = name;
+        this.digest = digest;
+    }
+
+    ResourceDescriptor toResourceDescriptor() {
+        ResourceDescriptor.Builder builder = new ResourceDescriptor.Builder();
+        builder.name(name);
+        builder.digest(digest);
+        return builder.build();
+    }
+
+    /**
+     * Writes the same object as {@code toResourceDescriptor().toJson()}.
+     */
+    void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        if (digest != null && !digest.isEmpty()) {
+            generator.writeKey(ResourceDescriptor.KEY_DIGEST);
+            CanonicalJsonGenerator.writeSorted(digest, generator);
+        }
+        generator.write(ResourceDescriptor.KEY_NAME, name);
+        generator.writeEnd();
+    }
+
+}
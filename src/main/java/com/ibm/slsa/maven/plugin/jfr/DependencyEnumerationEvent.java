@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(DependencyEnumerationEvent.NAME)
+@Label("Dependency Enumeration")
+@Category(ProvenanceEvents.CATEGORY)
+@Description("Listing the dependencies of a project for the resolved dependencies of the provenance")
+class DependencyEnumerationEvent extends Event implements EventScope {
+
+    static final String NAME = "com.ibm.slsa.DependencyEnumeration";
+
+    @Label("Project")
+    String project;
+
+    @Label("Resolved")
+    @Description("Whether every resolved artifact was listed, instead of only the declared dependencies")
+    boolean resolved;
+
+    DependencyEnumerationEvent(String project, boolean resolved) {
+        this.project = project;
+        this.resolved = resolved;
+        begin();
+    }
+
+    @Override
+    public void close() {
+        commit();
+    }
+
+}
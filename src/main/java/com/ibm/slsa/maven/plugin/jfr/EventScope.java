@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+/**
+ * A span of work that is reported as a Java Flight Recorder event when it is closed. Intended for use with try-with-resources.
+ */
+public interface EventScope extends AutoCloseable {
+
+    /**
+     * Used when JFR is not available in the running JVM.
+     */
+    EventScope NONE = () -> {
+    };
+
+    @Override
+    void close();
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+import java.io.File;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(FileDigestEvent.NAME)
+@Label("File Digest")
+@Category(ProvenanceEvents.CATEGORY)
+@Description("Reading and hashing a file")
+class FileDigestEvent extends Event implements EventScope {
+
+    static final String NAME = "com.ibm.slsa.FileDigest";
+
+    @Label("Path")
+    String path;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    FileDigestEvent(String path) {
+        this.path = path;
+        begin();
+    }
+
+    @Override
+    public void close() {
+        end();
+        // Only stat the file when the event is actually recorded
+        if (shouldCommit()) {
+            bytes = new File(path).length();
+            commit();
+        }
+    }
+
+}
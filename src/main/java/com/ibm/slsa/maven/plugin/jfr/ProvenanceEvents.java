@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+import java.io.File;
+
+/**
+ * Creates the Java Flight Recorder events emitted while generating provenance. The events can be used to correlate time spent
+ * by the plugin with garbage collection and I/O in a recording of the build, for example one started with
+ * {@code MAVEN_OPTS=-XX:StartFlightRecording}.
+ * <p>
+ * The {@code jdk.jfr} API is only touched when it is present in the running JVM, so the plugin still runs on Java 8 builds
+ * without JFR. When JFR is present but not recording, an event is a single short-lived object that is never committed.
+ */
+public final class ProvenanceEvents {
+
+    public static final String CATEGORY = "SLSA Maven Plugin";
+
+    private static final boolean AVAILABLE = isJfrAvailable();
+
+    private ProvenanceEvents() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Finding and reading the Git repository that contains the given directory.
+     */
+    public static EventScope gitLookup(File searchDirectory) {
+        return AVAILABLE ? new GitLookupEvent(getPath(searchDirectory)) : EventScope.NONE;
+    }
+
+    /**
+     * Finding the built .war file in the given build directory.
+     */
+    public static EventScope warLookup(File buildDirectory) {
+        return AVAILABLE ? new WarLookupEvent(getPath(buildDirectory)) : EventScope.NONE;
+    }
+
+    /**
+     * Reading and hashing the given file.
+     */
+    public static EventScope fileDigest(File file) {
+        return AVAILABLE ? new FileDigestEvent(getPath(file)) : EventScope.NONE;
+    }
+
+    /**
+     * Enumerating the dependencies of the given project, either as declared or as resolved by Maven.
+     */
+    public static EventScope dependencyEnumeration(String project, boolean resolved) {
+        return AVAILABLE ? new DependencyEnumerationEvent(project, resolved) : EventScope.NONE;
+    }
+
+    /**
+     * Serializing the provenance Statement, either streamed to a file or built in memory.
+     */
+    public static EventScope serialization(boolean streamed) {
+        return AVAILABLE ? new SerializationEvent(streamed) : EventScope.NONE;
+    }
+
+    private static String getPath(File file) {
+        return file == null ? null : file.getAbsolutePath();
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ProvenanceEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(WarLookupEvent.NAME)
+@Label("War Lookup")
+@Category(ProvenanceEvents.CATEGORY)
+@Description("Finding the built .war file that is the subject of the provenance")
+class WarLookupEvent extends Event implements EventScope {
+
+    static final String NAME = "com.ibm.slsa.WarLookup";
+
+    @Label("Build Directory")
+    String buildDirectory;
+
+    WarLookupEvent(String buildDirectory) {
+        this.buildDirectory = buildDirectory;
+        begin();
+    }
+
+    @Override
+    public void close() {
+        commit();
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.slsa.JsonFactories;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Time spent in each phase of generating and writing a provenance file. Each phase excludes the time of the phases nested inside
+ * it, for example {@code buildBuildDefinition} excludes {@code populateResolvedDependencies}, so no time is counted twice. Some
+ * phases run concurrently, so the total can be more than the time that elapsed.
+ */
+public class ProvenanceMetrics {
+
+    public static final String PHASE_BUILD_SUBJECT = "buildSubject";
+    public static final String PHASE_BUILD_DEFINITION = "buildBuildDefinition";
+    public static final String PHASE_RESOLVED_DEPENDENCIES = "populateResolvedDependencies";
+    public static final String PHASE_WORKING_TREE_STATUS = "workingTreeStatus";
+    public static final String PHASE_RUN_DETAILS = "buildRunDetails";
+    public static final String PHASE_SERIALIZATION = "serialization";
+    public static final String PHASE_WRITE_FILE = "writeFile";
+    public static final String PHASE_SIGN = "sign";
+    public static final String PHASE_ATTESTATION_BUNDLE = "appendAttestationBundle";
+    public static final String PHASE_CHECK_SUBJECT = "checkSubject";
+
+    public static final String KEY_PHASES = "phases";
+    public static final String KEY_TOTAL_SECONDS = "totalSeconds";
+    public static final String KEY_SKIPPED = "skipped";
+
+    private final Map<String, Long> durations = new LinkedHashMap<>();
+    private String skipReason = null;
+
+    /**
+     * Adds the given time to the phase. Phases that run more than once accumulate their time.
+     */
+    public synchronized void add(String phase, long durationNanos) {
+        durations.merge(phase, durationNanos, Long::sum);
+    }
+
+    public synchronized void addAll(ProvenanceMetrics metrics) {
+        for (Entry<String, Long> duration : metrics.getDurations().entrySet()) {
+            add(duration.getKey(), duration.getValue());
+        }
+    }
+
+    /**
+     * Records that no provenance was generated, and why.
+     */
+    public synchronized void skip(String reason) {
+        this.skipReason = reason;
+    }
+
+    /**
+     * Returns why no provenance was generated, or {@code null} if it was.
+     */
+    public synchronized String getSkipReason() {
+        return skipReason;
+    }
+
+    public boolean isSkipped() {
+        return getSkipReason() != null;
+    }
+
+    /**
+     * Returns the time spent in each phase, in nanoseconds, in the order the phases were first recorded.
+     */
+    public synchronized Map<String, Long> getDurations() {
+        return new LinkedHashMap<>(durations);
+    }
+
+    public synchronized long getTotal() {
+        long total = 0;
+        for (long duration : durations.values()) {
+            total += duration;
+        }
+        return total;
+    }
+
+    public JsonObject toJson() {
+        JsonObjectBuilder phases = JsonFactories.createObjectBuilder();
+        for (Entry<String, Long> duration : getDurations().entrySet()) {
+            phases.add(duration.getKey(), toSeconds(duration.getValue()));
+        }
+        JsonObjectBuilder json = JsonFactories.createObjectBuilder().add(KEY_PHASES, phases).add(KEY_TOTAL_SECONDS, toSeconds(getTotal()));
+        String reason = getSkipReason();
+        if (reason != null) {
+            json.add(KEY_SKIPPED, reason);
+        }
+        return json.build();
+    }
+
+    /**
+     * Returns a single line listing the time spent in each phase, for example
+     * {@code buildSubject 120 ms, buildBuildDefinition 35 ms, ..., total 170 ms}.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (Entry<String, Long> duration : getDurations().entrySet()) {
+            summary.append(duration.getKey()).append(' ').append(toMillis(duration.getValue())).append(" ms, ");
+        }
+        summary.append("total ").append(toMillis(getTotal())).append(" ms");
+        String reason = getSkipReason();
+        if (reason != null) {
+            summary.append(", skipped because ").append(reason);
+        }
+        return summary.toString();
+    }
+
+    static double toSeconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+}
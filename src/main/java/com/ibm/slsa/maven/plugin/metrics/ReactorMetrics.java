@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.utils.file.ProvenanceFileWriter;
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Collects the {@link ProvenanceMetrics} of every module in a Maven session and writes them as JSON and in the Prometheus text
+ * format (see https://prometheus.io/docs/instrumenting/exposition_formats/), which can be picked up by the node exporter's
+ * textfile collector. The reactor-wide files are rewritten after each module, so they always hold the modules built so far.
+ */
+public class ReactorMetrics {
+
+    public static final String METRIC_PHASE_SECONDS = "slsa_provenance_phase_seconds";
+    public static final String METRIC_REACTOR_PHASE_SECONDS = "slsa_provenance_reactor_phase_seconds";
+    public static final String METRIC_SKIPPED_MODULES = "slsa_provenance_skipped_modules";
+
+    public static final String KEY_MODULE = "module";
+    public static final String KEY_MODULES = "modules";
+    public static final String KEY_TOTAL = "total";
+
+    public static final String JSON_FILE_SUFFIX = ".json";
+    public static final String PROMETHEUS_FILE_SUFFIX = ".prom";
+
+    private static final SessionScopedValues<ReactorMetrics> SESSION_METRICS = new SessionScopedValues<>(ReactorMetrics::new);
+
+    private final Map<String, ProvenanceMetrics> modules = new LinkedHashMap<>();
+
+    public static ReactorMetrics forSession(MavenSession mavenSession) {
+        return SESSION_METRICS.get(mavenSession);
+    }
+
+    public synchronized void record(String module, ProvenanceMetrics metrics) {
+        ProvenanceMetrics moduleMetrics = modules.computeIfAbsent(module, m -> new ProvenanceMetrics());
+        moduleMetrics.addAll(metrics);
+        if (metrics.isSkipped()) {
+            moduleMetrics.skip(metrics.getSkipReason());
+        }
+    }
+
+    /**
+     * Returns the number of modules for which no provenance was generated.
+     */
+    public synchronized int getSkippedModules() {
+        int skipped = 0;
+        for (ProvenanceMetrics metrics : modules.values()) {
+            if (metrics.isSkipped()) {
+                skipped++;
+            }
+        }
+        return skipped;
+    }
+
+    public synchronized ProvenanceMetrics getTotal() {
+        ProvenanceMetrics total = new ProvenanceMetrics();
+        for (ProvenanceMetrics metrics : modules.values()) {
+            total.addAll(metrics);
+        }
+        return total;
+    }
+
+    public synchronized JsonObject toJson() {
+        JsonObjectBuilder modulesBuilder = JsonFactories.createObjectBuilder();
+        for (Entry<String, ProvenanceMetrics> module : modules.entrySet()) {
+            modulesBuilder.add(module.getKey(), module.getValue().toJson());
+        }
+        return JsonFactories.createObjectBuilder().add(KEY_MODULES, modulesBuilder).add(KEY_TOTAL, getTotal().toJson()).build();
+    }
+
+    public synchronized String toPrometheus() {
+        StringBuilder output = new StringBuilder();
+        appendHeader(output, METRIC_PHASE_SECONDS, "Time spent in each phase of generating the provenance of a module.");
+        for (Entry<String, ProvenanceMetrics> module : modules.entrySet()) {
+            appendSamples(output, METRIC_PHASE_SECONDS, module.getKey(), module.getValue());
+        }
+        appendHeader(output, METRIC_REACTOR_PHASE_SECONDS, "Time spent in each phase of generating provenance, summed over all modules.");
+        appendSamples(output, METRIC_REACTOR_PHASE_SECONDS, null, getTotal());
+        int skippedModules = getSkippedModules();
+        if (skippedModules > 0) {
+            appendHeader(output, METRIC_SKIPPED_MODULES, "Number of modules for which no provenance was generated because they have nothing to attest.");
+            output.append(METRIC_SKIPPED_MODULES).append(' ').append(skippedModules).append('\n');
+        }
+        return output.toString();
+    }
+
+    /**
+     * Writes the metrics of the reactor to {@code <baseName>.json} and {@code <baseName>.prom} in the given directory.
+     */
+    public synchronized void write(File directory, String baseName) throws IOException {
+        writeFile(new File(directory, baseName + JSON_FILE_SUFFIX), toJson().toString());
+        writeFile(new File(directory, baseName + PROMETHEUS_FILE_SUFFIX), toPrometheus());
+    }
+
+    /**
+     * Writes the metrics of a single module to {@code <baseName>.json} and {@code <baseName>.prom} in the given directory.
+     */
+    public static void writeModule(File directory, String baseName, String module, ProvenanceMetrics metrics) throws IOException {
+        JsonObject json = JsonFactories.createObjectBuilder(metrics.toJson()).add(KEY_MODULE, module).build();
+        StringBuilder prometheus = new StringBuilder();
+        appendHeader(prometheus, METRIC_PHASE_SECONDS, "Time spent in each phase of generating the provenance of a module.");
+        appendSamples(prometheus, METRIC_PHASE_SECONDS, module, metrics);
+        writeFile(new File(directory, baseName + JSON_FILE_SUFFIX), json.toString());
+        writeFile(new File(directory, baseName + PROMETHEUS_FILE_SUFFIX), prometheus.toString());
+    }
+
+    private static void appendHeader(StringBuilder output, String metric, String help) {
+        output.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(metric).append(" gauge\n");
+    }
+
+    private static void appendSamples(StringBuilder output, String metric, String module, ProvenanceMetrics metrics) {
+        for (Entry<String, Long> duration : metrics.getDurations().entrySet()) {
+            output.append(metric).append('{');
+            if (module != null) {
+                output.append("module=\"").append(escapeLabelValue(module)).append("\",");
+            }
+            output.append("phase=\"").append(escapeLabelValue(duration.getKey())).append("\"} ");
+            output.append(ProvenanceMetrics.toSeconds(duration.getValue())).append('\n');
+        }
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static void writeFile(File file, String contents) throws IOException {
+        // Metrics collectors may read the files at any time, so they are never left partially written
+        new ProvenanceFileWriter(file).write(out -> out.write(contents.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.signing;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.exceptions.SigningException;
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Signs payloads and wraps them in DSSE envelopes (see https://github.com/secure-systems-lab/dsse). The signature is calculated
+ * over the pre-authentication encoding of the payload type and the payload bytes exactly as they were written, so the payload
+ * is never parsed or serialized again.
+ * <p>
+ * Every module of a reactor that signs with the same key shares one signer, so the key is loaded and the signature provider is
+ * initialized once per build instead of once per attestation. Each thread reuses its own {@link Signature}, which makes the
+ * signer safe to use from concurrent module builds.
+ */
+public class DsseSigner {
+
+    public static final String PAYLOAD_TYPE_IN_TOTO = "application/vnd.in-toto+json";
+
+    public static final String KEY_PAYLOAD = "payload";
+    public static final String KEY_PAYLOAD_TYPE = "payloadType";
+    public static final String KEY_SIGNATURES = "signatures";
+    public static final String KEY_KEY_ID = "keyid";
+    public static final String KEY_SIG = "sig";
+
+    private static final String PAE_PREFIX = "DSSEv1";
+
+    private static final SessionScopedValues<Map<String, DsseSigner>> SESSION_SIGNERS = new SessionScopedValues<>(ConcurrentHashMap::new);
+
+    private final SigningKey signingKey;
+    private final String keyId;
+    private final ThreadLocal<Signature> signatures = new ThreadLocal<>();
+
+    /**
+     * @param keyId The key ID recorded with each signature. May be {@code null}, in which case no key ID is recorded.
+     */
+    public DsseSigner(SigningKey signingKey, String keyId) {
+        this.signingKey = signingKey;
+        this.keyId = keyId;
+    }
+
+    /**
+     * Returns the signer for the given key that is shared by every module in the Maven session, loading the key the first time
+     * it is used. See {@link SigningKey#load(File, String, char[])} for the parameters.
+     */
+    public static DsseSigner forSession(MavenSession mavenSession, File keyFile, String alias, char[] password, String keyId) throws SigningException {
+        Map<String, DsseSigner> signers = SESSION_SIGNERS.get(mavenSession);
+        String cacheKey = keyFile.getAbsolutePath() + "\u0000" + alias + "\u0000" + keyId;
+        DsseSigner signer = signers.get(cacheKey);
+        if (signer == null) {
+            synchronized (signers) {
+                signer = signers.get(cacheKey);
+                if (signer == null) {
+                    signer = new DsseSigner(SigningKey.load(keyFile, alias, password), keyId);
+                    signers.put(cacheKey, signer);
+                }
+            }
+        }
+        return signer;
+    }
+
+    public SigningKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Returns the signature of the pre-authentication encoding of the given payload type and payload.
+     */
+    public byte[] sign(String payloadType, byte[] payload) throws SigningException {
+        Signature signature = signatures.get();
+        if (signature == null) {
+            signature = signingKey.newSignature();
+            signatures.set(signature);
+        }
+        try {
+            signature.update(getPaeHeader(payloadType, payload.length));
+            signature.update(payload);
+            return signature.sign();
+        } catch (SignatureException e) {
+            // The state of a failed signature is unknown, so the next payload starts over with a new one
+            signatures.remove();
+            throw new SigningException("Failed to sign the payload: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Signs the given payload and returns the DSSE envelope that holds it and its signature.
+     */
+    public JsonObject createEnvelope(String payloadType, byte[] payload) throws SigningException {
+        JsonObjectBuilder signature = JsonFactories.createObjectBuilder();
+        if (keyId != null) {
+            signature.add(KEY_KEY_ID, keyId);
+        }
+        signature.add(KEY_SIG, Base64.getEncoder().encodeToString(sign(payloadType, payload)));
+        return JsonFactories.createObjectBuilder()
+                .add(KEY_PAYLOAD, Base64.getEncoder().encodeToString(payload))
+                .add(KEY_PAYLOAD_TYPE, payloadType)
+                .add(KEY_SIGNATURES, JsonFactories.createArrayBuilder().add(signature))
+                .build();
+    }
+
+    /**
+     * Returns the pre-authentication encoding of the given payload type and payload:
+     * {@code "DSSEv1" SP LEN(type) SP type SP LEN(payload) SP payload}, where lengths are in bytes.
+     */
+    public static byte[] pae(String payloadType, byte[] payload) {
+        byte[] header = getPaeHeader(payloadType, payload.length);
+        byte[] pae = new byte[header.length + payload.length];
+        System.arraycopy(header, 0, pae, 0, header.length);
+        System.arraycopy(payload, 0, pae, header.length, payload.length);
+        return pae;
+    }
+
+    private static byte[] getPaeHeader(String payloadType, int payloadLength) {
+        byte[] type = payloadType.getBytes(StandardCharsets.UTF_8);
+        String header = PAE_PREFIX + " " + type.length + " " + payloadType + " " + payloadLength + " ";
+        return header.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.concurrent;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Runs the plugin's concurrent work on one pool of daemon threads shared by every module and goal of the build, instead of a
+ * pool started and shut down by each call. Threads are started on demand and stop after a minute without work. The pool itself
+ * is unbounded so that a task that waits for tasks of its own, such as a provenance phase that calculates digests, never waits
+ * behind itself; each call bounds how many of its threads it uses instead.
+ */
+public final class ParallelTasks {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "slsa-provenance-worker-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * A task run for each item passed to {@link ParallelTasks#map(Collection, int, Task)}.
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R run(T item) throws IOException;
+    }
+
+    /**
+     * Runs the task on a thread of the shared pool.
+     */
+    public static <T> Future<T> submit(Callable<T> task) {
+        return EXECUTOR.submit(task);
+    }
+
+    /**
+     * Runs the task for each item on at most {@code maxThreads} threads, one of which is the calling thread, and returns the
+     * results in the same order as the items. Once a task fails, the items that haven't been started are skipped and the failure
+     * is rethrown.
+     */
+    public static <T, R> List<R> map(Collection<? extends T> items, int maxThreads, Task<? super T, ? extends R> task) throws IOException {
+        List<T> inputs = new ArrayList<>(items);
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(inputs.size());
+        AtomicInteger next = new AtomicInteger();
+        int threads = Math.max(1, Math.min(inputs.size(), maxThreads));
+        List<Future<Void>> workers = new ArrayList<>();
+        try {
+            for (int i = 1; i < threads; i++) {
+                workers.add(EXECUTOR.submit(() -> {
+                    work(inputs, task, next, results);
+                    return null;
+                }));
+            }
+            work(inputs, task, next, results);
+            for (Future<Void> worker : workers) {
+                getResult(worker, IOException.class);
+            }
+        } finally {
+            for (Future<Void> worker : workers) {
+                worker.cancel(true);
+            }
+        }
+        List<R> list = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            list.add(results.get(i));
+        }
+        return list;
+    }
+
+    private static <T, R> void work(List<T> inputs, Task<? super T, ? extends R> task, AtomicInteger next, AtomicReferenceArray<R> results) throws IOException {
+        for (int i = next.getAndIncrement(); i < inputs.size(); i = next.getAndIncrement()) {
+            try {
+                results.set(i, task.run(inputs.get(i)));
+            } catch (IOException | RuntimeException | Error e) {
+                // Keeps the other threads from starting any more items
+                next.set(inputs.size());
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Waits for a task running on another thread and returns its result. A failure of the task is rethrown unchanged when it is
+     * an {@code exceptionType} or an unchecked exception, and wrapped in an {@link UndeclaredThrowableException} otherwise.
+     */
+    public static <T, E extends Exception> T getResult(Future<T> future, Class<E> exceptionType) throws E {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrent task.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        }
+    }
+
+}
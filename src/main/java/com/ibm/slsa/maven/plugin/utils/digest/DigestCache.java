@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.ibm.intoto.attestation.DigestSet;
+
+/**
+ * An on-disk cache of file digests that lets unchanged files skip being read and hashed again in later builds.
+ * <p>
+ * Entries are keyed by the identity of the file: its absolute path, size, last modified time, and file key (the inode on
+ * platforms that have one). If any of those have changed, the entry is ignored and the file is hashed again. Each entry is a
+ * separate small file that is written to a temporary file and atomically moved into place, so any number of threads or
+ * processes can read and write the same cache directory concurrently. Problems reading or writing the cache are treated as
+ * cache misses rather than errors.
+ * <p>
+ * Like the Git index, each entry records when it was written. A file modified within one timestamp tick of that time could be
+ * modified again without its identity changing, so such a "racily cached" entry is ignored, and rewritten with a later time
+ * once the file has been hashed again. Files modified before their digest is cached, such as a freshly packaged .war file,
+ * are cached right away.
+ */
+public class DigestCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final String KEY_PATH = "path";
+    private static final String KEY_SIZE = "size";
+    private static final String KEY_LAST_MODIFIED = "lastModified";
+    private static final String KEY_FILE_KEY = "fileKey";
+    private static final String KEY_CACHED_AT = "cachedAt";
+    private static final String ENTRY_SUFFIX = ".properties";
+
+    /**
+     * How far apart a modification and the writing of an entry must be for the entry to be trusted, depending on whether the file
+     * system records sub-second timestamps. Whole-second timestamps may also be rounded to two seconds, as on FAT.
+     */
+    private static final long RACY_WINDOW_MILLIS = 20;
+    private static final long RACY_WINDOW_WHOLE_SECONDS_MILLIS = 2000;
+
+    private final Path directory;
+    private final int maxEntries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public DigestCache(File directory) {
+        this(directory, DEFAULT_MAX_ENTRIES);
+    }
+
+    public DigestCache(File directory, int maxEntries) {
+        this.directory = directory.toPath().toAbsolutePath();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the cached digest of the file, or {@code null} if the cache doesn't have an up to date entry that contains every one
+     * of the requested algorithms.
+     */
+    public DigestSet get(File file, List<String> algorithms) {
+        try {
+            FileIdentity identity = FileIdentity.of(file);
+            Path entryFile = getEntryFile(identity);
+            if (!Files.isRegularFile(entryFile)) {
+                return recordMiss();
+            }
+            Properties entry = new Properties();
+            try (InputStream input = Files.newInputStream(entryFile)) {
+                entry.load(input);
+            }
+            if (!identity.matches(entry) || identity.isRacilyCached(entry)) {
+                return recordMiss();
+            }
+            DigestSet digest = new DigestSet();
+            for (String algorithm : algorithms) {
+                String value = entry.getProperty(algorithm);
+                if (value == null) {
+                    return recordMiss();
+                }
+                digest.put(algorithm, value);
+            }
+            // Keeps recently used entries from being evicted
+            Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(identity.size);
+            return digest;
+        } catch (IOException e) {
+            return recordMiss();
+        }
+    }
+
+    /**
+     * Stores the digest of the file, as long as the file still has the identity it had before it was hashed.
+     */
+    public void put(File file, FileIdentity identityBeforeHashing, DigestSet digest) {
+        try {
+            FileIdentity identity = FileIdentity.of(file);
+            if (!identity.equals(identityBeforeHashing)) {
+                return;
+            }
+            Properties entry = identity.toProperties();
+            // Taken after the identity was checked, so a later modification within the same tick is caught as racy
+            entry.setProperty(KEY_CACHED_AT, Long.toString(System.currentTimeMillis()));
+            for (String algorithm : digest.keySet()) {
+                entry.setProperty(algorithm, digest.get(algorithm));
+            }
+            Path entryFile = getEntryFile(identity);
+            Files.createDirectories(entryFile.getParent());
+            Path tempFile = Files.createTempFile(entryFile.getParent(), entryFile.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(tempFile)) {
+                    entry.store(output, null);
+                }
+                moveIntoPlace(tempFile, entryFile);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // The digest just won't be cached
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache holds no more than the configured maximum number of entries.
+     */
+    public void evict() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            List<Path> entries = files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX)).collect(Collectors.toList());
+            if (entries.size() <= maxEntries) {
+                return;
+            }
+            List<EvictionCandidate> candidates = new ArrayList<>();
+            for (Path entry : entries) {
+                candidates.add(new EvictionCandidate(entry));
+            }
+            candidates.sort(Comparator.comparingLong(c -> c.lastModified));
+            for (int i = 0; i < candidates.size() - maxEntries; i++) {
+                Files.deleteIfExists(candidates.get(i).entry);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Entries deleted by another build evicting at the same time can't be walked; try again the next time the cache is used
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public String getStatistics() {
+        return String.format("Digest cache: %d hits, %d misses, %d bytes not re-read", getHits(), getMisses(), getBytesSaved());
+    }
+
+    private DigestSet recordMiss() {
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private Path getEntryFile(FileIdentity identity) throws IOException {
+        String name = DigestUtils.toHex(sha256(identity.path));
+        return directory.resolve(name.substring(0, 2)).resolve(name + ENTRY_SUFFIX);
+    }
+
+    private byte[] sha256(String value) throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The attributes used to decide whether a file has changed since its digest was cached.
+     */
+    public static final class FileIdentity {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final String fileKey;
+
+        private FileIdentity(String path, long size, long lastModified, String fileKey) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+        }
+
+        public static FileIdentity of(File file) throws IOException {
+            Path path = file.toPath().toAbsolutePath().normalize();
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            Object fileKey = attributes.fileKey();
+            return new FileIdentity(path.toString(), attributes.size(), attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS), fileKey == null ? "" : fileKey.toString());
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns whether the entry was written too soon after the file was last modified to tell whether the file was modified
+         * again afterwards. Entries without a time are treated as racy.
+         */
+        private boolean isRacilyCached(Properties entry) {
+            long cachedAt;
+            try {
+                cachedAt = Long.parseLong(entry.getProperty(KEY_CACHED_AT));
+            } catch (NumberFormatException e) {
+                return true;
+            }
+            long window = lastModified % TimeUnit.SECONDS.toMicros(1) == 0 ? RACY_WINDOW_WHOLE_SECONDS_MILLIS : RACY_WINDOW_MILLIS;
+            return cachedAt - TimeUnit.MICROSECONDS.toMillis(lastModified) < window;
+        }
+
+        private boolean matches(Properties entry) {
+            return toProperties().entrySet().stream().allMatch(e -> e.getValue().equals(entry.get(e.getKey())));
+        }
+
+        private Properties toProperties() {
+            Properties properties = new Properties();
+            properties.setProperty(KEY_PATH, path);
+            properties.setProperty(KEY_SIZE, Long.toString(size));
+            properties.setProperty(KEY_LAST_MODIFIED, Long.toString(lastModified));
+            properties.setProperty(KEY_FILE_KEY, fileKey);
+            return properties;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileIdentity)) {
+                return false;
+            }
+            FileIdentity other = (FileIdentity) obj;
+            return path.equals(other.path) && size == other.size && lastModified == other.lastModified && fileKey.equals(other.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return path.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return path + ":" + size + ":" + lastModified + ":" + fileKey;
+        }
+    }
+
+    private static final class EvictionCandidate {
+
+        private final Path entry;
+        private final long lastModified;
+
+        private EvictionCandidate(Path entry) {
+            this.entry = entry;
+            this.lastModified = entry.toFile().lastModified();
+        }
+    }
+
+}
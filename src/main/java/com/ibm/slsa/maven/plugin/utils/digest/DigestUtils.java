@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.jfr.EventScope;
+import com.ibm.slsa.maven.plugin.jfr.ProvenanceEvents;
+import com.ibm.slsa.maven.plugin.utils.concurrent.ParallelTasks;
+
+/**
+ * Calculates file digests by streaming the file through a {@link FileChannel} into a large direct buffer. Each thread reuses its
+ * own buffer, so hashing many files or very large files does not allocate new buffers on the heap for every read.
+ * <p>
+ * Every configured algorithm is calculated from the same read of the file: each chunk is passed to all of the digests before the
+ * next chunk is read. If a {@link DigestCache} is provided, files whose digests are already cached are not read at all.
+ */
+public class DigestUtils {
+
+    public static final String ALG_SHA1 = "sha1";
+    public static final String ALG_SHA224 = "sha224";
+    public static final String ALG_SHA256 = DigestSet.ALG_SHA256;
+    public static final String ALG_SHA384 = "sha384";
+    public static final String ALG_SHA512 = "sha512";
+
+    public static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Maps the in-toto digest algorithm names (see https://github.com/in-toto/attestation/blob/main/spec/v1/digest_set.md) to the
+     * names of the corresponding Java security algorithms.
+     */
+    private static final Map<String, String> SUPPORTED_ALGORITHMS;
+    static {
+        Map<String, String> algorithms = new LinkedHashMap<>();
+        algorithms.put(ALG_SHA1, "SHA-1");
+        algorithms.put(ALG_SHA224, "SHA-224");
+        algorithms.put(ALG_SHA256, "SHA-256");
+        algorithms.put(ALG_SHA384, "SHA-384");
+        algorithms.put(ALG_SHA512, "SHA-512");
+        SUPPORTED_ALGORITHMS = Collections.unmodifiableMap(algorithms);
+    }
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private final List<String> algorithms;
+    private final DigestCache cache;
+
+    public DigestUtils() {
+        this(Collections.singletonList(ALG_SHA256));
+    }
+
+    public DigestUtils(List<String> algorithms) {
+        this(algorithms, null);
+    }
+
+    public DigestUtils(List<String> algorithms, DigestCache cache) {
+        List<String> normalizedAlgorithms = new ArrayList<>();
+        if (algorithms != null) {
+            for (String algorithm : algorithms) {
+                String normalizedAlgorithm = algorithm.trim().toLowerCase();
+                if (!isSupportedAlgorithm(normalizedAlgorithm)) {
+                    throw new IllegalArgumentException("Unsupported digest algorithm \"" + algorithm + "\". Supported algorithms are: " + SUPPORTED_ALGORITHMS.keySet());
+                }
+                if (!normalizedAlgorithms.contains(normalizedAlgorithm)) {
+                    normalizedAlgorithms.add(normalizedAlgorithm);
+                }
+            }
+        }
+        if (normalizedAlgorithms.isEmpty()) {
+            normalizedAlgorithms.add(ALG_SHA256);
+        }
+        this.algorithms = Collections.unmodifiableList(normalizedAlgorithms);
+        this.cache = cache;
+    }
+
+    public static boolean isSupportedAlgorithm(String algorithm) {
+        return algorithm != null && SUPPORTED_ALGORITHMS.containsKey(algorithm.trim().toLowerCase());
+    }
+
+    public static Set<String> getSupportedAlgorithms() {
+        return SUPPORTED_ALGORITHMS.keySet();
+    }
+
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    public DigestSet getDigest(File file) throws IOException {
+        if (cache == null) {
+            return calculateDigest(file);
+        }
+        DigestSet cachedDigest = cache.get(file, algorithms);
+        if (cachedDigest != null) {
+            return cachedDigest;
+        }
+        DigestCache.FileIdentity identity = DigestCache.FileIdentity.of(file);
+        DigestSet digest = calculateDigest(file);
+        cache.put(file, identity, digest);
+        return digest;
+    }
+
+    /**
+     * Calculates the digests of the given files on at most {@code maxThreads} threads, each of which reuses its own read buffer.
+     * The digests are returned in the same order as the files.
+     */
+    public List<DigestSet> getDigests(List<File> files, int maxThreads) throws IOException {
+        return ParallelTasks.map(files, maxThreads, this::getDigest);
+    }
+
+    private DigestSet calculateDigest(File file) throws IOException {
+        MessageDigest[] messageDigests = createMessageDigests();
+        ByteBuffer buffer = BUFFERS.get();
+        // Called through Buffer, since the ByteBuffer overrides added in Java 9 don't exist on the Java 8 runtime
+        ((Buffer) buffer).clear();
+        try (EventScope event = ProvenanceEvents.fileDigest(file); FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                ((Buffer) buffer).flip();
+                for (MessageDigest messageDigest : messageDigests) {
+                    ((Buffer) buffer).rewind();
+                    messageDigest.update(buffer);
+                }
+                ((Buffer) buffer).clear();
+            }
+        }
+        DigestSet digest = new DigestSet();
+        for (int i = 0; i < messageDigests.length; i++) {
+            digest.put(algorithms.get(i), toHex(messageDigests[i].digest()));
+        }
+        return digest;
+    }
+
+    private MessageDigest[] createMessageDigests() throws IOException {
+        MessageDigest[] messageDigests = new MessageDigest[algorithms.size()];
+        for (int i = 0; i < messageDigests.length; i++) {
+            messageDigests[i] = createMessageDigest(algorithms.get(i));
+        }
+        return messageDigests;
+    }
+
+    /**
+     * Creates a new {@link MessageDigest} for the given in-toto digest algorithm name.
+     */
+    public static MessageDigest createMessageDigest(String algorithm) throws IOException {
+        if (!isSupportedAlgorithm(algorithm)) {
+            throw new IllegalArgumentException("Unsupported digest algorithm \"" + algorithm + "\". Supported algorithms are: " + SUPPORTED_ALGORITHMS.keySet());
+        }
+        String jcaAlgorithm = SUPPORTED_ALGORITHMS.get(algorithm.trim().toLowerCase());
+        try {
+            return MessageDigest.getInstance(jcaAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("The " + jcaAlgorithm + " algorithm is not available: " + e.getMessage(), e);
+        }
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            hexChars[i * 2] = Character.forDigit(value >>> 4, 16);
+            hexChars[i * 2 + 1] = Character.forDigit(value & 0x0F, 16);
+        }
+        return new String(hexChars);
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.ibm.slsa.maven.plugin.utils.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+
+/**
+ * Appends lines to a JSON Lines file (see https://jsonlines.org/) that is shared by every module in a Maven build. Lines are
+ * handed to a single writer thread through a lock-free queue, so modules built in parallel never contend on the file, and the
+ * lines that are queued while the writer is busy are written together as one batch. The file is replaced by the first batch of
+ * each build.
+ * <p>
+ * When compressed, each batch is written as its own gzip member. Concatenated members form a valid gzip file that tools such as
+ * {@code zcat} and {@link java.util.zip.GZIPInputStream} read as a whole, and the file is complete after every batch.
+ */
+public class AttestationBundleWriter {
+
+    public static final String GZIP_FILE_SUFFIX = ".gz";
+
+    private static final long WRITER_KEEP_ALIVE_SECONDS = 10;
+
+    private static final ThreadFactory WRITER_THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "slsa-attestation-bundle-writer");
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    private static final SessionScopedValues<Map<File, AttestationBundleWriter>> SESSION_WRITERS = new SessionScopedValues<>(ConcurrentHashMap::new);
+
+    private final File file;
+    private final boolean gzip;
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final ThreadPoolExecutor writer;
+
+    /** Only accessed by the writer thread. */
+    private boolean replaced = false;
+
+    public AttestationBundleWriter(File file, boolean gzip) {
+        this.file = file.getAbsoluteFile();
+        this.gzip = gzip;
+        // The thread ends when the writer is idle, so a build that is done with the bundle does not keep a thread around
+        writer = new ThreadPoolExecutor(1, 1, WRITER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), WRITER_THREAD_FACTORY);
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the writer for the given file that is shared by every module in the Maven session.
+     */
+    public static AttestationBundleWriter forSession(MavenSession mavenSession, File file, boolean gzip) {
+        return SESSION_WRITERS.get(mavenSession).computeIfAbsent(file.getAbsoluteFile(), f -> new AttestationBundleWriter(f, gzip));
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Queues the given line, which must not contain a line break, to be appended to the file. The returned future completes once
+     * the line has been written.
+     */
+    public Future<Void> append(byte[] line) {
+        for (byte b : line) {
+            if (b == '\n' || b == '\r') {
+                throw new IllegalArgumentException("A line of the attestation bundle must not contain a line break.");
+            }
+        }
+        Entry entry = new Entry(line);
+        queue.add(entry);
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+        return entry.written;
+    }
+
+    /**
+     * Appends the given line to the file and waits until it has been written.
+     */
+    public void write(byte[] line) throws IOException {
+        try {
+            append(line).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the attestation bundle to be written.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<Entry> batch = new ArrayList<>();
+            for (Entry entry = queue.poll(); entry != null; entry = queue.poll()) {
+                batch.add(entry);
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+                continue;
+            }
+            draining.set(false);
+            // A line queued after the last poll but before the flag was cleared did not schedule another drain
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+                for (Entry entry : batch) {
+                    out.write(entry.line);
+                    out.write('\n');
+                }
+            }
+            Files.createDirectories(file.getParentFile().toPath());
+            Files.write(file.toPath(), bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    replaced ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+            replaced = true;
+            for (Entry entry : batch) {
+                entry.written.complete(null);
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Entry entry : batch) {
+                entry.written.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final byte[] line;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        Entry(byte[] line) {
+            this.line = line;
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.ibm.slsa.maven.plugin.utils.file;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+
+/**
+ * Writes a provenance file so that readers never see a partially written file. The contents are streamed through a buffer into a
+ * temporary file in the same directory as the provenance file, which is then moved into place atomically where the file system
+ * supports it. If writing the contents fails, the temporary file is removed and any existing provenance file is left untouched.
+ * <p>
+ * The writer can optionally force the contents to disk before the move, and write checksum files (for example
+ * {@code slsa_provenance.json.sha256}) alongside the provenance file. The checksums are calculated from the same bytes as they
+ * are written, so the provenance file is never read back. Checksum files use the format of the {@code sha256sum} family of tools.
+ */
+public class ProvenanceFileWriter {
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File file;
+    private boolean sync = false;
+    private List<String> checksumAlgorithms = Collections.emptyList();
+
+    public ProvenanceFileWriter(File file) {
+        this.file = file.getAbsoluteFile();
+    }
+
+    /**
+     * Sets whether the provenance file is forced to disk before it is moved into place. Defaults to {@code false}.
+     */
+    public ProvenanceFileWriter sync(boolean sync) {
+        this.sync = sync;
+        return this;
+    }
+
+    /**
+     * Sets the digest algorithms for which checksum files are written alongside the provenance file. Defaults to none.
+     */
+    public ProvenanceFileWriter checksumAlgorithms(List<String> checksumAlgorithms) {
+        List<String> normalizedAlgorithms = new ArrayList<>();
+        if (checksumAlgorithms != null) {
+            for (String algorithm : checksumAlgorithms) {
+                if (!DigestUtils.isSupportedAlgorithm(algorithm)) {
+                    throw new IllegalArgumentException("Unsupported checksum algorithm \"" + algorithm + "\".");
+                }
+                String normalizedAlgorithm = algorithm.trim().toLowerCase();
+                if (!normalizedAlgorithms.contains(normalizedAlgorithm)) {
+                    normalizedAlgorithms.add(normalizedAlgorithm);
+                }
+            }
+        }
+        this.checksumAlgorithms = normalizedAlgorithms;
+        return this;
+    }
+
+    public static File getChecksumFile(File provenanceFile, String algorithm) {
+        return new File(provenanceFile.getPath() + "." + algorithm);
+    }
+
+    public void write(ContentWriter contentWriter) throws IOException {
+        File directory = file.getParentFile();
+        Files.createDirectories(directory.toPath());
+        Path tempFile = createTempFile(file);
+        try {
+            MessageDigest[] messageDigests = writeTempFile(tempFile, contentWriter);
+            move(tempFile, file.toPath());
+            if (sync) {
+                syncDirectory(directory);
+            }
+            writeChecksumFiles(messageDigests);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private MessageDigest[] writeTempFile(Path tempFile, ContentWriter contentWriter) throws IOException {
+        MessageDigest[] messageDigests = new MessageDigest[checksumAlgorithms.size()];
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            OutputStream out = Channels.newOutputStream(channel);
+            for (int i = 0; i < messageDigests.length; i++) {
+                messageDigests[i] = DigestUtils.createMessageDigest(checksumAlgorithms.get(i));
+                out = new DigestOutputStream(out, messageDigests[i]);
+            }
+            BufferedOutputStream bufferedOut = new BufferedOutputStream(out, BUFFER_SIZE);
+            try {
+                contentWriter.write(new NonClosingOutputStream(bufferedOut));
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            bufferedOut.flush();
+            if (sync) {
+                channel.force(true);
+            }
+        }
+        return messageDigests;
+    }
+
+    private void writeChecksumFiles(MessageDigest[] messageDigests) throws IOException {
+        for (String algorithm : DigestUtils.getSupportedAlgorithms()) {
+            if (!checksumAlgorithms.contains(algorithm)) {
+                // Never leave behind a checksum that no longer matches the provenance file
+                Files.deleteIfExists(getChecksumFile(file, algorithm).toPath());
+            }
+        }
+        for (int i = 0; i < messageDigests.length; i++) {
+            File checksumFile = getChecksumFile(file, checksumAlgorithms.get(i));
+            String checksum = DigestUtils.toHex(messageDigests[i].digest()) + "  " + file.getName() + "\n";
+            Path tempFile = createTempFile(checksumFile);
+            try {
+                Files.write(tempFile, checksum.getBytes(StandardCharsets.UTF_8));
+                move(tempFile, checksumFile.toPath());
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to the given target. Unlike {@link Files#createTempFile}, which only lets the owner
+     * read the file, the temporary file gets the permissions of the existing target, or the default permissions for new files
+     * (derived from the umask) if there is none, since it becomes the target when it is moved into place.
+     */
+    private static Path createTempFile(File target) throws IOException {
+        Path directory = target.getParentFile().toPath();
+        Path tempFile;
+        while (true) {
+            try {
+                tempFile = Files.createFile(directory.resolve("." + target.getName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp"));
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Try another name
+            }
+        }
+        try {
+            if (target.exists() && Files.getFileStore(tempFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target.toPath()));
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void syncDirectory(File directory) {
+        // Persists the rename itself. Not every platform allows a directory to be opened, in which case this is best effort.
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    /**
+     * Writes the contents of the provenance file to the given stream. The stream is buffered, and closing it only flushes it, so
+     * writers such as a {@code JsonGenerator} can be closed as usual.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws Exception;
+    }
+
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
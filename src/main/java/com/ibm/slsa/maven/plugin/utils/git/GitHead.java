@@ -0,0 +1,35 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+/**
+ * The branch and commit checked out in a Git repository, along with the URL of its {@code origin} remote.
+ */
+public class GitHead {
+
+    private final String ref;
+    private final String commit;
+    private final String remoteOriginUrl;
+
+    /**
+     * @param ref The full name of the branch that HEAD points to, or the commit ID if HEAD is detached.
+     * @param commit The ID of the commit that HEAD resolves to.
+     * @param remoteOriginUrl The URL of the {@code origin} remote, or {@code null} if there isn't one.
+     */
+    public GitHead(String ref, String commit, String remoteOriginUrl) {
+        this.ref = ref;
+        this.commit = commit;
+        this.remoteOriginUrl = remoteOriginUrl;
+    }
+
+    public String getRef() {
+        return ref;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public String getRemoteOriginUrl() {
+        return remoteOriginUrl;
+    }
+
+}
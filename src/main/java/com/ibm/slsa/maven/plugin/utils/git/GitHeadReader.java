@@ -0,0 +1,398 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the branch, commit, and {@code origin} URL of a Git repository straight from the files in its Git directory, without
+ * opening the repository with JGit. It handles the layouts Git creates by default: {@code .git} directories, {@code .git} files
+ * that point to the Git directory of a submodule or linked worktree, loose and packed refs, and the repository's config file.
+ * Layouts it doesn't understand, such as the reftable ref storage or config files that include other files, are reported by
+ * returning {@code null} so that the caller can fall back to {@link JGitHeadReader}.
+ */
+public class GitHeadReader {
+
+    static final String HEAD = "HEAD";
+    static final String ORIGIN = "origin";
+    static final String URL = "url";
+
+    private static final String DOT_GIT = ".git";
+    private static final String GITDIR_PREFIX = "gitdir:";
+    private static final String COMMON_DIR = "commondir";
+    private static final String CONFIG = "config";
+    private static final String PACKED_REFS = "packed-refs";
+    private static final String REFTABLE = "reftable";
+    private static final String SYMREF_PREFIX = "ref: ";
+    private static final String REMOTE_SECTION = "remote";
+    private static final String EXTENSIONS_SECTION = "extensions";
+    private static final String REF_STORAGE = "refstorage";
+    private static final String INCLUDE_SECTION = "include";
+    private static final String INCLUDE_IF_SECTION = "includeif";
+
+    /** Git follows at most this many symbolic refs before giving up. */
+    private static final int MAX_SYMREF_DEPTH = 5;
+
+    private static final Pattern OBJECT_ID = Pattern.compile("[0-9a-f]{40}|[0-9a-f]{64}");
+
+    private GitHeadReader() {
+    }
+
+    /**
+     * Returns the Git directory of the repository that contains the given directory, looking in the directory and then in each
+     * of its parents. Returns {@code null} if none of them are in a Git repository.
+     */
+    public static File findGitDir(File directory) throws IOException {
+        File workTree = findWorkTree(directory);
+        if (workTree == null) {
+            return null;
+        }
+        File dotGit = new File(workTree, DOT_GIT);
+        return dotGit.isFile() ? readGitDirFile(dotGit) : dotGit;
+    }
+
+    /**
+     * Returns the top-level directory of the working tree that contains the given directory, which is the directory that holds
+     * the {@code .git} directory or file. Returns {@code null} if the directory isn't in a Git repository.
+     */
+    public static File findWorkTree(File directory) {
+        for (File current = directory.getAbsoluteFile(); current != null; current = current.getParentFile()) {
+            File dotGit = new File(current, DOT_GIT);
+            if ((dotGit.isDirectory() && new File(dotGit, HEAD).isFile()) || dotGit.isFile()) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the HEAD of the repository with the given Git directory. Returns {@code null} if the repository uses a layout this
+     * reader doesn't handle.
+     */
+    public static GitHead read(File gitDir) throws IOException {
+        File commonDir = getCommonDir(gitDir);
+        Config config = Config.read(new File(commonDir, CONFIG));
+        if (config == null || new File(commonDir, REFTABLE).exists() || config.get(EXTENSIONS_SECTION, null, REF_STORAGE) != null) {
+            return null;
+        }
+        String ref = null;
+        String value = readFile(new File(gitDir, HEAD));
+        for (int depth = 0; value != null && value.startsWith(SYMREF_PREFIX); depth++) {
+            if (depth == MAX_SYMREF_DEPTH) {
+                throw new IOException("The HEAD of the Git repository at " + gitDir + " points to too many symbolic refs.");
+            }
+            ref = value.substring(SYMREF_PREFIX.length()).trim();
+            value = readRef(gitDir, commonDir, ref);
+        }
+        if (value == null || !OBJECT_ID.matcher(value).matches()) {
+            throw new IOException("The HEAD of the Git repository at " + gitDir + " does not point to a commit.");
+        }
+        // Like JGit, a detached HEAD is reported by its commit ID
+        return new GitHead(ref == null ? value : ref, value, config.get(REMOTE_SECTION, ORIGIN, URL));
+    }
+
+    /**
+     * Returns the directory that holds the refs and config shared by every worktree of the repository. Linked worktrees keep
+     * their branches in the main repository's Git directory.
+     */
+    static File getCommonDir(File gitDir) throws IOException {
+        File commonDirFile = new File(gitDir, COMMON_DIR);
+        if (!commonDirFile.isFile()) {
+            return gitDir;
+        }
+        File commonDir = new File(readFile(commonDirFile));
+        return commonDir.isAbsolute() ? commonDir : new File(gitDir, commonDir.getPath());
+    }
+
+    static String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+    }
+
+    private static File readGitDirFile(File dotGit) throws IOException {
+        String contents = readFile(dotGit);
+        if (!contents.startsWith(GITDIR_PREFIX)) {
+            throw new IOException("The file " + dotGit + " does not point to a Git directory.");
+        }
+        File gitDir = new File(contents.substring(GITDIR_PREFIX.length()).trim());
+        return gitDir.isAbsolute() ? gitDir : new File(dotGit.getParentFile(), gitDir.getPath());
+    }
+
+    /**
+     * Returns the contents of the loose ref with the given name, or the object ID recorded for it in the packed refs, or
+     * {@code null} if the ref doesn't exist.
+     */
+    private static String readRef(File gitDir, File commonDir, String refName) throws IOException {
+        File looseRef = new File(gitDir, refName);
+        if (!looseRef.isFile()) {
+            looseRef = new File(commonDir, refName);
+        }
+        if (looseRef.isFile()) {
+            return readFile(looseRef);
+        }
+        File packedRefs = new File(commonDir, PACKED_REFS);
+        if (!packedRefs.isFile()) {
+            return null;
+        }
+        for (String line : Files.readAllLines(packedRefs.toPath(), StandardCharsets.UTF_8)) {
+            // Skip the header and the peeled values of annotated tags
+            if (line.startsWith("#") || line.startsWith("^")) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            if (space > 0 && line.substring(space + 1).trim().equals(refName)) {
+                return line.substring(0, space);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The variables of a Git config file, following the syntax described in git-config(1). Section and variable names are
+     * compared case-insensitively, subsection names case-sensitively, and the last value of a variable wins.
+     */
+    static final class Config {
+
+        private final List<String[]> entries;
+
+        private Config(List<String[]> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Returns the variables of the given file, none if the file doesn't exist, or {@code null} if it includes other files.
+         */
+        static Config read(File file) throws IOException {
+            List<String[]> entries = new ArrayList<>();
+            if (!file.isFile()) {
+                return new Config(entries);
+            }
+            String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            Parser parser = new Parser(text);
+            if (!parser.parse(entries)) {
+                return null;
+            }
+            return new Config(entries);
+        }
+
+        /**
+         * Returns the last value of the variable, or {@code null} if it isn't set.
+         */
+        String get(String section, String subsection, String name) {
+            String value = null;
+            for (String[] entry : entries) {
+                if (entry[0].equalsIgnoreCase(section) && (subsection == null ? entry[1] == null : subsection.equals(entry[1])) && entry[2].equalsIgnoreCase(name)) {
+                    value = entry[3];
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Returns the names of the subsections of the section, in the order they first appear.
+         */
+        Set<String> getSubsections(String section) {
+            Set<String> subsections = new LinkedHashSet<>();
+            for (String[] entry : entries) {
+                if (entry[0].equalsIgnoreCase(section) && entry[1] != null) {
+                    subsections.add(entry[1]);
+                }
+            }
+            return subsections;
+        }
+    }
+
+    private static final class Parser {
+
+        private final String text;
+        private int position = 0;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Adds {@code {section, subsection, name, value}} for every variable to the given list. Returns {@code false} if the file
+         * includes other files.
+         */
+        boolean parse(List<String[]> entries) throws IOException {
+            String section = null;
+            String subsection = null;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                if (c == '\n' || c == '\r' || c == ' ' || c == '\t') {
+                    position++;
+                } else if (c == '#' || c == ';') {
+                    skipLine();
+                } else if (c == '[') {
+                    position++;
+                    String[] header = readSectionHeader();
+                    section = header[0];
+                    subsection = header[1];
+                    String lowerCaseSection = section.toLowerCase(Locale.ROOT);
+                    if (INCLUDE_SECTION.equals(lowerCaseSection) || INCLUDE_IF_SECTION.equals(lowerCaseSection)) {
+                        return false;
+                    }
+                } else {
+                    if (section == null) {
+                        throw new IOException("Invalid Git config: variable outside of a section.");
+                    }
+                    String name = readName();
+                    entries.add(new String[] { section, subsection, name, readValue() });
+                }
+            }
+            return true;
+        }
+
+        private String[] readSectionHeader() throws IOException {
+            StringBuilder name = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == ']') {
+                    String section = name.toString().trim();
+                    // The deprecated [section.subsection] syntax has a case-insensitive subsection
+                    int dot = section.indexOf('.');
+                    if (dot >= 0) {
+                        return new String[] { section.substring(0, dot), section.substring(dot + 1).toLowerCase(Locale.ROOT) };
+                    }
+                    return new String[] { section, null };
+                }
+                if (c == '"') {
+                    String subsection = readQuotedSubsection();
+                    skipWhitespace();
+                    if (position >= text.length() || text.charAt(position++) != ']') {
+                        break;
+                    }
+                    return new String[] { name.toString().trim(), subsection };
+                }
+                if (c == '\n') {
+                    break;
+                }
+                name.append(c);
+            }
+            throw new IOException("Invalid Git config: unterminated section header.");
+        }
+
+        private String readQuotedSubsection() throws IOException {
+            StringBuilder subsection = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return subsection.toString();
+                }
+                if (c == '\\' && position < text.length()) {
+                    c = text.charAt(position++);
+                }
+                if (c == '\n') {
+                    break;
+                }
+                subsection.append(c);
+            }
+            throw new IOException("Invalid Git config: unterminated subsection name.");
+        }
+
+        private String readName() {
+            int start = position;
+            while (position < text.length()) {
+                char c = text.charAt(position);
+                if (!Character.isLetterOrDigit(c) && c != '-') {
+                    break;
+                }
+                position++;
+            }
+            return text.substring(start, position);
+        }
+
+        /**
+         * Reads the value after a variable name up to the end of the line. A variable without a value is a boolean that is true.
+         */
+        private String readValue() throws IOException {
+            skipWhitespace();
+            if (position >= text.length() || text.charAt(position) != '=') {
+                skipLine();
+                return "true";
+            }
+            position++;
+            StringBuilder value = new StringBuilder();
+            // Unquoted whitespace is kept between words but not at the end of the value
+            int trimmedLength = 0;
+            boolean quoted = false;
+            skipWhitespace();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '\n' || c == '\r') {
+                    if (quoted) {
+                        throw new IOException("Invalid Git config: unterminated quoted value.");
+                    }
+                    break;
+                }
+                if (!quoted && (c == '#' || c == ';')) {
+                    skipLine();
+                    break;
+                }
+                if (c == '"') {
+                    quoted = !quoted;
+                    trimmedLength = value.length();
+                    continue;
+                }
+                if (c == '\\') {
+                    if (position >= text.length()) {
+                        break;
+                    }
+                    char escaped = text.charAt(position++);
+                    if (escaped == '\r' && position < text.length() && text.charAt(position) == '\n') {
+                        position++;
+                        continue;
+                    }
+                    if (escaped == '\n') {
+                        // Line continuation
+                        continue;
+                    }
+                    value.append(unescape(escaped));
+                    trimmedLength = value.length();
+                    continue;
+                }
+                value.append(c);
+                if (quoted || (c != ' ' && c != '\t')) {
+                    trimmedLength = value.length();
+                }
+            }
+            return value.substring(0, trimmedLength);
+        }
+
+        private char unescape(char c) throws IOException {
+            switch (c) {
+            case 'n':
+                return '\n';
+            case 't':
+                return '\t';
+            case 'b':
+                return '\b';
+            case '"':
+            case '\\':
+                return c;
+            default:
+                throw new IOException("Invalid Git config: unknown escape sequence \\" + c + ".");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && (text.charAt(position) == ' ' || text.charAt(position) == '\t')) {
+                position++;
+            }
+        }
+
+        private void skipLine() {
+            while (position < text.length() && text.charAt(position) != '\n') {
+                position++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+import com.ibm.slsa.maven.plugin.utils.maven.SessionScopedValues;
+
+/**
+ * Memoizes the Git repository resource descriptor for the lifetime of a Maven session so that every module in a reactor build
+ * shares a single lookup. A cached descriptor is reused for as long as the repository's HEAD (and the ref it points to) is
+ * unchanged; any change causes the descriptor to be read again. Instances are safe to use from concurrent module builds.
+ */
+public class GitRepositoryCache {
+
+    private static final String HEAD = "HEAD";
+    private static final String PACKED_REFS = "packed-refs";
+    private static final String SYMREF_PREFIX = "ref: ";
+
+    private static final SessionScopedValues<GitRepositoryCache> SESSION_CACHES = new SessionScopedValues<>(GitRepositoryCache::new);
+
+    private final Map<File, CachedDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    public static GitRepositoryCache forSession(MavenSession mavenSession) {
+        return SESSION_CACHES.get(mavenSession);
+    }
+
+    public GitRepositoryResourceDescriptor getGitRepositoryResourceDescriptor(File gitDir, DescriptorLoader loader) throws GitRepositoryException {
+        String headState = readHeadState(gitDir);
+        CachedDescriptor cached = descriptors.get(gitDir);
+        if (cached != null && cached.headState.equals(headState)) {
+            return cached.descriptor;
+        }
+        synchronized (this) {
+            // Another module may have already refreshed the entry while this thread was waiting
+            cached = descriptors.get(gitDir);
+            if (cached == null || !cached.headState.equals(headState)) {
+                cached = new CachedDescriptor(headState, loader.load(gitDir));
+                descriptors.put(gitDir, cached);
+            }
+            return cached.descriptor;
+        }
+    }
+
+    /**
+     * Builds a cheap snapshot of the repository's HEAD: the contents of the HEAD file plus the value of the ref it points to. The
+     * snapshot only needs to change whenever the commit or branch being built changes; it is not a parsed representation.
+     */
+    static String readHeadState(File gitDir) throws GitRepositoryException {
+        try {
+            String head = GitHeadReader.readFile(new File(gitDir, HEAD));
+            StringBuilder state = new StringBuilder(head);
+            if (head.startsWith(SYMREF_PREFIX)) {
+                String refName = head.substring(SYMREF_PREFIX.length());
+                File commonDir = GitHeadReader.getCommonDir(gitDir);
+                File looseRef = new File(gitDir, refName);
+                if (!looseRef.isFile()) {
+                    looseRef = new File(commonDir, refName);
+                }
+                if (looseRef.isFile()) {
+                    state.append('\n').append(GitHeadReader.readFile(looseRef));
+                } else {
+                    File packedRefs = new File(commonDir, PACKED_REFS);
+                    state.append('\n').append(packedRefs.lastModified()).append(':').append(packedRefs.length());
+                }
+            }
+            return state.toString();
+        } catch (IOException e) {
+            throw new GitRepositoryException("Failed to read the HEAD of the Git repository at " + gitDir + ": " + e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface DescriptorLoader {
+        GitRepositoryResourceDescriptor load(File gitDir) throws GitRepositoryException;
+    }
+
+    private static final class CachedDescriptor {
+
+        private final String headState;
+        private final GitRepositoryResourceDescriptor descriptor;
+
+        private CachedDescriptor(String headState, GitRepositoryResourceDescriptor descriptor) {
+            this.headState = headState;
+            this.descriptor = descriptor;
+        }
+    }
+
+}
@@ -1,50 +1,182 @@
 package com.ibm.slsa.maven.plugin.utils.git;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-import org.eclipse.jgit.lib.ConfigConstants;
-import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.apache.maven.execution.MavenSession;
 
 import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
 import com.ibm.intoto.attestation.utils.exceptions.GitRepoUrlException;
 import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+import com.ibm.slsa.maven.plugin.jfr.EventScope;
+import com.ibm.slsa.maven.plugin.jfr.ProvenanceEvents;
 
 public class GitUtils {
 
+    private GitRepositoryCache cache = null;
+    private File searchDirectory = null;
+
+    public GitUtils() {
+    }
+
+    /**
+     * Shares Git lookups with every other {@code GitUtils} created for the same Maven session.
+     */
+    public GitUtils(MavenSession mavenSession) {
+        this(mavenSession, null);
+    }
+
+    /**
+     * Looks for the Git repository in the given directory and its parent directories instead of the current directory.
+     */
+    public GitUtils(MavenSession mavenSession, File searchDirectory) {
+        if (mavenSession != null) {
+            this.cache = GitRepositoryCache.forSession(mavenSession);
+        }
+        this.searchDirectory = searchDirectory;
+    }
+
     public GitRepositoryResourceDescriptor getGitRepositoryResourceDescriptor() throws GitRepositoryException {
+        try (EventScope event = ProvenanceEvents.gitLookup(searchDirectory)) {
+            File gitDir = findGitDir();
+            if (cache == null) {
+                return readGitRepositoryResourceDescriptor(gitDir);
+            }
+            return cache.getGitRepositoryResourceDescriptor(gitDir, this::readGitRepositoryResourceDescriptor);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the repository's HEAD that changes whenever the branch or commit being built changes. Reading it
+     * doesn't require opening the repository.
+     */
+    public String getHeadState() throws GitRepositoryException {
+        return GitRepositoryCache.readHeadState(findGitDir());
+    }
+
+    /**
+     * Returns the URL of the repository's {@code origin} remote, or {@code null} if it doesn't have one. Reading it doesn't
+     * require opening the repository.
+     */
+    public String getRemoteOriginUrl() throws GitRepositoryException {
+        File gitDir = findGitDir();
+        try {
+            return readGitHead(gitDir).getRemoteOriginUrl();
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds the uncommitted changes to tracked files in the working tree, both in the working tree and staged in the index, on at
+     * most {@code maxThreads} threads. Only files whose stat data differs from the index are hashed.
+     */
+    public WorkingTreeStatus getWorkingTreeStatus(int maxThreads) throws GitRepositoryException {
+        File gitDir = findGitDir();
+        try {
+            return WorkingTreeScanner.scan(gitDir, findWorkTree(gitDir), readGitHead(gitDir).getCommit(), maxThreads);
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Describes every submodule checked out in the working tree, including the submodules of submodules, reading them on at most
+     * {@code maxThreads} threads. Each descriptor is named after the submodule's path relative to the top of the working tree.
+     * Submodules are ordered by path. Submodules that aren't hosted on GitHub, or have no URL, are described by their URL and
+     * commit without a URI.
+     */
+    public List<GitRepositoryResourceDescriptor> getSubmoduleResourceDescriptors(int maxThreads) throws GitRepositoryException {
+        File gitDir = findGitDir();
         try {
-            Repository repository = getLocalRepository();
-            return buildGitRepositoryResourceDescriptor(repository);
+            List<GitRepositoryResourceDescriptor> descriptors = new ArrayList<>();
+            String remoteOriginUrl = readGitHead(gitDir).getRemoteOriginUrl();
+            for (SubmoduleReader.Submodule submodule : SubmoduleReader.read(findWorkTree(gitDir), gitDir, remoteOriginUrl, maxThreads)) {
+                GitRepositoryResourceDescriptor.Builder builder = newSubmoduleResourceDescriptorBuilder(submodule.getHead());
+                builder.name(submodule.getPath());
+                descriptors.add(builder.build());
+            }
+            return descriptors;
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+    }
+
+    private File findWorkTree(File gitDir) throws IOException, GitRepositoryException {
+        File workTree = System.getenv("GIT_DIR") != null ? JGitHeadReader.findWorkTree(searchDirectory) : GitHeadReader.findWorkTree(getSearchDirectory());
+        if (workTree == null) {
+            throw new GitRepositoryException("The Git repository at " + gitDir.getAbsolutePath() + " does not have a working tree.");
+        }
+        return workTree;
+    }
+
+    private File getSearchDirectory() {
+        return searchDirectory == null ? new File(System.getProperty("user.dir")) : searchDirectory;
+    }
+
+    private File findGitDir() throws GitRepositoryException {
+        File gitDir;
+        try {
+            if (System.getenv("GIT_DIR") != null) {
+                // Only JGit follows Git's environment variables
+                gitDir = JGitHeadReader.findGitDir(searchDirectory);
+            } else {
+                gitDir = GitHeadReader.findGitDir(getSearchDirectory());
+            }
+        } catch (IOException e) {
+            throw new GitRepositoryException(e.getMessage(), e);
+        }
+        if (gitDir == null) {
+            String directory = searchDirectory == null ? "the current directory" : searchDirectory.getAbsolutePath();
+            throw new GitRepositoryException("Could not find a Git repository in " + directory + " or any of its parent directories.");
+        }
+        return gitDir;
+    }
+
+    private GitRepositoryResourceDescriptor readGitRepositoryResourceDescriptor(File gitDir) throws GitRepositoryException {
+        try {
+            return buildGitRepositoryResourceDescriptor(readGitHead(gitDir));
         } catch (Exception e) {
             throw new GitRepositoryException(e.getMessage(), e);
         }
     }
 
-    private Repository getLocalRepository() throws IOException {
-        FileRepositoryBuilder repoBuilder = new FileRepositoryBuilder();
-        return repoBuilder.findGitDir().readEnvironment().build();
+    private GitHead readGitHead(File gitDir) throws IOException {
+        GitHead head = GitHeadReader.read(gitDir);
+        return head == null ? JGitHeadReader.read(gitDir) : head;
     }
 
-    private GitRepositoryResourceDescriptor buildGitRepositoryResourceDescriptor(Repository repository) throws GitRepoUrlException, IOException {
-        String gitRemoteOriginUrl = getRemoteOriginUrl(repository);
-        String gitHubRepoUrl = com.ibm.intoto.attestation.utils.GitUtils.buildGitHubRepoUrl(gitRemoteOriginUrl);
+    private GitRepositoryResourceDescriptor buildGitRepositoryResourceDescriptor(GitHead head) throws GitRepoUrlException {
+        return newGitRepositoryResourceDescriptorBuilder(head).build();
+    }
 
-        String ref = repository.getFullBranch();
-        String commit = repository.resolve("HEAD").getName();
-        DigestSet digest = new DigestSet();
-        digest.put(DigestSet.GITCOMMIT, commit);
+    private GitRepositoryResourceDescriptor.Builder newGitRepositoryResourceDescriptorBuilder(GitHead head) throws GitRepoUrlException {
+        String gitHubRepoUrl = com.ibm.intoto.attestation.utils.GitUtils.buildGitHubRepoUrl(head.getRemoteOriginUrl());
+        GitRepositoryResourceDescriptor.Builder builder = newGitRepositoryResourceDescriptorBuilderWithoutUri(head);
+        builder.uri("git+" + gitHubRepoUrl + "@" + head.getRef());
+        return builder;
+    }
 
-        GitRepositoryResourceDescriptor.Builder builder = new GitRepositoryResourceDescriptor.Builder(gitRemoteOriginUrl);
-        builder.ref(ref)
-                .digest(digest)
-                .uri("git+" + gitHubRepoUrl + "@" + ref);
-        return builder.build();
+    private GitRepositoryResourceDescriptor.Builder newSubmoduleResourceDescriptorBuilder(GitHead head) {
+        try {
+            return newGitRepositoryResourceDescriptorBuilder(head);
+        } catch (GitRepoUrlException e) {
+            // Unlike the repository being built, a submodule's URL is often outside of GitHub, or not recorded at all
+            return newGitRepositoryResourceDescriptorBuilderWithoutUri(head);
+        }
     }
 
-    private String getRemoteOriginUrl(Repository repository) {
-        return repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url");
+    private GitRepositoryResourceDescriptor.Builder newGitRepositoryResourceDescriptorBuilderWithoutUri(GitHead head) {
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.GITCOMMIT, head.getCommit());
+
+        GitRepositoryResourceDescriptor.Builder builder = new GitRepositoryResourceDescriptor.Builder(head.getRemoteOriginUrl());
+        builder.ref(head.getRef())
+                .digest(digest);
+        return builder;
     }
 
 }
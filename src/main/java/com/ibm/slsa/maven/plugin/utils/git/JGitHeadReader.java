@@ -0,0 +1,64 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+
+/**
+ * Reads the HEAD of a Git repository with JGit, for the repository layouts that {@link GitHeadReader} doesn't handle. This is
+ * the only class that uses JGit, so JGit's classes are only loaded when one of those layouts is found.
+ */
+class JGitHeadReader {
+
+    private JGitHeadReader() {
+    }
+
+    /**
+     * Looks for the Git directory the way Git does, including the {@code GIT_DIR} environment variable. The search starts at the
+     * given directory, or the current directory if it is {@code null}. Returns {@code null} if there is no repository.
+     */
+    static File findGitDir(File searchDirectory) {
+        FileRepositoryBuilder repoBuilder = new FileRepositoryBuilder();
+        if (searchDirectory == null) {
+            repoBuilder.findGitDir();
+        } else {
+            repoBuilder.findGitDir(searchDirectory);
+        }
+        repoBuilder.readEnvironment();
+        return repoBuilder.getGitDir();
+    }
+
+    /**
+     * Returns the working tree of the repository found by {@link #findGitDir(File)}, including the {@code GIT_WORK_TREE}
+     * environment variable. Returns {@code null} if there is no repository or it has no working tree.
+     */
+    static File findWorkTree(File searchDirectory) throws IOException {
+        FileRepositoryBuilder repoBuilder = new FileRepositoryBuilder();
+        if (searchDirectory == null) {
+            repoBuilder.findGitDir();
+        } else {
+            repoBuilder.findGitDir(searchDirectory);
+        }
+        repoBuilder.readEnvironment();
+        if (repoBuilder.getGitDir() == null) {
+            return null;
+        }
+        return repoBuilder.setup().isBare() ? null : repoBuilder.getWorkTree();
+    }
+
+    static GitHead read(File gitDir) throws IOException {
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(gitDir).readEnvironment().build()) {
+            ObjectId head = repository.resolve(GitHeadReader.HEAD);
+            if (head == null) {
+                throw new IOException("The HEAD of the Git repository at " + gitDir + " does not point to a commit.");
+            }
+            String remoteOriginUrl = repository.getConfig().getString(ConfigConstants.CONFIG_REMOTE_SECTION, GitHeadReader.ORIGIN, GitHeadReader.URL);
+            return new GitHead(repository.getFullBranch(), head.getName(), remoteOriginUrl);
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.ibm.slsa.maven.plugin.utils.concurrent.ParallelTasks;
+
+/**
+ * Reads the submodules checked out in a working tree, and their submodules in turn, from the {@code .gitmodules} files. The
+ * HEAD of each submodule is read with {@link GitHeadReader}, without opening the submodule as a JGit repository. The submodules
+ * declared by the repositories at one level of nesting are read concurrently, and their own submodules form the next level.
+ * Submodules that aren't checked out are skipped.
+ */
+class SubmoduleReader {
+
+    private static final String GITMODULES = ".gitmodules";
+    private static final String CONFIG = "config";
+    private static final String SUBMODULE_SECTION = "submodule";
+    private static final String PATH = "path";
+
+    private SubmoduleReader() {
+    }
+
+    /**
+     * Returns the submodules of the repository with the given working tree and Git directory, sorted by path, reading them on at
+     * most {@code maxThreads} threads.
+     *
+     * @param remoteUrl The URL of the repository's {@code origin} remote, against which relative submodule URLs are resolved.
+     */
+    static List<Submodule> read(File workTree, File gitDir, String remoteUrl, int maxThreads) throws IOException {
+        List<Submodule> submodules = new ArrayList<>();
+        List<Submodule> parents = Collections.singletonList(new Submodule("", workTree, gitDir, new GitHead(null, null, remoteUrl)));
+        while (!parents.isEmpty()) {
+            List<Declaration> declarations = new ArrayList<>();
+            for (Submodule parent : parents) {
+                GitHeadReader.Config gitmodules = GitHeadReader.Config.read(new File(parent.workTree, GITMODULES));
+                if (gitmodules == null) {
+                    continue;
+                }
+                GitHeadReader.Config parentConfig = GitHeadReader.Config.read(new File(GitHeadReader.getCommonDir(parent.gitDir), CONFIG));
+                for (String name : gitmodules.getSubsections(SUBMODULE_SECTION)) {
+                    declarations.add(new Declaration(parent, name, gitmodules, parentConfig));
+                }
+            }
+            List<Submodule> children = new ArrayList<>();
+            for (Submodule submodule : ParallelTasks.map(declarations, maxThreads, SubmoduleReader::readSubmodule)) {
+                if (submodule != null) {
+                    children.add(submodule);
+                }
+            }
+            submodules.addAll(children);
+            parents = children;
+        }
+        submodules.sort(Comparator.comparing(Submodule::getPath));
+        return submodules;
+    }
+
+    /**
+     * Reads the HEAD of the submodule with the given name, or returns {@code null} if it isn't checked out. The submodule's
+     * {@code origin} remote is preferred over the URL recorded for it in its parent, since that is where it was fetched from.
+     */
+    private static Submodule readSubmodule(Declaration declaration) throws IOException {
+        Submodule parent = declaration.parent;
+        String name = declaration.name;
+        GitHeadReader.Config gitmodules = declaration.gitmodules;
+        GitHeadReader.Config parentConfig = declaration.parentConfig;
+        String path = gitmodules.get(SUBMODULE_SECTION, name, PATH);
+        if (path == null) {
+            return null;
+        }
+        File workTree = new File(parent.workTree, path);
+        if (!isInside(workTree, parent.workTree)) {
+            throw new IOException("The path \"" + path + "\" of the submodule \"" + name + "\" is outside of the working tree " + parent.workTree + ".");
+        }
+        if (!workTree.getAbsoluteFile().equals(GitHeadReader.findWorkTree(workTree))) {
+            return null;
+        }
+        File gitDir = GitHeadReader.findGitDir(workTree);
+        GitHead head = GitHeadReader.read(gitDir);
+        if (head == null) {
+            head = JGitHeadReader.read(gitDir);
+        }
+        String remoteUrl = head.getRemoteOriginUrl();
+        if (remoteUrl == null) {
+            String url = parentConfig == null ? null : parentConfig.get(SUBMODULE_SECTION, name, GitHeadReader.URL);
+            remoteUrl = resolveUrl(parent.head.getRemoteOriginUrl(), url == null ? gitmodules.get(SUBMODULE_SECTION, name, GitHeadReader.URL) : url);
+        }
+        String fullPath = parent.path.isEmpty() ? path : parent.path + "/" + path;
+        return new Submodule(fullPath, workTree, gitDir, new GitHead(head.getRef(), head.getCommit(), remoteUrl));
+    }
+
+    private static boolean isInside(File file, File directory) throws IOException {
+        return file.getCanonicalPath().startsWith(directory.getCanonicalPath() + File.separator);
+    }
+
+    /**
+     * Resolves a submodule URL that starts with {@code ./} or {@code ../} against the URL of its parent, the way Git does.
+     * Other URLs are returned unchanged.
+     */
+    static String resolveUrl(String parentUrl, String url) {
+        if (url == null || parentUrl == null || !(url.startsWith("./") || url.startsWith("../"))) {
+            return url;
+        }
+        String base = parentUrl;
+        while (base.endsWith("/")) {
+            base = base.substring(0, base.length() - 1);
+        }
+        String relative = url;
+        while (true) {
+            if (relative.startsWith("./")) {
+                relative = relative.substring(2);
+            } else if (relative.startsWith("../")) {
+                relative = relative.substring(3);
+                // Both path separators and the colon of scp-like URLs such as git@github.com:org/repo.git end a component
+                int separator = Math.max(base.lastIndexOf('/'), base.lastIndexOf(':'));
+                base = separator < 0 ? "" : base.substring(0, separator + (base.charAt(separator) == ':' ? 1 : 0));
+            } else {
+                break;
+            }
+        }
+        if (base.isEmpty() || base.endsWith(":")) {
+            return base + relative;
+        }
+        return base + "/" + relative;
+    }
+
+    /**
+     * A submodule declared in the {@code .gitmodules} file of its parent.
+     */
+    private static final class Declaration {
+
+        private final Submodule parent;
+        private final String name;
+        private final GitHeadReader.Config gitmodules;
+        private final GitHeadReader.Config parentConfig;
+
+        private Declaration(Submodule parent, String name, GitHeadReader.Config gitmodules, GitHeadReader.Config parentConfig) {
+            this.parent = parent;
+            this.name = name;
+            this.gitmodules = gitmodules;
+            this.parentConfig = parentConfig;
+        }
+
+    }
+
+    static final class Submodule {
+
+        private final String path;
+        private final File workTree;
+        private final File gitDir;
+        private final GitHead head;
+
+        private Submodule(String path, File workTree, File gitDir, GitHead head) {
+            this.path = path;
+            this.workTree = workTree;
+            this.gitDir = gitDir;
+            this.head = head;
+        }
+
+        /**
+         * Returns the path of the submodule relative to the top of the outermost working tree, separated by {@code /}.
+         */
+        String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the HEAD of the submodule. Its remote URL falls back to the URL recorded for the submodule in its parent.
+         */
+        GitHead getHead() {
+            return head;
+        }
+    }
+
+}
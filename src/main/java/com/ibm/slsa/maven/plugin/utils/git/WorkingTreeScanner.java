@@ -0,0 +1,236 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.dircache.DirCacheIterator;
+import org.eclipse.jgit.dircache.DirCacheTree;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.eclipse.jgit.util.FS;
+
+import com.ibm.slsa.maven.plugin.utils.concurrent.ParallelTasks;
+
+/**
+ * Finds the tracked files of a working tree that differ from the commit checked out. Like {@code git status}, it trusts the stat
+ * data recorded in the index: only files whose type, size, or modification time differ from the index, or that were modified
+ * too recently for the index to tell, are hashed. The directories of the working tree are checked in parallel. The index is
+ * compared with the commit through the tree cached in the index, so the commit's trees are only read after files were staged.
+ * <p>
+ * Filters from {@code .gitattributes} aren't applied, so a filtered file whose stat data changed but whose content didn't is
+ * reported as changed. Submodules aren't checked.
+ */
+class WorkingTreeScanner {
+
+    private static final String INDEX = "index";
+    private static final String CONFIG = "config";
+    private static final String CORE_SECTION = "core";
+    private static final String FILE_MODE = "filemode";
+    private static final String AUTO_CRLF = "autocrlf";
+
+    private final File workTree;
+    private final Instant indexModified;
+    private final boolean checkFileMode;
+    private final boolean autoCrlf;
+    private final Class<? extends BasicFileAttributes> attributesType;
+
+    private WorkingTreeScanner(File workTree, Instant indexModified, GitHeadReader.Config config) {
+        this.workTree = workTree;
+        this.indexModified = indexModified;
+        String fileMode = config == null ? null : config.get(CORE_SECTION, null, FILE_MODE);
+        String autoCrlf = config == null ? null : config.get(CORE_SECTION, null, AUTO_CRLF);
+        this.checkFileMode = !"false".equalsIgnoreCase(fileMode) && FS.DETECTED.supportsExecute()
+                && FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        this.autoCrlf = "true".equalsIgnoreCase(autoCrlf) || "input".equalsIgnoreCase(autoCrlf);
+        this.attributesType = checkFileMode ? PosixFileAttributes.class : BasicFileAttributes.class;
+    }
+
+    /**
+     * Compares the working tree and the index of the repository with the given Git directory with the given commit, checking
+     * the working tree on at most {@code maxThreads} threads.
+     */
+    static WorkingTreeStatus scan(File gitDir, File workTree, String commit, int maxThreads) throws IOException {
+        File commonDir = GitHeadReader.getCommonDir(gitDir);
+        File indexFile = new File(gitDir, INDEX);
+        // The index is read before its timestamp so that a file written after the index was read is always hashed
+        DirCache index = DirCache.read(indexFile, FS.DETECTED);
+        Instant indexModified = indexFile.isFile() ? Files.getLastModifiedTime(indexFile.toPath()).toInstant() : Instant.EPOCH;
+        WorkingTreeScanner scanner = new WorkingTreeScanner(workTree, indexModified, GitHeadReader.Config.read(new File(commonDir, CONFIG)));
+
+        List<String> changedPaths = new ArrayList<>();
+        addStagedPaths(index, commonDir, commit, changedPaths);
+        scanner.addModifiedPaths(index, maxThreads, changedPaths);
+        return new WorkingTreeStatus(changedPaths);
+    }
+
+    /**
+     * Adds the paths whose entries in the index differ from the commit. When the tree cached in the index is up to date and
+     * matches the commit's tree, nothing was staged and the commit's trees aren't read.
+     */
+    private static void addStagedPaths(DirCache index, File commonDir, String commit, Collection<String> changedPaths) throws IOException {
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(commonDir).setBare().build(); RevWalk revWalk = new RevWalk(repository)) {
+            ObjectId tree = revWalk.parseCommit(ObjectId.fromString(commit)).getTree();
+            DirCacheTree cacheTree = index.getCacheTree(false);
+            if (cacheTree != null && cacheTree.isValid() && tree.equals(cacheTree.getObjectId())) {
+                return;
+            }
+            try (TreeWalk treeWalk = new TreeWalk(repository)) {
+                treeWalk.setRecursive(true);
+                treeWalk.addTree(tree);
+                treeWalk.addTree(new DirCacheIterator(index));
+                treeWalk.setFilter(TreeFilter.ANY_DIFF);
+                while (treeWalk.next()) {
+                    changedPaths.add(treeWalk.getPathString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the paths whose files in the working tree differ from their entries in the index. The entries are grouped by
+     * directory, and each directory is checked as one task so that the files of a directory are read together.
+     */
+    private void addModifiedPaths(DirCache index, int maxThreads, Collection<String> changedPaths) throws IOException {
+        Map<String, List<DirCacheEntry>> directories = new LinkedHashMap<>();
+        for (int i = 0; i < index.getEntryCount(); i++) {
+            DirCacheEntry entry = index.getEntry(i);
+            String path = entry.getPathString();
+            int separator = path.lastIndexOf('/');
+            directories.computeIfAbsent(separator < 0 ? "" : path.substring(0, separator), directory -> new ArrayList<>()).add(entry);
+        }
+        if (directories.isEmpty()) {
+            return;
+        }
+        for (List<String> modifiedPaths : ParallelTasks.map(directories.values(), maxThreads, this::getModifiedPaths)) {
+            changedPaths.addAll(modifiedPaths);
+        }
+    }
+
+    private List<String> getModifiedPaths(List<DirCacheEntry> entries) throws IOException {
+        List<String> modifiedPaths = new ArrayList<>();
+        for (DirCacheEntry entry : entries) {
+            if (isModified(entry)) {
+                modifiedPaths.add(entry.getPathString());
+            }
+        }
+        return modifiedPaths;
+    }
+
+    private boolean isModified(DirCacheEntry entry) throws IOException {
+        if (entry.getStage() != DirCacheEntry.STAGE_0 || entry.isIntentToAdd()) {
+            // Unmerged and newly added paths are never part of the commit
+            return true;
+        }
+        FileMode mode = entry.getFileMode();
+        if (entry.isAssumeValid() || entry.isSkipWorkTree() || mode == FileMode.GITLINK) {
+            return false;
+        }
+        Path file = workTree.toPath().resolve(entry.getPathString());
+        BasicFileAttributes attributes;
+        try {
+            // The permissions come with the same stat call, instead of checking whether the file is executable separately
+            attributes = Files.readAttributes(file, attributesType, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return true;
+        }
+        if (mode == FileMode.SYMLINK ? !attributes.isSymbolicLink() : !attributes.isRegularFile()) {
+            return true;
+        }
+        if (checkFileMode && mode != FileMode.SYMLINK
+                && (mode == FileMode.EXECUTABLE_FILE) != ((PosixFileAttributes) attributes).permissions().contains(PosixFilePermission.OWNER_EXECUTE)) {
+            return true;
+        }
+        if (entry.isSmudged()) {
+            // Git zeroes the size of entries it couldn't tell were clean when it wrote the index
+            return !hasSameContent(file, entry, attributes);
+        }
+        // The index only records the lower 32 bits of the size
+        boolean sameSize = (int) attributes.size() == entry.getLength();
+        if (!sameSize && !autoCrlf) {
+            return true;
+        }
+        if (sameSize && isSameTime(attributes.lastModifiedTime().toInstant(), entry.getLastModifiedInstant()) && !entry.mightBeRacilyClean(indexModified)) {
+            return false;
+        }
+        return !hasSameContent(file, entry, attributes);
+    }
+
+    /**
+     * Compares modification times at the precision of the coarser of the two, since either the index or the file system may not
+     * record nanoseconds.
+     */
+    private static boolean isSameTime(Instant fileTime, Instant indexTime) {
+        if (fileTime.getNano() == 0 || indexTime.getNano() == 0) {
+            return fileTime.getEpochSecond() == indexTime.getEpochSecond();
+        }
+        return fileTime.equals(indexTime);
+    }
+
+    private boolean hasSameContent(Path file, DirCacheEntry entry, BasicFileAttributes attributes) throws IOException {
+        ObjectInserter.Formatter formatter = new ObjectInserter.Formatter();
+        if (attributes.isSymbolicLink()) {
+            byte[] target = Files.readSymbolicLink(file).toString().replace(File.separatorChar, '/').getBytes(StandardCharsets.UTF_8);
+            return formatter.idFor(Constants.OBJ_BLOB, target).equals(entry.getObjectId());
+        }
+        if (!autoCrlf) {
+            try (InputStream in = Files.newInputStream(file)) {
+                return formatter.idFor(Constants.OBJ_BLOB, attributes.size(), in).equals(entry.getObjectId());
+            }
+        }
+        byte[] content = Files.readAllBytes(file);
+        if (formatter.idFor(Constants.OBJ_BLOB, content).equals(entry.getObjectId())) {
+            return true;
+        }
+        byte[] normalized = normalizeLineEndings(content);
+        return normalized != null && formatter.idFor(Constants.OBJ_BLOB, normalized).equals(entry.getObjectId());
+    }
+
+    /**
+     * Converts CRLF line endings to LF the way Git does when {@code core.autocrlf} is set. Returns {@code null} if the content is
+     * binary or has no CRLF line endings.
+     */
+    private static byte[] normalizeLineEndings(byte[] content) {
+        byte[] normalized = new byte[content.length];
+        int length = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == 0) {
+                return null;
+            }
+            if (content[i] != '\r' || i + 1 >= content.length || content[i + 1] != '\n') {
+                normalized[length++] = content[i];
+            }
+        }
+        if (length == content.length) {
+            return null;
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(normalized, 0, result, 0, length);
+        return result;
+    }
+
+}
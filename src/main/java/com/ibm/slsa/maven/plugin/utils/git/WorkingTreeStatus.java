@@ -0,0 +1,71 @@
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+/**
+ * Whether the working tree of a Git repository has changes to tracked files that aren't committed, either in the working tree
+ * or staged in the index. Untracked files aren't considered.
+ */
+public class WorkingTreeStatus {
+
+    public static final String KEY_CLEAN = "clean";
+    public static final String KEY_CHANGED_PATHS_DIGEST = "changedPathsDigest";
+
+    private final List<String> changedPaths;
+
+    /**
+     * @param changedPaths The paths, relative to the top of the working tree and separated by {@code /}, that differ from the
+     *            commit checked out. Duplicates are ignored.
+     */
+    public WorkingTreeStatus(Collection<String> changedPaths) {
+        this.changedPaths = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(changedPaths)));
+    }
+
+    public boolean isClean() {
+        return changedPaths.isEmpty();
+    }
+
+    /**
+     * Returns the changed paths in sorted order.
+     */
+    public List<String> getChangedPaths() {
+        return changedPaths;
+    }
+
+    /**
+     * Returns the SHA-256 digest of the sorted changed paths, each followed by a line feed, or {@code null} if the working tree
+     * is clean. Two builds with the same digest changed the same files, though not necessarily in the same way.
+     */
+    public String getChangedPathsDigest() throws IOException {
+        if (isClean()) {
+            return null;
+        }
+        MessageDigest digest = DigestUtils.createMessageDigest(DigestUtils.ALG_SHA256);
+        for (String path : changedPaths) {
+            digest.update((path + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return DigestUtils.toHex(digest.digest());
+    }
+
+    public JsonObject toJson() throws IOException {
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
+        builder.add(KEY_CLEAN, isClean());
+        if (!isClean()) {
+            builder.add(KEY_CHANGED_PATHS_DIGEST, JsonFactories.createObjectBuilder().add(DigestUtils.ALG_SHA256, getChangedPathsDigest()));
+        }
+        return builder.build();
+    }
+
+}
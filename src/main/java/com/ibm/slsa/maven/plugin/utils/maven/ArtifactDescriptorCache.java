@@ -0,0 +1,171 @@
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+
+/**
+ * Shares {@link MavenArtifactResourceDescriptor}s between every module in a Maven session. Most modules of a reactor depend on
+ * the same artifacts, so each descriptor is built once per build and every other module only pays for a hash lookup.
+ * Descriptors are keyed by the coordinates they are built from: group ID, artifact ID, version, classifier, type, and scope,
+ * along with the digest of the artifact's file when it was resolved.
+ * <p>
+ * Each entry is a {@link SerializedDescriptor}, so every module is given the same JSON, with the strings it holds, and the same
+ * canonical serialization, which is copied into the provenance file rather than serialized again. The cache holds at most
+ * {@code maxEntries} descriptors and evicts the oldest when it is full. Safe to use from concurrent module builds.
+ */
+public class ArtifactDescriptorCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final SessionScopedValues<ArtifactDescriptorCache> SESSION_CACHES = new SessionScopedValues<>(ArtifactDescriptorCache::new);
+
+    private final int maxEntries;
+    private final Map<Key, SerializedDescriptor> descriptors = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ArtifactDescriptorCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ArtifactDescriptorCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public static ArtifactDescriptorCache forSession(MavenSession mavenSession) {
+        return SESSION_CACHES.get(mavenSession);
+    }
+
+    /**
+     * Returns the resource descriptor of the given dependency.
+     */
+    public SerializedDescriptor getDescriptor(Dependency dependency) {
+        Key key = new Key(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(), dependency.getClassifier(), dependency.getType(), dependency.getScope(), null);
+        SerializedDescriptor descriptor = descriptors.get(key);
+        if (descriptor != null) {
+            hits.incrementAndGet();
+            return descriptor;
+        }
+        return put(key, new SerializedDescriptor(new MavenArtifactResourceDescriptor(dependency).toJson()));
+    }
+
+    /**
+     * Returns the resource descriptor of the given resolved artifact, with the given digest of its file if it isn't {@code null}.
+     */
+    public SerializedDescriptor getDescriptor(Artifact artifact, DigestSet digest) {
+        Key key = new Key(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), artifact.getClassifier(), artifact.getType(), artifact.getScope(), digest);
+        SerializedDescriptor descriptor = descriptors.get(key);
+        if (descriptor != null) {
+            hits.incrementAndGet();
+            return descriptor;
+        }
+        return put(key, SerializedDescriptor.of(new MavenArtifactResourceDescriptor(toDependency(artifact)).toJson(), digest));
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private SerializedDescriptor put(Key key, SerializedDescriptor descriptor) {
+        misses.incrementAndGet();
+        SerializedDescriptor existing = descriptors.putIfAbsent(key, descriptor);
+        if (existing != null) {
+            // Another module built the same descriptor at the same time
+            return existing;
+        }
+        insertionOrder.add(key);
+        if (size.incrementAndGet() > maxEntries) {
+            evict();
+        }
+        return descriptor;
+    }
+
+    private void evict() {
+        while (size.get() > maxEntries) {
+            Key oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            if (descriptors.remove(oldest) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    static Dependency toDependency(Artifact artifact) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(artifact.getGroupId());
+        dependency.setArtifactId(artifact.getArtifactId());
+        dependency.setVersion(artifact.getVersion());
+        dependency.setClassifier(artifact.getClassifier());
+        dependency.setScope(artifact.getScope());
+        dependency.setType(artifact.getType());
+        return dependency;
+    }
+
+    private static final class Key {
+
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String classifier;
+        private final String type;
+        private final String scope;
+        private final DigestSet digest;
+        private final int hashCode;
+
+        Key(String groupId, String artifactId, String version, String classifier, String type, String scope, DigestSet digest) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.classifier = classifier;
+            this.type = type;
+            this.scope = scope;
+            this.digest = digest;
+            this.hashCode = Objects.hash(groupId, artifactId, version, classifier, type, scope, digest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hashCode == other.hashCode && Objects.equals(groupId, other.groupId) && Objects.equals(artifactId, other.artifactId)
+                    && Objects.equals(version, other.version) && Objects.equals(classifier, other.classifier) && Objects.equals(type, other.type)
+                    && Objects.equals(scope, other.scope) && Objects.equals(digest, other.digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
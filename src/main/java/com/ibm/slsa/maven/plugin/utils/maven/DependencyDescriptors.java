@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.JsonWritable;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * The resource descriptors of a project's dependencies, in the order they are recorded in the resolved dependencies. Each entry
+ * is a {@link SerializedDescriptor}, usually the one shared through the {@link ArtifactDescriptorCache}, so when the provenance is
+ * streamed in canonical form each dependency is copied into the stream from its cached serialization. No array is built unless the
+ * provenance is built in memory.
+ */
+public class DependencyDescriptors implements JsonWritable {
+
+    private final List<SerializedDescriptor> entries = new ArrayList<>();
+
+    /**
+     * Adds the given descriptor, with the given digest if it isn't {@code null}.
+     */
+    public DependencyDescriptors add(JsonObject descriptor, DigestSet digest) {
+        entries.add(SerializedDescriptor.of(descriptor, digest));
+        return this;
+    }
+
+    public DependencyDescriptors add(SerializedDescriptor descriptor) {
+        entries.add(descriptor);
+        return this;
+    }
+
+    public DependencyDescriptors addAll(DependencyDescriptors descriptors) {
+        entries.addAll(descriptors.entries);
+        return this;
+    }
+
+    /**
+     * Returns the descriptors without duplicates, keeping the first occurrence of each.
+     */
+    public DependencyDescriptors distinct() {
+        DependencyDescriptors distinct = new DependencyDescriptors();
+        distinct.entries.addAll(new LinkedHashSet<>(entries));
+        return distinct;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public JsonArray toJson() {
+        JsonArrayBuilder builder = JsonFactories.createArrayBuilder();
+        for (SerializedDescriptor entry : entries) {
+            builder.add(entry.toJson());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartArray();
+        for (SerializedDescriptor entry : entries) {
+            entry.writeJson(generator);
+        }
+        generator.writeEnd();
+    }
+
+}
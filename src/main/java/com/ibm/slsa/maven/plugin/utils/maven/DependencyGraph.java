@@ -0,0 +1,135 @@
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.JsonWritable;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A deduplicated graph of resolved dependencies, built from the resolved dependency graph of a project or, when it isn't
+ * available, from the dependency trails of the resolved artifacts. Each unique artifact ID is stored once in the list of nodes,
+ * and each edge refers to the nodes it connects by their index in that list, so the memory used and the size of the JSON grow
+ * with the number of unique artifacts and edges rather than with the number of paths through the graph.
+ * <p>
+ * The JSON form is an object with a {@code nodes} array of artifact IDs ({@code groupId:artifactId:type[:classifier]:version})
+ * and an {@code edges} array of {@code [from, to]} index pairs, where {@code from} depends on {@code to}. The first node is the
+ * project whose dependencies were resolved. The graph can be written directly to a {@link JsonGenerator}, so it is never built
+ * as a JSON object when the provenance is streamed.
+ */
+public class DependencyGraph implements JsonWritable {
+
+    public static final String KEY_NODES = "nodes";
+    public static final String KEY_EDGES = "edges";
+
+    private final List<String> nodes = new ArrayList<>();
+    private final Map<String, Integer> nodeIndexes = new HashMap<>();
+    // Each edge is stored as two consecutive indexes, rather than as an array per edge
+    private int[] edges = new int[16];
+    private int edgeCount = 0;
+    private final Set<Long> edgeKeys = new HashSet<>();
+
+    /**
+     * Adds the given node if it hasn't been added yet. The first node added should be the project.
+     */
+    public void addNode(String node) {
+        getNodeIndex(node);
+    }
+
+    /**
+     * Adds an edge from a node to one of its direct dependencies, adding either node if it hasn't been added yet.
+     */
+    public void addDependency(String node, String dependency) {
+        int from = getNodeIndex(node);
+        int to = getNodeIndex(dependency);
+        if (from != to) {
+            addEdge(from, to);
+        }
+    }
+
+    /**
+     * Adds the path from a project to one of its resolved artifacts, starting with the project and ending with the artifact.
+     */
+    public void addTrail(List<String> trail) {
+        int previous = -1;
+        for (String node : trail) {
+            int current = getNodeIndex(node);
+            if (previous >= 0 && previous != current) {
+                addEdge(previous, current);
+            }
+            previous = current;
+        }
+    }
+
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    @Override
+    public JsonObject toJson() {
+        JsonArrayBuilder nodesBuilder = JsonFactories.createArrayBuilder();
+        for (String node : nodes) {
+            nodesBuilder.add(node);
+        }
+        JsonArrayBuilder edgesBuilder = JsonFactories.createArrayBuilder();
+        for (int i = 0; i < edgeCount; i++) {
+            edgesBuilder.add(JsonFactories.createArrayBuilder().add(edges[2 * i]).add(edges[2 * i + 1]));
+        }
+        return JsonFactories.createObjectBuilder().add(KEY_NODES, nodesBuilder).add(KEY_EDGES, edgesBuilder).build();
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.writeStartArray(KEY_EDGES);
+        for (int i = 0; i < edgeCount; i++) {
+            generator.writeStartArray().write(edges[2 * i]).write(edges[2 * i + 1]).writeEnd();
+        }
+        generator.writeEnd();
+        generator.writeStartArray(KEY_NODES);
+        for (String node : nodes) {
+            generator.write(node);
+        }
+        generator.writeEnd();
+        generator.writeEnd();
+    }
+
+    private int getNodeIndex(String node) {
+        Integer index = nodeIndexes.get(node);
+        if (index == null) {
+            index = nodes.size();
+            nodes.add(node);
+            nodeIndexes.put(node, index);
+        }
+        return index;
+    }
+
+    private void addEdge(int from, int to) {
+        if (edgeKeys.add(((long) from << 32) | to)) {
+            if (2 * edgeCount == edges.length) {
+                edges = Arrays.copyOf(edges, 2 * edges.length);
+            }
+            edges[2 * edgeCount] = from;
+            edges[2 * edgeCount + 1] = to;
+            edgeCount++;
+        }
+    }
+
+}
@@ -1,17 +1,36 @@
 package com.ibm.slsa.maven.plugin.utils.maven;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.project.DefaultDependencyResolutionRequest;
+import org.apache.maven.project.DependencyResolutionException;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectDependenciesResolver;
+import org.eclipse.aether.artifact.ArtifactProperties;
+import org.eclipse.aether.graph.DependencyNode;
 
-import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
-import jakarta.json.Json;
-import jakarta.json.JsonArrayBuilder;
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.jfr.EventScope;
+import com.ibm.slsa.maven.plugin.jfr.ProvenanceEvents;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 
@@ -19,14 +38,16 @@ public class MavenUtils {
 
     private MavenProject project;
     private MavenSession mavenSession;
+    private ArtifactDescriptorCache descriptorCache;
 
     public MavenUtils(MavenProject project, MavenSession mavenSession) {
         this.project = project;
         this.mavenSession = mavenSession;
+        this.descriptorCache = mavenSession == null ? new ArtifactDescriptorCache() : ArtifactDescriptorCache.forSession(mavenSession);
     }
 
     public JsonObject getMavenSessionUserProperties() {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
+        JsonObjectBuilder builder = JsonFactories.createObjectBuilder();
         Properties userProps = mavenSession.getUserProperties();
         if (userProps != null) {
             for (Entry<Object, Object> userProp : userProps.entrySet()) {
@@ -36,16 +57,167 @@ public class MavenUtils {
         return builder.build();
     }
 
-    public void addMavenProjectDependencies(JsonArrayBuilder builder) {
-        List<Dependency> dependencies = project.getDependencies();
-        Stream<Dependency> dependenciesStream = dependencies.stream();
-        dependenciesStream.forEach(d -> {
-            MavenArtifactResourceDescriptor artifact = new MavenArtifactResourceDescriptor(d);
-            String scope = d.getScope();
-            if (!isMavenArtifactScopeToIgnore(scope)) {
-                builder.add(artifact.toJson());
+    public void addMavenProjectDependencies(DependencyDescriptors descriptors) {
+        try (EventScope event = ProvenanceEvents.dependencyEnumeration(project.getId(), false)) {
+            List<Dependency> dependencies = project.getDependencies();
+            Stream<Dependency> dependenciesStream = dependencies.stream();
+            dependenciesStream.forEach(d -> {
+                String scope = d.getScope();
+                if (!isMavenArtifactScopeToIgnore(scope)) {
+                    descriptors.add(descriptorCache.getDescriptor(d));
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds every non-test artifact resolved for the project, including transitive dependencies, along with the digest of the
+     * artifact's file. Digests are taken from the local repository's checksum files when {@code checksums} is not {@code null}
+     * and they are available, and the remaining files are hashed on a pool of at most {@code maxThreads} threads. Artifacts whose
+     * files are not available are added without a digest.
+     */
+    public void addResolvedMavenProjectDependencies(DependencyDescriptors descriptors, DigestUtils digestUtils, RepositoryChecksums checksums, int maxThreads) throws IOException {
+        try (EventScope event = ProvenanceEvents.dependencyEnumeration(project.getId(), true)) {
+            List<Artifact> artifacts = getResolvedArtifacts();
+            Map<File, DigestSet> digests = new HashMap<>();
+            Set<File> files = new HashSet<>();
+            List<File> filesToHash = new ArrayList<>();
+            for (Artifact artifact : artifacts) {
+                File file = artifact.getFile();
+                if (!isResolvedFile(file) || !files.add(file)) {
+                    continue;
+                }
+                DigestSet recordedChecksums = checksums == null ? null : checksums.getChecksums(file);
+                if (recordedChecksums != null) {
+                    digests.put(file, recordedChecksums);
+                }
+                if (recordedChecksums == null || checksums.shouldVerify()) {
+                    filesToHash.add(file);
+                }
+            }
+            List<DigestSet> calculatedDigests = digestUtils.getDigests(filesToHash, maxThreads);
+            for (int i = 0; i < filesToHash.size(); i++) {
+                File file = filesToHash.get(i);
+                DigestSet recordedChecksums = digests.put(file, calculatedDigests.get(i));
+                if (recordedChecksums != null && !recordedChecksums.equals(calculatedDigests.get(i))) {
+                    throw new IOException("The checksum files of " + file.getAbsolutePath() + " do not match its contents.");
+                }
+            }
+            for (Artifact artifact : artifacts) {
+                descriptors.add(descriptorCache.getDescriptor(artifact, digests.get(artifact.getFile())));
+            }
+        }
+    }
+
+    /**
+     * Adds the resolved dependency graph of the project to the given graph, without the test dependencies. The graph is collected
+     * by the given resolver, the same way Maven resolved the project's dependencies, but none of the artifacts are resolved
+     * again. When {@code resolver} is {@code null}, the graph is rebuilt from the dependency trails of the resolved artifacts
+     * instead.
+     */
+    public void addDependencyGraph(DependencyGraph graph, ProjectDependenciesResolver resolver) throws IOException {
+        if (resolver == null) {
+            addDependencyTrails(graph);
+            return;
+        }
+        DefaultDependencyResolutionRequest request = new DefaultDependencyResolutionRequest(project, mavenSession.getRepositorySession());
+        // Only the graph is needed, and every artifact in it was already resolved for the build
+        request.setResolutionFilter((node, parents) -> false);
+        DependencyNode root;
+        try {
+            root = resolver.resolve(request).getDependencyGraph();
+        } catch (DependencyResolutionException e) {
+            throw new IOException("Could not collect the dependency graph of project " + project.getId() + ": " + e.getMessage(), e);
+        }
+        String projectId = getProjectArtifactId();
+        graph.addNode(projectId);
+        if (root == null) {
+            return;
+        }
+        // Nodes are shared by every dependent that resolved to the same artifact, so each node's dependencies are only added once
+        Set<DependencyNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<DependencyNode> pending = new ArrayDeque<>();
+        Map<DependencyNode, String> ids = new IdentityHashMap<>();
+        ids.put(root, projectId);
+        pending.push(root);
+        visited.add(root);
+        while (!pending.isEmpty()) {
+            DependencyNode node = pending.pop();
+            String nodeId = ids.get(node);
+            for (DependencyNode child : node.getChildren()) {
+                if (child.getArtifact() == null || child.getDependency() == null || isMavenArtifactScopeToIgnore(child.getDependency().getScope())) {
+                    continue;
+                }
+                String childId = ids.computeIfAbsent(child, MavenUtils::getArtifactId);
+                graph.addDependency(nodeId, childId);
+                if (visited.add(child)) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the dependency trail of every non-test artifact resolved for the project to the given graph. Artifacts without a
+     * dependency trail are added as direct dependencies of the project.
+     */
+    public void addDependencyTrails(DependencyGraph graph) {
+        for (Artifact artifact : getResolvedArtifacts()) {
+            List<String> trail = artifact.getDependencyTrail();
+            if (trail == null || trail.isEmpty()) {
+                trail = new ArrayList<>();
+                trail.add(getProjectArtifactId());
+                trail.add(artifact.getId());
             }
-        });
+            graph.addTrail(trail);
+        }
+    }
+
+    /**
+     * Returns the files of every non-test artifact resolved for the project.
+     */
+    public List<File> getResolvedArtifactFiles() {
+        List<File> files = new ArrayList<>();
+        for (Artifact artifact : getResolvedArtifacts()) {
+            if (isResolvedFile(artifact.getFile())) {
+                files.add(artifact.getFile());
+            }
+        }
+        return files;
+    }
+
+    private List<Artifact> getResolvedArtifacts() {
+        List<Artifact> artifacts = new ArrayList<>();
+        Set<Artifact> resolvedArtifacts = project.getArtifacts();
+        if (resolvedArtifacts != null) {
+            for (Artifact artifact : resolvedArtifacts) {
+                if (!isMavenArtifactScopeToIgnore(artifact.getScope())) {
+                    artifacts.add(artifact);
+                }
+            }
+        }
+        return artifacts;
+    }
+
+    private String getProjectArtifactId() {
+        return project.getArtifact() == null ? project.getId() : project.getArtifact().getId();
+    }
+
+    /**
+     * Returns the ID of the node's artifact in the same form as {@link Artifact#getId()}.
+     */
+    private static String getArtifactId(DependencyNode node) {
+        org.eclipse.aether.artifact.Artifact artifact = node.getArtifact();
+        StringBuilder id = new StringBuilder(artifact.getGroupId()).append(':').append(artifact.getArtifactId());
+        id.append(':').append(artifact.getProperty(ArtifactProperties.TYPE, artifact.getExtension()));
+        if (!artifact.getClassifier().isEmpty()) {
+            id.append(':').append(artifact.getClassifier());
+        }
+        return id.append(':').append(artifact.getBaseVersion()).toString();
+    }
+
+    private boolean isResolvedFile(File file) {
+        return file != null && file.isFile();
     }
 
     private boolean isMavenArtifactScopeToIgnore(String scope) {
@@ -0,0 +1,89 @@
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+
+/**
+ * Reads the checksum files that Maven writes next to the artifacts it downloads into the local repository (for example
+ * {@code foo-1.0.jar.sha1}), so that the digests of dependency artifacts can be recorded without reading the artifacts
+ * themselves.
+ * <p>
+ * Checksums are only used for files inside the local repository, and only when a checksum file exists for every requested
+ * algorithm and none of them is older than the artifact. Otherwise the artifact has to be hashed. Because the checksum files are
+ * trusted as they are, a fraction of the artifacts can be selected for verification against their actual contents.
+ */
+public class RepositoryChecksums {
+
+    private static final Pattern HEX = Pattern.compile("[0-9a-f]+");
+
+    private final Path localRepository;
+    private final Map<String, Integer> checksumLengths = new LinkedHashMap<>();
+    private final double verificationRate;
+
+    /**
+     * @param localRepository The base directory of the local repository.
+     * @param algorithms The digest algorithms whose checksums are needed.
+     * @param verificationRate The fraction of artifacts, between 0 and 1, whose checksums should be verified.
+     */
+    public RepositoryChecksums(File localRepository, List<String> algorithms, double verificationRate) throws IOException {
+        this.localRepository = localRepository.getAbsoluteFile().toPath().normalize();
+        for (String algorithm : algorithms) {
+            checksumLengths.put(algorithm, DigestUtils.createMessageDigest(algorithm).getDigestLength() * 2);
+        }
+        this.verificationRate = verificationRate;
+    }
+
+    /**
+     * Returns the digests recorded in the checksum files of the given artifact, or {@code null} if the artifact is not in the
+     * local repository or doesn't have fresh, well-formed checksum files for all of the algorithms.
+     */
+    public DigestSet getChecksums(File artifactFile) {
+        if (!artifactFile.getAbsoluteFile().toPath().normalize().startsWith(localRepository)) {
+            return null;
+        }
+        long artifactLastModified = artifactFile.lastModified();
+        DigestSet checksums = new DigestSet();
+        for (Map.Entry<String, Integer> checksumLength : checksumLengths.entrySet()) {
+            File checksumFile = new File(artifactFile.getPath() + "." + checksumLength.getKey());
+            if (!checksumFile.isFile() || checksumFile.lastModified() < artifactLastModified) {
+                return null;
+            }
+            String checksum = readChecksum(checksumFile);
+            if (checksum == null || checksum.length() != checksumLength.getValue() || !HEX.matcher(checksum).matches()) {
+                return null;
+            }
+            checksums.put(checksumLength.getKey(), checksum);
+        }
+        return checksums;
+    }
+
+    /**
+     * Returns whether the checksums of the next artifact should be verified against its contents.
+     */
+    public boolean shouldVerify() {
+        return verificationRate > 0 && ThreadLocalRandom.current().nextDouble() < verificationRate;
+    }
+
+    private String readChecksum(File checksumFile) {
+        try {
+            // Some tools append the file name after the checksum
+            String contents = new String(Files.readAllBytes(checksumFile.toPath()), StandardCharsets.US_ASCII).trim();
+            String[] tokens = contents.split("\\s+", 2);
+            return tokens[0].toLowerCase();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.CanonicalJsonGenerator;
+import com.ibm.slsa.JsonFactories;
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * The JSON of a resource descriptor, along with its canonical UTF-8 serialization. The serialization is made the first time the
+ * descriptor is written to a {@link CanonicalJsonGenerator} and is copied as is into every later provenance file, so a
+ * descriptor shared through the {@link ArtifactDescriptorCache} is serialized once per build rather than once per module.
+ */
+public final class SerializedDescriptor {
+
+    private final JsonObject json;
+    private volatile byte[] canonicalJson;
+
+    SerializedDescriptor(JsonObject json) {
+        this.json = json;
+    }
+
+    /**
+     * Returns the given descriptor with the given digest, if it isn't {@code null}.
+     */
+    static SerializedDescriptor of(JsonObject descriptor, DigestSet digest) {
+        if (digest == null) {
+            return new SerializedDescriptor(descriptor);
+        }
+        return new SerializedDescriptor(JsonFactories.createObjectBuilder(descriptor).add(ResourceDescriptor.KEY_DIGEST, digest.toJson()).build());
+    }
+
+    public JsonObject toJson() {
+        return json;
+    }
+
+    /**
+     * Writes the descriptor to the given generator, as an array element or after a key. A {@link CanonicalJsonGenerator} is given
+     * the cached serialization; any other generator is given the JSON.
+     */
+    public void writeJson(JsonGenerator generator) {
+        if (generator instanceof CanonicalJsonGenerator) {
+            byte[] bytes = canonicalJson;
+            if (bytes == null) {
+                // Concurrent modules may both serialize the descriptor, but they produce the same bytes
+                bytes = CanonicalJson.toBytes(json);
+                canonicalJson = bytes;
+            }
+            ((CanonicalJsonGenerator) generator).writeFragment(bytes);
+        } else {
+            generator.write(json);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SerializedDescriptor)) {
+            return false;
+        }
+        return json.equals(((SerializedDescriptor) o).json);
+    }
+
+    @Override
+    public int hashCode() {
+        return json.hashCode();
+    }
+
+}
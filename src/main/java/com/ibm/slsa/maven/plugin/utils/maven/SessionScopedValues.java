@@ -0,0 +1,34 @@
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Holds one value per Maven build, shared by every module in the reactor. Maven gives each module its own shallow copy of the
+ * {@link MavenSession}, so the values are keyed by the execution request that all of the copies share. Values are released
+ * along with the request once the build ends. Safe to use from concurrent module builds.
+ */
+public class SessionScopedValues<T> {
+
+    private final Map<Object, T> values = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Supplier<T> factory;
+
+    public SessionScopedValues(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public T get(MavenSession mavenSession) {
+        return values.computeIfAbsent(getBuildKey(mavenSession), key -> factory.get());
+    }
+
+    static Object getBuildKey(MavenSession mavenSession) {
+        MavenExecutionRequest request = mavenSession.getRequest();
+        return request == null ? mavenSession : request;
+    }
+
+}
@@ -2,16 +2,23 @@ package com.ibm.slsa.maven.plugin.utils.war;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.List;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 
+import com.ibm.slsa.maven.plugin.jfr.EventScope;
+import com.ibm.slsa.maven.plugin.jfr.ProvenanceEvents;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.MultipleWarsFoundException;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.WarException;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.WarNotFoundException;
 
 public class WarUtils {
 
+    public static final String WAR_TYPE = "war";
+    private static final String WAR_EXTENSION = ".war";
+
     private MavenProject project;
     private Log log;
 
@@ -20,9 +27,39 @@ public class WarUtils {
         this.log = log;
     }
 
+    /**
+     * Returns whether the project builds a .war file, judging only by its packaging and the artifacts in its model, so that
+     * projects without one can be skipped without looking at the file system.
+     */
+    public boolean buildsWar() {
+        if (WAR_TYPE.equals(project.getPackaging()) || isWar(project.getArtifact())) {
+            return true;
+        }
+        List<Artifact> attachedArtifacts = project.getAttachedArtifacts();
+        if (attachedArtifacts != null) {
+            for (Artifact artifact : attachedArtifacts) {
+                if (isWar(artifact)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isWar(Artifact artifact) {
+        if (artifact == null) {
+            return false;
+        }
+        File file = artifact.getFile();
+        return WAR_TYPE.equals(artifact.getType()) || (file != null && file.getName().endsWith(WAR_EXTENSION));
+    }
+
     public File getBuiltWar() throws WarException {
         File buildDirectory = new File(project.getBuild().getDirectory());
-        File[] wars = buildDirectory.listFiles(new WarFilenameFilter());
+        File[] wars;
+        try (EventScope event = ProvenanceEvents.warLookup(buildDirectory)) {
+            wars = buildDirectory.listFiles(new WarFilenameFilter());
+        }
         if (wars == null || wars.length == 0) {
             throw new WarNotFoundException(buildDirectory);
         }
@@ -37,7 +74,7 @@ public class WarUtils {
     private final class WarFilenameFilter implements FilenameFilter {
         @Override
         public boolean accept(File dir, String name) {
-            return name.endsWith(".war");
+            return name.endsWith(WAR_EXTENSION);
         }
     }
 
@@ -16,6 +16,8 @@
 */
 package com.ibm.slsa;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import org.junit.jupiter.api.Test;
 
 import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
@@ -154,4 +156,13 @@ public class BuildDefinitionTest {
         return resolvedDependenciesBuilder.build();
     }
 
+    @Test
+    public void test_writeJson() {
+        BuildDefinition.Builder buildDefinitionBuilder = new BuildDefinition.Builder(BUILD_TYPE, getExternalParameters());
+        buildDefinitionBuilder.internalParameters(JsonObject.EMPTY_JSON_OBJECT);
+        buildDefinitionBuilder.resolvedDependencies(getResolvedDependencies());
+        BuildDefinition buildDefinition = buildDefinitionBuilder.build();
+
+        assertEquals(buildDefinition.toJson(), testUtils.writeJson(buildDefinition::writeJson), "Streamed BuildDefinition did not match the BuildDefinition built in memory.");
+    }
 }
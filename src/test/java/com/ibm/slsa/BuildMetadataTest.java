@@ -17,6 +17,8 @@
 package com.ibm.slsa;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -143,4 +145,16 @@ public class BuildMetadataTest {
         testUtils.assertJsonStringEntryMatches("BuildMetadata", buildMetadataJson, BuildMetadata.KEY_FINISHED_ON, finishedOn);
     }
 
+    @Test
+    public void test_writeJson() {
+        BuildMetadata buildMetadata = new BuildMetadata.Builder().invocationId("").startedOn("2023-01-01T00:00:00.000Z").build();
+
+        assertEquals(buildMetadata.toJson(), testUtils.writeJson(buildMetadata::writeJson), "Streamed BuildMetadata did not match the BuildMetadata built in memory.");
+    }
+
+    @Test
+    public void test_isEmpty() {
+        assertTrue(new BuildMetadata.Builder().invocationId("").build().isEmpty(), "BuildMetadata without any values should have been empty.");
+        assertFalse(new BuildMetadata.Builder().finishedOn("2023-01-01T12:23:34.456Z").build().isEmpty(), "BuildMetadata with a value should not have been empty.");
+    }
 }
@@ -134,4 +134,13 @@ public class BuilderTest {
         return versions;
     }
 
+    @Test
+    public void test_writeJson() {
+        Builder.BuilderBuilder builderBuilder = new Builder.BuilderBuilder(BUILDER_ID);
+        builderBuilder.builderDependencies(getDependencies());
+        builderBuilder.version(getVersions());
+        Builder builder = builderBuilder.build();
+
+        assertEquals(builder.toJson(), testUtils.writeJson(builder::writeJson), "Streamed Builder did not match the Builder built in memory.");
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonObject;
+import jakarta.json.stream.JsonGenerationException;
+
+public class CanonicalJsonGeneratorTest {
+
+    private ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private CanonicalJsonGenerator generator = CanonicalJson.createGenerator(out);
+
+    @Test
+    public void test_write_matchesCanonicalJson() {
+        JsonObject nested = JsonFactories.createObjectBuilder().add("z", 1).add("a", JsonFactories.createArrayBuilder().add("\u20ac\n").addNull()).build();
+        JsonObject expected = JsonFactories.createObjectBuilder()
+                .add("booleans", JsonFactories.createArrayBuilder().add(true).add(false))
+                .add("nested", nested)
+                .add("numbers", JsonFactories.createArrayBuilder().add(4.50).add(1e30).add(new BigDecimal("0.002")).add(7L))
+                .add("string", "\"quoted\"\t")
+                .build();
+
+        generator.writeStartObject();
+        generator.writeStartArray("booleans").write(true).write(false).writeEnd();
+        generator.write("nested", nested);
+        generator.writeStartArray("numbers").write(4.50).write(1e30).write(new BigDecimal("0.002")).write(7L).writeEnd();
+        generator.write("string", "\"quoted\"\t");
+        generator.writeEnd();
+        generator.flush();
+
+        assertArrayEquals(CanonicalJson.toBytes(expected), out.toByteArray(), "Generated JSON did not match the canonical form of the same value.");
+    }
+
+    @Test
+    public void test_writeKey_outOfOrder() {
+        generator.writeStartObject().write("name", "app");
+
+        assertThrows(JsonGenerationException.class, () -> generator.write("digest", "abc"), "Members written out of order should have been rejected.");
+    }
+
+    @Test
+    public void test_writeKey_duplicate() {
+        generator.writeStartObject().write("name", "app");
+
+        assertThrows(JsonGenerationException.class, () -> generator.write("name", "lib"), "A member written twice should have been rejected.");
+    }
+
+    @Test
+    public void test_writeKey_nestedObjectsAreOrderedSeparately() {
+        generator.writeStartObject().writeStartObject("b").write("z", 1).writeEnd().write("c", "d").writeEnd().flush();
+
+        assertEquals("{\"b\":{\"z\":1},\"c\":\"d\"}", new String(out.toByteArray(), StandardCharsets.UTF_8), "Generated JSON did not match the expected value.");
+    }
+
+    @Test
+    public void test_writeSorted() {
+        Map<String, String> digest = new LinkedHashMap<>();
+        digest.put("sha256", "abc");
+        digest.put("sha1", "def");
+
+        CanonicalJsonGenerator.writeSorted(digest, generator);
+        generator.flush();
+
+        assertEquals("{\"sha1\":\"def\",\"sha256\":\"abc\"}", new String(out.toByteArray(), StandardCharsets.UTF_8), "Map members should have been written in sorted order.");
+    }
+
+    @Test
+    public void test_close_incomplete() {
+        generator.writeStartObject();
+
+        assertThrows(JsonGenerationException.class, () -> generator.close(), "Closing before the JSON was complete should have failed.");
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+
+public class CanonicalJsonTest {
+
+    @Test
+    public void test_toBytes_rfc8785Example() {
+        // The example from section 3.2.2 of RFC 8785
+        String input = "{\"numbers\": [333333333.33333329, 1E30, 4.50, 2e-3, 0.000000000000000000000000001],"
+                + " \"string\": \"\\u20ac$\\u000F\\u000aA'\\u0042\\u0022\\u005c\\\\\\\"\\/\","
+                + " \"literals\": [null, true, false]}";
+        String expected = "{\"literals\":[null,true,false],\"numbers\":[333333333.3333333,1e+30,4.5,0.002,1e-27],"
+                + "\"string\":\"\u20ac$\\u000f\\nA'B\\\"\\\\\\\\\\\"/\"}";
+
+        assertEquals(expected, toString(read(input)), "Canonical JSON did not match the expected value.");
+    }
+
+    @Test
+    public void test_toBytes_sortsByUtf16CodeUnits() {
+        // The example from section 3.2.3 of RFC 8785
+        JsonObject object = JsonFactories.createObjectBuilder()
+                .add("\u20ac", "Euro Sign")
+                .add("\r", "Carriage Return")
+                .add("\ufb33", "Hebrew Letter Dalet With Dagesh")
+                .add("1", "One")
+                .add("\ud83d\ude00", "Emoji: Grinning Face")
+                .add("\u0080", "Control")
+                .add("\u00f6", "Latin Small Letter O With Diaeresis")
+                .build();
+        String expected = "{\"\\r\":\"Carriage Return\",\"1\":\"One\",\"\u0080\":\"Control\",\"\u00f6\":\"Latin Small Letter O With Diaeresis\","
+                + "\"\u20ac\":\"Euro Sign\",\"\ud83d\ude00\":\"Emoji: Grinning Face\",\"\ufb33\":\"Hebrew Letter Dalet With Dagesh\"}";
+
+        assertEquals(expected, toString(object), "Canonical JSON did not match the expected value.");
+    }
+
+    @Test
+    public void test_toBytes_nestedValues() {
+        JsonObject object = read("{ \"b\" : [ { \"z\" : 1, \"a\" : [] }, {} ], \"a\" : { \"y\" : null, \"x\" : \"\" } }");
+
+        assertEquals("{\"a\":{\"x\":\"\",\"y\":null},\"b\":[{\"a\":[],\"z\":1},{}]}", toString(object), "Canonical JSON did not match the expected value.");
+    }
+
+    @Test
+    public void test_toBytes_sameValueSameBytes() {
+        JsonObject object1 = JsonFactories.createObjectBuilder().add("name", "app").add("digest", JsonFactories.createObjectBuilder().add("sha256", "abc").add("sha1", "def")).build();
+        JsonObject object2 = JsonFactories.createObjectBuilder().add("digest", JsonFactories.createObjectBuilder().add("sha1", "def").add("sha256", "abc")).add("name", "app").build();
+
+        assertArrayEquals(CanonicalJson.toBytes(object1), CanonicalJson.toBytes(object2), "Equal values should have the same canonical bytes regardless of member order.");
+    }
+
+    @Test
+    public void test_toBytes_escapes() {
+        String value = "\"\\/\b\f\n\r\t\u0000\u001f\u007f\u2028";
+
+        assertEquals("\"\\\"\\\\/\\b\\f\\n\\r\\t\\u0000\\u001f\u007f\u2028\"", toString(Json.createValue(value)), "Canonical string did not match the expected value.");
+    }
+
+    @Test
+    public void test_toBytes_utf8() {
+        byte[] bytes = CanonicalJson.toBytes(Json.createValue("\u00e9\u20ac\ud83d\ude00"));
+
+        assertArrayEquals("\"\u00e9\u20ac\ud83d\ude00\"".getBytes(StandardCharsets.UTF_8), bytes, "Canonical bytes should be UTF-8 encoded.");
+    }
+
+    @Test
+    public void test_toBytes_unpairedSurrogate() {
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJson.toBytes(Json.createValue("a\ud83db")));
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJson.toBytes(Json.createValue("\ude00")));
+    }
+
+    @Test
+    public void test_formatNumber() {
+        // Values from appendix B of RFC 8785
+        assertEquals("0", CanonicalJson.formatNumber(0d));
+        assertEquals("0", CanonicalJson.formatNumber(-0d));
+        assertEquals("5e-324", CanonicalJson.formatNumber(Double.MIN_VALUE));
+        assertEquals("-5e-324", CanonicalJson.formatNumber(-Double.MIN_VALUE));
+        assertEquals("1.7976931348623157e+308", CanonicalJson.formatNumber(Double.MAX_VALUE));
+        assertEquals("9007199254740992", CanonicalJson.formatNumber(9007199254740992d));
+        assertEquals("-9007199254740992", CanonicalJson.formatNumber(-9007199254740992d));
+        assertEquals("295147905179352830000", CanonicalJson.formatNumber(295147905179352825856d));
+        assertEquals("9.999999999999997e+22", CanonicalJson.formatNumber(9.999999999999997e22));
+        assertEquals("1e+23", CanonicalJson.formatNumber(1e23));
+        assertEquals("1.0000000000000001e+23", CanonicalJson.formatNumber(1.0000000000000001e23));
+        assertEquals("999999999999999700000", CanonicalJson.formatNumber(999999999999999700000d));
+        assertEquals("999999999999999900000", CanonicalJson.formatNumber(999999999999999900000d));
+        assertEquals("1e+21", CanonicalJson.formatNumber(1e21));
+        assertEquals("9.999999999999997e-7", CanonicalJson.formatNumber(9.999999999999997e-7));
+        assertEquals("0.000001", CanonicalJson.formatNumber(0.000001));
+        assertEquals("333333333.3333332", CanonicalJson.formatNumber(333333333.3333332));
+        assertEquals("333333333.33333325", CanonicalJson.formatNumber(333333333.33333325));
+        assertEquals("333333333.3333333", CanonicalJson.formatNumber(333333333.3333333));
+        assertEquals("333333333.3333334", CanonicalJson.formatNumber(333333333.3333334));
+        assertEquals("333333333.33333343", CanonicalJson.formatNumber(333333333.33333343));
+        assertEquals("-0.0000033333333333333333", CanonicalJson.formatNumber(-0.0000033333333333333333));
+        assertEquals("1424953923781206.2", CanonicalJson.formatNumber(1424953923781206.2));
+        assertEquals("1.5", CanonicalJson.formatNumber(1.5));
+        assertEquals("-12", CanonicalJson.formatNumber(-12d));
+    }
+
+    @Test
+    public void test_formatNumber_notFinite() {
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJson.formatNumber(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> CanonicalJson.formatNumber(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void test_write() throws IOException {
+        JsonObject object = read("{\"b\":1,\"a\":2}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CanonicalJson.write(object, out);
+
+        assertArrayEquals(CanonicalJson.toBytes(object), out.toByteArray(), "Written bytes did not match the canonical bytes.");
+    }
+
+    @Test
+    public void test_write_largeValue() throws IOException {
+        // Larger than the internal buffer
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+        JsonValue json = Json.createValue(value.toString());
+
+        assertEquals("\"" + value + "\"", toString(json), "Canonical JSON did not match the expected value.");
+    }
+
+    private String toString(JsonValue value) {
+        return new String(CanonicalJson.toBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private JsonObject read(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readObject();
+        }
+    }
+
+}
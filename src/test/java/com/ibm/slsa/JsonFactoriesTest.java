@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+
+public class JsonFactoriesTest {
+
+    @Test
+    public void test_getBuilderFactory() {
+        assertSame(JsonFactories.getBuilderFactory(), JsonFactories.getBuilderFactory(), "The builder factory should be shared.");
+        assertSame(JsonFactories.getGeneratorFactory(), JsonFactories.getGeneratorFactory(), "The generator factory should be shared.");
+    }
+
+    @Test
+    public void test_createObjectBuilder() {
+        JsonObject object = JsonFactories.createObjectBuilder().add("name", "app").add("values", JsonFactories.createArrayBuilder().add(1)).build();
+        JsonObject expectedObject = Json.createObjectBuilder().add("name", "app").add("values", Json.createArrayBuilder().add(1)).build();
+
+        assertEquals(expectedObject, object, "Object did not match the object built with the static methods.");
+        assertEquals(Json.createObjectBuilder(expectedObject).add("extra", true).build(), JsonFactories.createObjectBuilder(object).add("extra", true).build(), "Copied object did not match the expected value.");
+    }
+
+    @Test
+    public void test_createGenerator() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonFactories.createGenerator(out)) {
+            generator.writeStartObject().write("name", "été").writeEnd();
+        }
+
+        try (JsonReader reader = Json.createReader(new StringReader(new String(out.toByteArray(), StandardCharsets.UTF_8)))) {
+            assertEquals("été", reader.readObject().getString("name"), "Generated JSON should be UTF-8 encoded.");
+        }
+    }
+
+}
@@ -16,6 +16,8 @@
 */
 package com.ibm.slsa;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import org.junit.jupiter.api.Test;
 
 import com.ibm.slsa.test.CommonTestUtils;
@@ -132,4 +134,18 @@ public class RunDetailsTest {
         byproductsBuilder.add(Json.createObjectBuilder().add("dep-key", "value").build());
         return byproductsBuilder.build();
     }
+
+    @Test
+    public void test_writeJson_metadataEmpty() {
+        RunDetails runDetails = new RunDetails.Builder(getBuilder()).metadata(new BuildMetadata.Builder().build()).build();
+
+        assertEquals(runDetails.toJson(), testUtils.writeJson(runDetails::writeJson), "Streamed RunDetails did not match the RunDetails built in memory.");
+    }
+
+    @Test
+    public void test_writeJson_allEntries() {
+        RunDetails runDetails = new RunDetails.Builder(getBuilder()).metadata(getBuildMetadata()).byproducts(getByproducts()).build();
+
+        assertEquals(runDetails.toJson(), testUtils.writeJson(runDetails::writeJson), "Streamed RunDetails did not match the RunDetails built in memory.");
+    }
 }
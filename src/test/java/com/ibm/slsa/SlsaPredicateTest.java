@@ -111,4 +111,11 @@ public class SlsaPredicateTest {
         // Don't bother checking exact values for these keys; should be confident the right data is there at this point
     }
 
+    @Test
+    void test_writePredicateParameters() {
+        BuildDefinition buildDefinition = new BuildDefinition.Builder(BUILD_TYPE, null).build();
+        SlsaPredicate predicate = new SlsaPredicate(buildDefinition, getRunDetails());
+
+        assertEquals(predicate.getPredicateParameters(), testUtils.writeJson(predicate::writePredicateParameters), "Streamed predicate parameters did not match the predicate parameters built in memory.");
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ibm.intoto.attestation.ResourceDescriptor;
+import com.ibm.intoto.attestation.Statement;
+import com.ibm.slsa.BuildDefinition;
+import com.ibm.slsa.SlsaPredicate;
+import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
+import com.ibm.slsa.test.CommonTestUtils;
+import com.ibm.slsa.test.Constants;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+@ExtendWith(MockitoExtension.class)
+public class AggregateProvenanceGeneratorTest {
+
+    @Mock private MavenProject parentProject;
+    @Mock private MavenProject project1;
+    @Mock private MavenProject project2;
+    @Mock private Artifact parentArtifact;
+    @Mock private Artifact artifact1;
+    @Mock private Artifact artifact2;
+    @Mock private Artifact attachedArtifact2;
+    @Mock private MavenSession mavenSession;
+    @Mock private Log log;
+
+    private String builderId = "myBuilderId";
+    private String buildType = "myBuildType";
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    void test_generateProvenanceFileData_multipleProjects() {
+        final Dependency sharedDependency = testUtils.createDependency("com.example", "code-api", "1.0.0", "provided", "jar");
+        final Dependency project2Dependency = testUtils.createDependency("org.rebels", "fulcrum", "0.9.9", "compile", "jar");
+
+        when(mavenSession.getProjects()).thenReturn(Arrays.asList(parentProject, project1, project2));
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+        // Parent pom projects don't have a built file
+        when(parentProject.getArtifact()).thenReturn(parentArtifact);
+        when(parentProject.getPackaging()).thenReturn("pom");
+        when(project1.getGroupId()).thenReturn("com.example");
+        when(project1.getArtifactId()).thenReturn("app1");
+        when(project1.getArtifact()).thenReturn(artifact1);
+        when(project1.getDependencies()).thenReturn(Collections.singletonList(sharedDependency));
+        when(artifact1.getFile()).thenReturn(new File(Constants.RESOURCES_DIR + "multiple-wars" + File.separator + "app1.war"));
+        when(project2.getGroupId()).thenReturn("com.example");
+        when(project2.getArtifactId()).thenReturn("app2");
+        when(project2.getArtifact()).thenReturn(artifact2);
+        when(project2.getAttachedArtifacts()).thenReturn(Collections.singletonList(attachedArtifact2));
+        when(project2.getDependencies()).thenReturn(Arrays.asList(sharedDependency, project2Dependency));
+        when(artifact2.getFile()).thenReturn(new File(Constants.RESOURCES_DIR + "multiple-wars" + File.separator + "app2.war"));
+        when(attachedArtifact2.getFile()).thenReturn(new File(Constants.FILE_PATH_SIMPLE_TXT));
+
+        ProvenanceGenerator generator = new AggregateProvenanceGenerator(builderId, buildType, project2, mavenSession, log);
+
+        try {
+            JsonObject statement = generator.generateProvenanceFileData();
+            testUtils.assertJsonOnlyContainsKeys("Provenance data", statement, Statement.KEY_TYPE, Statement.KEY_SUBJECT, Statement.KEY_PREDICATE_TYPE, Statement.KEY_PREDICATE);
+
+            JsonArray subject = statement.getJsonArray(Statement.KEY_SUBJECT);
+            assertEquals(3, subject.size(), "Should have found an entry in the subject for every built artifact. Full subject was: " + subject);
+            List<String> subjectNames = new ArrayList<>();
+            for (int i = 0; i < subject.size(); i++) {
+                subjectNames.add(subject.getJsonObject(i).getString(ResourceDescriptor.KEY_NAME));
+            }
+            assertEquals(Arrays.asList("com.example:app1:app1.war", "com.example:app2:app2.war", "com.example:app2:" + Constants.FILE_NAME_SIMPLE_TXT), subjectNames, "Subject names did not match the expected values.");
+            testUtils.assertJsonStringEntryMatches("Subject", subject.getJsonObject(2).getJsonObject(ResourceDescriptor.KEY_DIGEST), "sha256", Constants.SHA_FILE_SIMPLT_TXT);
+
+            JsonObject buildDefinition = statement.getJsonObject(Statement.KEY_PREDICATE).getJsonObject(SlsaPredicate.KEY_BUILD_DEFINITION);
+            JsonArray resolvedDependencies = buildDefinition.getJsonArray(BuildDefinition.KEY_RESOLVED_DEPENDENCIES);
+            // Git repository plus the two distinct Maven dependencies
+            assertEquals(3, resolvedDependencies.size(), "Shared dependencies should only have been recorded once. Dependencies were: " + resolvedDependencies);
+            testUtils.assertDependencyJsonMatchesValues(sharedDependency, resolvedDependencies.getJsonObject(1));
+            testUtils.assertDependencyJsonMatchesValues(project2Dependency, resolvedDependencies.getJsonObject(2));
+        } catch (ProvenanceGenerationException e) {
+            fail("Should not have thrown an exception but did: " + e);
+        }
+    }
+
+    @Test
+    void test_generateProvenanceFileData_missingArtifact() {
+        when(mavenSession.getProjects()).thenReturn(Arrays.asList(project1, project2));
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+        when(project1.getGroupId()).thenReturn("com.example");
+        when(project1.getArtifactId()).thenReturn("app1");
+        when(project1.getArtifact()).thenReturn(artifact1);
+        when(artifact1.getFile()).thenReturn(new File(Constants.RESOURCES_DIR + "multiple-wars" + File.separator + "app1.war"));
+        // A module that hasn't been packaged yet still points to its output directory
+        when(project2.getId()).thenReturn("com.example:app2:war:1.0.0");
+        when(project2.getArtifact()).thenReturn(artifact2);
+        when(artifact2.getFile()).thenReturn(new File(Constants.RESOURCES_DIR));
+
+        ProvenanceGenerator generator = new AggregateProvenanceGenerator(builderId, buildType, project1, mavenSession, log);
+
+        try {
+            JsonObject statement = generator.generateProvenanceFileData();
+            JsonArray subject = statement.getJsonArray(Statement.KEY_SUBJECT);
+            assertEquals(1, subject.size(), "Should only have found the packaged artifact. Full subject was: " + subject);
+            verify(log).warn(contains("com.example:app2:war:1.0.0"));
+        } catch (ProvenanceGenerationException e) {
+            fail("Should not have thrown an exception but did: " + e);
+        }
+    }
+
+    @Test
+    void test_generateProvenanceFileData_noBuiltArtifacts() {
+        when(mavenSession.getProjects()).thenReturn(Collections.singletonList(parentProject));
+        when(parentProject.getArtifact()).thenReturn(parentArtifact);
+        when(parentProject.getPackaging()).thenReturn("pom");
+
+        ProvenanceGenerator generator = new AggregateProvenanceGenerator(builderId, buildType, parentProject, mavenSession, log);
+
+        try {
+            JsonObject provenanceData = generator.generateProvenanceFileData();
+            fail("Should have thrown an exception but didn't. Generated provenance data: " + provenanceData);
+        } catch (ProvenanceGenerationException e) {
+            // Expected
+            testUtils.assertExceptionMatchesPattern(e, "No built artifacts were found");
+        }
+    }
+
+}
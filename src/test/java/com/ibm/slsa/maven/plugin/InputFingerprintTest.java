@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.test.CommonTestUtils;
+
+public class InputFingerprintTest {
+
+    @TempDir File tempDir;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_getValue_sameInputs() {
+        InputFingerprint fingerprint1 = new InputFingerprint().add("builderId", "https://example.com/builder_id").add("digestAlgorithms", Arrays.asList("sha256"));
+        InputFingerprint fingerprint2 = new InputFingerprint().add("builderId", "https://example.com/builder_id").add("digestAlgorithms", Arrays.asList("sha256"));
+
+        assertEquals(fingerprint1.getValue(), fingerprint2.getValue(), "Fingerprints of the same inputs should match.");
+        testUtils.assertStringMatchesRegex("^[a-f0-9]{64}$", fingerprint1.getValue());
+    }
+
+    @Test
+    public void test_getValue_differentInputs() {
+        InputFingerprint fingerprint1 = new InputFingerprint().add("builderId", "https://example.com/builder_id");
+        InputFingerprint fingerprint2 = new InputFingerprint().add("builderId", "https://example.com/other_builder_id");
+
+        assertNotEquals(fingerprint1.getValue(), fingerprint2.getValue(), "Fingerprints of different inputs should not match.");
+    }
+
+    @Test
+    public void test_getValue_inputBoundaries() {
+        InputFingerprint fingerprint1 = new InputFingerprint().add("a", "bc").add("d", "");
+        InputFingerprint fingerprint2 = new InputFingerprint().add("a", "b").add("cd", "");
+
+        assertNotEquals(fingerprint1.getValue(), fingerprint2.getValue(), "Inputs should not be able to run into each other.");
+    }
+
+    @Test
+    public void test_matches() throws IOException {
+        File fingerprintFile = InputFingerprint.getFingerprintFile(new File(tempDir, "slsa_provenance.json"));
+        InputFingerprint fingerprint = new InputFingerprint().add("builderId", "https://example.com/builder_id");
+
+        assertFalse(fingerprint.matches(fingerprintFile), "Should not match a fingerprint file that doesn't exist.");
+        fingerprint.write(fingerprintFile);
+        assertTrue(fingerprint.matches(fingerprintFile), "Should have matched the fingerprint that was just written.");
+        assertFalse(new InputFingerprint().add("builderId", "https://example.com/other_builder_id").matches(fingerprintFile), "Should not have matched a different fingerprint.");
+    }
+
+    @Test
+    public void test_getFingerprintFile() {
+        File fingerprintFile = InputFingerprint.getFingerprintFile(new File(tempDir, "slsa_provenance.json"));
+        assertEquals(new File(tempDir, "slsa_provenance.json.fingerprint"), fingerprintFile, "Fingerprint file did not match the expected value.");
+    }
+
+}
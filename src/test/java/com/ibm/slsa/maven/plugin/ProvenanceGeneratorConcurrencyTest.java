@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.JsonFactories;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestCache;
+import com.ibm.slsa.maven.plugin.utils.file.ProvenanceFileWriter;
+import com.ibm.slsa.test.CommonTestUtils;
+import com.ibm.slsa.test.Constants;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Runs many generators at once against a shared Git repository, digest cache, and Maven build, the way modules are built by
+ * {@code mvn -T}, and checks that they all produce the same provenance.
+ */
+public class ProvenanceGeneratorConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int GENERATIONS = 64;
+
+    @TempDir File tempDir;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private File repositoryDir;
+    private File buildDir;
+    private MavenExecutionRequest request = mock(MavenExecutionRequest.class);
+    private Date startTime = new Date();
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "git@github.com:example/app.git");
+            config.save();
+            Files.write(new File(repositoryDir, "README.md").toPath(), "app".getBytes(StandardCharsets.UTF_8));
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        buildDir = new File(repositoryDir, "target");
+        buildDir.mkdirs();
+        File war = new File(Constants.RESOURCES_DIR + "one-war" + File.separator + Constants.FILE_NAME_APP_WAR);
+        Files.copy(war.toPath(), new File(buildDir, Constants.FILE_NAME_APP_WAR).toPath(), StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    @Test
+    public void test_concurrentGenerators() throws Exception {
+        DigestCache digestCache = new DigestCache(new File(tempDir, "cache"));
+        String expectedStatement = toCanonicalString(createGenerator(digestCache).generateProvenanceFileData());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < GENERATIONS; i++) {
+                File provenanceFile = new File(tempDir, "provenance" + File.separator + "slsa_provenance_" + i + ".json");
+                // Alternate between building the Statement in memory and streaming it to a file, with and without the shared cache
+                boolean streamed = i % 2 == 0;
+                DigestCache generatorCache = i % 4 < 2 ? digestCache : null;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    ProvenanceGenerator generator = createGenerator(generatorCache);
+                    return streamed ? writeProvenanceFile(generator, provenanceFile) : toCanonicalString(generator.generateProvenanceFileData());
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals(expectedStatement, result.get(1, TimeUnit.MINUTES), "Concurrently generated provenance did not match the expected value.");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_concurrentGenerators_sameProvenanceFile() throws Exception {
+        String expectedStatement = toCanonicalString(createGenerator(null).generateProvenanceFileData());
+        File provenanceFile = new File(tempDir, "slsa_provenance.json");
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int i = 0; i < GENERATIONS; i++) {
+                tasks.add(() -> writeProvenanceFile(createGenerator(null), provenanceFile));
+            }
+            for (Future<String> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Atomic writes mean the file always holds exactly one complete Statement, never a mix of several
+        assertEquals(expectedStatement, read(provenanceFile), "Provenance file did not match the expected value.");
+        assertEquals(Arrays.asList(provenanceFile.getName()), Arrays.asList(tempDir.list((dir, name) -> name.contains("slsa_provenance"))), "Temporary files should not have been left behind.");
+    }
+
+    /**
+     * Creates a generator for a new module of the same build. Like Maven, each module gets its own copy of the session.
+     */
+    private ProvenanceGenerator createGenerator(DigestCache digestCache) {
+        MavenSession mavenSession = mock(MavenSession.class);
+        when(mavenSession.getRequest()).thenReturn(request);
+        when(mavenSession.getStartTime()).thenReturn(startTime);
+        when(mavenSession.getUserProperties()).thenReturn(new Properties());
+        Build build = mock(Build.class);
+        when(build.getDirectory()).thenReturn(buildDir.getAbsolutePath());
+        MavenProject project = mock(MavenProject.class);
+        when(project.getBasedir()).thenReturn(repositoryDir);
+        when(project.getBuild()).thenReturn(build);
+        when(project.getDependencies()).thenReturn(Arrays.asList(testUtils.createDependency("com.example", "lib", "1.0", "compile", "jar")));
+
+        ProvenanceGenerator generator = new ProvenanceGenerator("https://example.com/builder_id", "https://example.com/build_type", project, mavenSession, mock(Log.class));
+        if (digestCache != null) {
+            generator.digestCache(digestCache);
+        }
+        return generator;
+    }
+
+    private String writeProvenanceFile(ProvenanceGenerator generator, File provenanceFile) throws Exception {
+        new ProvenanceFileWriter(provenanceFile).write(out -> {
+            try (JsonGenerator jsonGenerator = JsonFactories.createGenerator(out)) {
+                generator.writeProvenanceFileData(jsonGenerator);
+            }
+        });
+        return read(provenanceFile);
+    }
+
+    private String read(File file) throws Exception {
+        try (JsonReader reader = Json.createReader(new StringReader(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)))) {
+            JsonObject statement = reader.readObject();
+            return toCanonicalString(statement);
+        }
+    }
+
+    /**
+     * The members of streamed objects aren't in the same order as the ones built in memory, so both are compared in canonical form.
+     */
+    private String toCanonicalString(JsonObject statement) {
+        return new String(CanonicalJson.toBytes(statement), StandardCharsets.UTF_8);
+    }
+
+}
@@ -16,12 +16,19 @@
 */
 package com.ibm.slsa.maven.plugin;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Build;
@@ -29,6 +36,7 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,10 +45,14 @@ import com.ibm.intoto.attestation.ResourceDescriptor;
 import com.ibm.intoto.attestation.Statement;
 import com.ibm.slsa.BuildDefinition;
 import com.ibm.slsa.BuildMetadata;
+import com.ibm.slsa.CanonicalJson;
 import com.ibm.slsa.Builder;
 import com.ibm.slsa.RunDetails;
 import com.ibm.slsa.SlsaPredicate;
 import com.ibm.slsa.maven.plugin.exceptions.ProvenanceGenerationException;
+import com.ibm.slsa.maven.plugin.exceptions.SlsaPredicateGenerationException;
+import com.ibm.slsa.maven.plugin.metrics.ProvenanceMetrics;
+import com.ibm.slsa.maven.plugin.utils.git.WorkingTreeStatus;
 import com.ibm.slsa.maven.plugin.utils.war.exceptions.MultipleWarsFoundException;
 import com.ibm.slsa.test.CommonTestUtils;
 import com.ibm.slsa.test.Constants;
@@ -55,6 +67,8 @@ public class ProvenanceGeneratorTest {
     @Mock private MavenSession mavenSession;
     @Mock private Log log;
 
+    @TempDir File tempDir;
+
     private String builderId = "myBuilderId";
     private String buildType = "myBuildType";
     private CommonTestUtils testUtils = new CommonTestUtils();
@@ -90,6 +104,52 @@ public class ProvenanceGeneratorTest {
         }
     }
 
+    @Test
+    void test_generateProvenanceFileData_noWarsAndNoRepository() throws ProvenanceGenerationException {
+        when(project.getBasedir()).thenReturn(tempDir);
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "no-wars");
+
+        // The subject is built concurrently with the Git lookup, but its failures still take precedence
+        assertEquals(JsonObject.EMPTY_JSON_OBJECT, generator.generateProvenanceFileData());
+    }
+
+    @Test
+    void test_generateProvenanceFileData_noRepository() {
+        when(project.getBasedir()).thenReturn(tempDir);
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+
+        try {
+            JsonObject provenanceData = generator.generateProvenanceFileData();
+            fail("Should have thrown an exception but didn't. Generated provenance data: " + provenanceData);
+        } catch (ProvenanceGenerationException e) {
+            assertEquals(SlsaPredicateGenerationException.class.getName(), e.getCause().getClass().getName(), "Exception cause did not match expected value. Full exception was: " + e);
+            testUtils.assertExceptionMatchesPattern(e, "Could not find a Git repository in .+ or any of its parent directories");
+        }
+    }
+
+    @Test
+    void test_generateProvenanceFileData_dependencyFailure() {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(project.getDependencies()).thenThrow(new IllegalStateException("Dependencies are not available."));
+
+        try {
+            JsonObject provenanceData = generator.generateProvenanceFileData();
+            fail("Should have thrown an exception but didn't. Generated provenance data: " + provenanceData);
+        } catch (ProvenanceGenerationException e) {
+            // Failures on the dependency thread are propagated unchanged
+            assertEquals(IllegalStateException.class.getName(), e.getCause().getClass().getName(), "Exception cause did not match expected value. Full exception was: " + e);
+        }
+    }
+
     @Test
     void test_generateProvenanceFileData() {
         ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
@@ -110,6 +170,123 @@ public class ProvenanceGeneratorTest {
         }
     }
 
+    @Test
+    void test_writeProvenanceFileData() throws Exception {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+
+        JsonObject expectedStatement = generator.generateProvenanceFileData();
+        JsonObject statement = testUtils.writeJson(jsonGenerator -> {
+            try {
+                generator.writeProvenanceFileData(jsonGenerator);
+            } catch (ProvenanceGenerationException e) {
+                fail("Should not have thrown an exception but did: " + e);
+            }
+        });
+        assertEquals(expectedStatement, statement, "Streamed provenance data did not match the provenance data built in memory.");
+    }
+
+    @Test
+    void test_writeCanonicalProvenanceFileData() throws Exception {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+
+        JsonObject expectedStatement = generator.generateProvenanceFileData();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator.writeCanonicalProvenanceFileData(out);
+        assertArrayEquals(CanonicalJson.toBytes(expectedStatement), out.toByteArray(), "Canonical provenance data did not match the canonical form of the provenance data built in memory.");
+    }
+
+    @Test
+    void test_writeCanonicalProvenanceFileData_noWars() throws Exception {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "no-wars");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generator.writeCanonicalProvenanceFileData(out);
+        assertEquals("{}", out.toString("UTF-8"), "Canonical provenance data should be an empty object when no .war file was built.");
+    }
+
+    @Test
+    void test_getMetrics() throws Exception {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+
+        generator.generateProvenanceFileData();
+        Map<String, Long> durations = generator.getMetrics().getDurations();
+        // The subject and the dependencies are built concurrently, so the phases may be recorded in any order
+        assertEquals(new HashSet<>(Arrays.asList(ProvenanceMetrics.PHASE_BUILD_SUBJECT, ProvenanceMetrics.PHASE_RESOLVED_DEPENDENCIES, ProvenanceMetrics.PHASE_BUILD_DEFINITION, ProvenanceMetrics.PHASE_RUN_DETAILS, ProvenanceMetrics.PHASE_SERIALIZATION)),
+                durations.keySet(), "Recorded phases did not match the expected phases.");
+        for (long duration : durations.values()) {
+            assertTrue(duration >= 0, "Phase durations should not be negative but were: " + durations);
+        }
+    }
+
+    @Test
+    void test_generateProvenanceFileData_recordWorkingTreeStatus() throws Exception {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).recordWorkingTreeStatus(true);
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+
+        JsonObject statement = generator.generateProvenanceFileData();
+        JsonObject externalParameters = statement.getJsonObject(Statement.KEY_PREDICATE).getJsonObject(SlsaPredicate.KEY_BUILD_DEFINITION).getJsonObject(BuildDefinition.KEY_EXTERNAL_PARAMETERS);
+        testUtils.assertJsonContainsKey("External parameters", externalParameters, ProvenanceGenerator.KEY_EXT_PARAMS_WORKING_TREE);
+        testUtils.assertJsonContainsKey("Working tree", externalParameters.getJsonObject(ProvenanceGenerator.KEY_EXT_PARAMS_WORKING_TREE), WorkingTreeStatus.KEY_CLEAN);
+        assertTrue(generator.getMetrics().getDurations().containsKey(ProvenanceMetrics.PHASE_WORKING_TREE_STATUS), "The working tree check should have been timed.");
+    }
+
+    @Test
+    void test_generateProvenanceFileData_multipleDigestAlgorithms() {
+        ProvenanceGenerator generator = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log);
+        generator.digestAlgorithms(Arrays.asList("sha256", "sha512"));
+
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+        when(mavenSession.getStartTime()).thenReturn(new Date());
+
+        try {
+            JsonObject statement = generator.generateProvenanceFileData();
+            JsonObject digest = statement.getJsonArray(Statement.KEY_SUBJECT).getJsonObject(0).getJsonObject(ResourceDescriptor.KEY_DIGEST);
+            testUtils.assertJsonOnlyContainsKeys("Subject digest", digest, DigestSet.ALG_SHA256, "sha512");
+            testUtils.assertJsonStringEntryMatches("Subject digest", digest, DigestSet.ALG_SHA256, Constants.SHA_APP_WAR);
+            testUtils.assertJsonStringEntryMatches("Subject digest", digest, "sha512", Constants.SHA512_APP_WAR);
+        } catch (ProvenanceGenerationException e) {
+            fail("Should not have thrown an exception but did: " + e);
+        }
+    }
+
+    @Test
+    void test_getInputFingerprint() throws Exception {
+        when(project.getBuild()).thenReturn(projectBuild);
+        when(projectBuild.getDirectory()).thenReturn(Constants.RESOURCES_DIR + File.separator + "one-war");
+
+        String fingerprint = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).getInputFingerprint().getValue();
+        String sameFingerprint = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).getInputFingerprint().getValue();
+        String otherBuilderFingerprint = new ProvenanceGenerator("otherBuilderId", buildType, project, mavenSession, log).getInputFingerprint().getValue();
+        String otherAlgorithmsFingerprint = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).digestAlgorithms(Arrays.asList("sha512")).getInputFingerprint().getValue();
+        String repositoryChecksumsFingerprint = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).useRepositoryChecksums(true).getInputFingerprint().getValue();
+        String digestDependenciesFingerprint = new ProvenanceGenerator(builderId, buildType, project, mavenSession, log).digestDependencies(true).getInputFingerprint().getValue();
+
+        assertEquals(fingerprint, sameFingerprint, "Fingerprints of the same inputs should match.");
+        assertNotEquals(fingerprint, otherBuilderFingerprint, "Changing the builder ID should have changed the fingerprint.");
+        assertNotEquals(fingerprint, otherAlgorithmsFingerprint, "Changing the digest algorithms should have changed the fingerprint.");
+        assertNotEquals(fingerprint, repositoryChecksumsFingerprint, "Using repository checksums should have changed the fingerprint.");
+        assertNotEquals(fingerprint, digestDependenciesFingerprint, "Digesting dependencies should have changed the fingerprint.");
+    }
+
     private void verifyStatementType(JsonObject statement) {
         testUtils.assertJsonStringEntryMatches("Statement", statement, Statement.KEY_TYPE, Statement.TYPE_IN_TOTO_STATEMENT);
     }
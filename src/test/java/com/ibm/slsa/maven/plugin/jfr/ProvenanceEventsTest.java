@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+import com.ibm.slsa.test.Constants;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class ProvenanceEventsTest {
+
+    private static final String APP_WAR_PATH = Constants.RESOURCES_DIR + "one-war" + File.separator + Constants.FILE_NAME_APP_WAR;
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_isAvailable() {
+        assertTrue(ProvenanceEvents.isAvailable(), "JFR should be available in the JVM running the tests.");
+    }
+
+    @Test
+    public void test_fileDigest() throws IOException {
+        File war = new File(APP_WAR_PATH);
+        List<RecordedEvent> events = record(FileDigestEvent.NAME, () -> new DigestUtils().getDigest(war));
+
+        assertEquals(1, events.size(), "Number of recorded events did not match the expected value.");
+        assertEquals(war.getAbsolutePath(), events.get(0).getString("path"), "Recorded path did not match the expected value.");
+        assertEquals(war.length(), events.get(0).getLong("bytes"), "Recorded size did not match the expected value.");
+    }
+
+    @Test
+    public void test_dependencyEnumeration() throws IOException {
+        List<RecordedEvent> events = record(DependencyEnumerationEvent.NAME, () -> {
+            try (EventScope event = ProvenanceEvents.dependencyEnumeration("com.example:app:war:1.0", true)) {
+                // Nothing to enumerate
+            }
+        });
+
+        assertEquals(1, events.size(), "Number of recorded events did not match the expected value.");
+        assertEquals("com.example:app:war:1.0", events.get(0).getString("project"), "Recorded project did not match the expected value.");
+        assertTrue(events.get(0).getBoolean("resolved"), "Recorded event should have been for the resolved dependencies.");
+    }
+
+    @Test
+    public void test_notRecording() {
+        // Events must be safe to create and close when no recording is running
+        try (EventScope event = ProvenanceEvents.serialization(true)) {
+            assertTrue(event instanceof SerializationEvent, "Should have created a JFR event.");
+        }
+    }
+
+    private List<RecordedEvent> record(String eventName, RecordedWork work) throws IOException {
+        File recordingFile = new File(tempDir, "recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(recordingFile.toPath());
+        }
+        return RecordingFile.readAllEvents(recordingFile.toPath()).stream().filter(e -> e.getEventType().getName().equals(eventName)).collect(Collectors.toList());
+    }
+
+    private interface RecordedWork {
+        void run() throws IOException;
+    }
+
+}
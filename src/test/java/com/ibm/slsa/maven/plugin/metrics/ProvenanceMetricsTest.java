@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.json.JsonObject;
+
+public class ProvenanceMetricsTest {
+
+    @Test
+    public void test_add() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, 5);
+        metrics.add(ProvenanceMetrics.PHASE_SERIALIZATION, 7);
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, 10);
+
+        assertEquals(Arrays.asList(ProvenanceMetrics.PHASE_BUILD_SUBJECT, ProvenanceMetrics.PHASE_SERIALIZATION), new ArrayList<>(metrics.getDurations().keySet()), "Phases should be kept in the order they were first recorded.");
+        assertEquals(Long.valueOf(15), metrics.getDurations().get(ProvenanceMetrics.PHASE_BUILD_SUBJECT), "Durations of the same phase should accumulate.");
+        assertEquals(22, metrics.getTotal(), "Total did not match the sum of the phases.");
+    }
+
+    @Test
+    public void test_addAll() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, 5);
+        ProvenanceMetrics otherMetrics = new ProvenanceMetrics();
+        otherMetrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, 1);
+        otherMetrics.add(ProvenanceMetrics.PHASE_WRITE_FILE, 2);
+
+        metrics.addAll(otherMetrics);
+        assertEquals(Long.valueOf(6), metrics.getDurations().get(ProvenanceMetrics.PHASE_BUILD_SUBJECT), "Durations did not match the expected value.");
+        assertEquals(Long.valueOf(2), metrics.getDurations().get(ProvenanceMetrics.PHASE_WRITE_FILE), "Durations did not match the expected value.");
+    }
+
+    @Test
+    public void test_toJson() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, TimeUnit.MILLISECONDS.toNanos(1500));
+        metrics.add(ProvenanceMetrics.PHASE_WRITE_FILE, TimeUnit.MILLISECONDS.toNanos(500));
+
+        JsonObject json = metrics.toJson();
+        assertEquals(1.5, json.getJsonObject(ProvenanceMetrics.KEY_PHASES).getJsonNumber(ProvenanceMetrics.PHASE_BUILD_SUBJECT).doubleValue(), "Phase duration did not match the expected value.");
+        assertEquals(0.5, json.getJsonObject(ProvenanceMetrics.KEY_PHASES).getJsonNumber(ProvenanceMetrics.PHASE_WRITE_FILE).doubleValue(), "Phase duration did not match the expected value.");
+        assertEquals(2.0, json.getJsonNumber(ProvenanceMetrics.KEY_TOTAL_SECONDS).doubleValue(), "Total duration did not match the expected value.");
+    }
+
+    @Test
+    public void test_getSummary() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, TimeUnit.MILLISECONDS.toNanos(12));
+        metrics.add(ProvenanceMetrics.PHASE_WRITE_FILE, TimeUnit.MILLISECONDS.toNanos(3));
+
+        assertEquals("buildSubject 12 ms, writeFile 3 ms, total 15 ms", metrics.getSummary(), "Summary did not match the expected value.");
+    }
+
+    @Test
+    public void test_skip() {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_CHECK_SUBJECT, TimeUnit.MILLISECONDS.toNanos(1));
+        assertFalse(metrics.isSkipped(), "Metrics should not be skipped until a reason is recorded.");
+        assertFalse(metrics.toJson().containsKey(ProvenanceMetrics.KEY_SKIPPED), "JSON should not have a skip reason.");
+
+        metrics.skip("nothing to attest");
+        assertTrue(metrics.isSkipped(), "Metrics should be skipped once a reason is recorded.");
+        assertEquals("nothing to attest", metrics.toJson().getString(ProvenanceMetrics.KEY_SKIPPED), "Skip reason did not match the expected value.");
+        assertEquals("checkSubject 1 ms, total 1 ms, skipped because nothing to attest", metrics.getSummary(), "Summary did not match the expected value.");
+    }
+
+}
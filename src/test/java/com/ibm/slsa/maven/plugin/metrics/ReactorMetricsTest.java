@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactorMetricsTest {
+
+    @TempDir File tempDir;
+
+    @Mock private MavenSession mavenSession;
+    @Mock private MavenSession otherMavenSession;
+
+    @Test
+    public void test_forSession() {
+        assertSame(ReactorMetrics.forSession(mavenSession), ReactorMetrics.forSession(mavenSession), "The same session should share its metrics.");
+        assertNotSame(ReactorMetrics.forSession(mavenSession), ReactorMetrics.forSession(otherMavenSession), "Different sessions should not share metrics.");
+    }
+
+    @Test
+    public void test_toJson() {
+        ReactorMetrics reactorMetrics = new ReactorMetrics();
+        reactorMetrics.record("com.example:app", createMetrics(1000, 250));
+        reactorMetrics.record("com.example:lib", createMetrics(500, 250));
+
+        JsonObject json = reactorMetrics.toJson();
+        JsonObject modules = json.getJsonObject(ReactorMetrics.KEY_MODULES);
+        assertEquals(2, modules.size(), "Number of modules did not match the expected value.");
+        assertEquals(1.25, modules.getJsonObject("com.example:app").getJsonNumber(ProvenanceMetrics.KEY_TOTAL_SECONDS).doubleValue(), "Module total did not match the expected value.");
+        JsonObject total = json.getJsonObject(ReactorMetrics.KEY_TOTAL);
+        assertEquals(1.5, total.getJsonObject(ProvenanceMetrics.KEY_PHASES).getJsonNumber(ProvenanceMetrics.PHASE_BUILD_SUBJECT).doubleValue(), "Reactor phase total did not match the expected value.");
+        assertEquals(2.0, total.getJsonNumber(ProvenanceMetrics.KEY_TOTAL_SECONDS).doubleValue(), "Reactor total did not match the expected value.");
+    }
+
+    @Test
+    public void test_toPrometheus() {
+        ReactorMetrics reactorMetrics = new ReactorMetrics();
+        reactorMetrics.record("com.example:app", createMetrics(1000, 250));
+
+        String expected = "# HELP slsa_provenance_phase_seconds Time spent in each phase of generating the provenance of a module.\n"
+                + "# TYPE slsa_provenance_phase_seconds gauge\n"
+                + "slsa_provenance_phase_seconds{module=\"com.example:app\",phase=\"buildSubject\"} 1.0\n"
+                + "slsa_provenance_phase_seconds{module=\"com.example:app\",phase=\"writeFile\"} 0.25\n"
+                + "# HELP slsa_provenance_reactor_phase_seconds Time spent in each phase of generating provenance, summed over all modules.\n"
+                + "# TYPE slsa_provenance_reactor_phase_seconds gauge\n"
+                + "slsa_provenance_reactor_phase_seconds{phase=\"buildSubject\"} 1.0\n"
+                + "slsa_provenance_reactor_phase_seconds{phase=\"writeFile\"} 0.25\n";
+        assertEquals(expected, reactorMetrics.toPrometheus(), "Prometheus output did not match the expected value.");
+    }
+
+    @Test
+    public void test_skippedModules() {
+        ReactorMetrics reactorMetrics = new ReactorMetrics();
+        reactorMetrics.record("com.example:app", createMetrics(1000, 250));
+        ProvenanceMetrics skipped = new ProvenanceMetrics();
+        skipped.add(ProvenanceMetrics.PHASE_CHECK_SUBJECT, TimeUnit.MILLISECONDS.toNanos(1));
+        skipped.skip("nothing to attest");
+        reactorMetrics.record("com.example:parent", skipped);
+
+        assertEquals(1, reactorMetrics.getSkippedModules(), "Number of skipped modules did not match the expected value.");
+        JsonObject modules = reactorMetrics.toJson().getJsonObject(ReactorMetrics.KEY_MODULES);
+        assertEquals("nothing to attest", modules.getJsonObject("com.example:parent").getString(ProvenanceMetrics.KEY_SKIPPED), "Skip reason did not match the expected value.");
+        assertTrue(reactorMetrics.toPrometheus().endsWith("# TYPE slsa_provenance_skipped_modules gauge\nslsa_provenance_skipped_modules 1\n"), "Prometheus output did not count the skipped module: " + reactorMetrics.toPrometheus());
+    }
+
+    @Test
+    public void test_write() throws IOException {
+        ReactorMetrics reactorMetrics = new ReactorMetrics();
+        reactorMetrics.record("com.example:app", createMetrics(1000, 250));
+        reactorMetrics.write(tempDir, "slsa_reactor_metrics");
+
+        assertEquals(reactorMetrics.toJson(), readJson(new File(tempDir, "slsa_reactor_metrics.json")), "JSON file did not match the expected value.");
+        assertEquals(reactorMetrics.toPrometheus(), read(new File(tempDir, "slsa_reactor_metrics.prom")), "Prometheus file did not match the expected value.");
+    }
+
+    @Test
+    public void test_writeModule() throws IOException {
+        ReactorMetrics.writeModule(tempDir, "slsa_provenance_metrics", "com.example:app", createMetrics(1000, 250));
+
+        JsonObject json = readJson(new File(tempDir, "slsa_provenance_metrics.json"));
+        assertEquals("com.example:app", json.getString(ReactorMetrics.KEY_MODULE), "Module did not match the expected value.");
+        assertEquals(1.25, json.getJsonNumber(ProvenanceMetrics.KEY_TOTAL_SECONDS).doubleValue(), "Module total did not match the expected value.");
+        String prometheus = read(new File(tempDir, "slsa_provenance_metrics.prom"));
+        assertTrue(prometheus.contains("slsa_provenance_phase_seconds{module=\"com.example:app\",phase=\"writeFile\"} 0.25\n"), "Prometheus file did not contain the expected sample: " + prometheus);
+    }
+
+    private ProvenanceMetrics createMetrics(long buildSubjectMillis, long writeFileMillis) {
+        ProvenanceMetrics metrics = new ProvenanceMetrics();
+        metrics.add(ProvenanceMetrics.PHASE_BUILD_SUBJECT, TimeUnit.MILLISECONDS.toNanos(buildSubjectMillis));
+        metrics.add(ProvenanceMetrics.PHASE_WRITE_FILE, TimeUnit.MILLISECONDS.toNanos(writeFileMillis));
+        return metrics;
+    }
+
+    private String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private JsonObject readJson(File file) throws IOException {
+        try (JsonReader reader = Json.createReader(new StringReader(read(file)))) {
+            return reader.readObject();
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.signing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.json.JsonObject;
+
+@ExtendWith(MockitoExtension.class)
+public class DsseSignerTest {
+
+    private static final byte[] PAYLOAD = "{\"_type\":\"https://in-toto.io/Statement/v1\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock MavenSession mavenSession;
+    @Mock MavenSession otherModuleSession;
+    @Mock MavenExecutionRequest request;
+
+    @Test
+    public void test_pae() {
+        // The test vector from the DSSE protocol specification
+        byte[] pae = DsseSigner.pae("http://example.com/HelloWorld", "hello world".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("DSSEv1 29 http://example.com/HelloWorld 11 hello world", new String(pae, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_pae_lengthsInBytes() {
+        byte[] pae = DsseSigner.pae("t\u00e9", "\u20ac".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("DSSEv1 3 t\u00e9 3 \u20ac", new String(pae, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void test_createEnvelope_ec() throws Exception {
+        KeyPair keyPair = SigningKeyTest.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        DsseSigner signer = new DsseSigner(SigningKey.of(keyPair.getPrivate()), "my-key");
+
+        JsonObject envelope = signer.createEnvelope(DsseSigner.PAYLOAD_TYPE_IN_TOTO, PAYLOAD);
+
+        assertArrayEquals(PAYLOAD, Base64.getDecoder().decode(envelope.getString(DsseSigner.KEY_PAYLOAD)), "Envelope payload did not match the signed payload.");
+        assertEquals(DsseSigner.PAYLOAD_TYPE_IN_TOTO, envelope.getString(DsseSigner.KEY_PAYLOAD_TYPE));
+        assertEquals(1, envelope.getJsonArray(DsseSigner.KEY_SIGNATURES).size());
+        JsonObject signature = envelope.getJsonArray(DsseSigner.KEY_SIGNATURES).getJsonObject(0);
+        assertEquals("my-key", signature.getString(DsseSigner.KEY_KEY_ID));
+        assertTrue(verify(SigningKey.ALGORITHM_ECDSA_P256, keyPair.getPublic(), PAYLOAD, signature.getString(DsseSigner.KEY_SIG)), "Envelope signature did not verify.");
+    }
+
+    @Test
+    public void test_createEnvelope_noKeyId() throws Exception {
+        KeyPair keyPair = SigningKeyTest.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        DsseSigner signer = new DsseSigner(SigningKey.of(keyPair.getPrivate()), null);
+
+        JsonObject signature = signer.createEnvelope(DsseSigner.PAYLOAD_TYPE_IN_TOTO, PAYLOAD).getJsonArray(DsseSigner.KEY_SIGNATURES).getJsonObject(0);
+
+        assertFalse(signature.containsKey(DsseSigner.KEY_KEY_ID), "Signature should not have a key ID when none is configured.");
+    }
+
+    @Test
+    public void test_createEnvelope_ed25519() throws Exception {
+        assumeTrue(SigningKeyTest.isAvailable("Ed25519"), "Ed25519 requires Java 15 or later");
+        KeyPair keyPair = SigningKeyTest.generateKeyPair("Ed25519", null);
+        DsseSigner signer = new DsseSigner(SigningKey.of(keyPair.getPrivate()), null);
+
+        JsonObject envelope = signer.createEnvelope(DsseSigner.PAYLOAD_TYPE_IN_TOTO, PAYLOAD);
+        String sig = envelope.getJsonArray(DsseSigner.KEY_SIGNATURES).getJsonObject(0).getString(DsseSigner.KEY_SIG);
+
+        assertTrue(verify(SigningKey.ALGORITHM_ED25519, keyPair.getPublic(), PAYLOAD, sig), "Envelope signature did not verify.");
+        // Ed25519 signatures are deterministic
+        assertArrayEquals(Base64.getDecoder().decode(sig), signer.sign(DsseSigner.PAYLOAD_TYPE_IN_TOTO, PAYLOAD));
+    }
+
+    @Test
+    public void test_sign_concurrently() throws Exception {
+        KeyPair keyPair = SigningKeyTest.generateKeyPair("EC", new ECGenParameterSpec("secp256r1"));
+        DsseSigner signer = new DsseSigner(SigningKey.of(keyPair.getPrivate()), null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                byte[] payload = ("{\"module\":" + i + "}").getBytes(StandardCharsets.UTF_8);
+                results.add(executor.submit(() -> verify(SigningKey.ALGORITHM_ECDSA_P256, keyPair.getPublic(), payload,
+                        Base64.getEncoder().encodeToString(signer.sign(DsseSigner.PAYLOAD_TYPE_IN_TOTO, payload)))));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(), "Signature created concurrently did not verify.");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_forSession_sharedAcrossModules() throws Exception {
+        when(mavenSession.getRequest()).thenReturn(request);
+        when(otherModuleSession.getRequest()).thenReturn(request);
+        File keyFile = new File(SigningKeyTest.KEY_STORE_PATH);
+
+        DsseSigner signer = DsseSigner.forSession(mavenSession, keyFile, null, SigningKeyTest.KEY_STORE_PASSWORD, "key");
+
+        assertSame(signer, DsseSigner.forSession(otherModuleSession, keyFile, null, SigningKeyTest.KEY_STORE_PASSWORD, "key"), "Modules of the same build should share the signer.");
+        assertNotSame(signer, DsseSigner.forSession(mavenSession, keyFile, null, SigningKeyTest.KEY_STORE_PASSWORD, "other-key"), "Signers with different key IDs should not be shared.");
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (FileInputStream in = new FileInputStream(keyFile)) {
+            keyStore.load(in, SigningKeyTest.KEY_STORE_PASSWORD);
+        }
+        PublicKey publicKey = keyStore.getCertificate("slsa").getPublicKey();
+        byte[] sig = signer.sign(DsseSigner.PAYLOAD_TYPE_IN_TOTO, PAYLOAD);
+        assertTrue(verify(SigningKey.ALGORITHM_ECDSA_P256, publicKey, PAYLOAD, Base64.getEncoder().encodeToString(sig)), "Signature did not verify with the key store's certificate.");
+    }
+
+    private static boolean verify(String algorithm, PublicKey publicKey, byte[] payload, String sig) throws Exception {
+        Signature signature = Signature.getInstance(algorithm);
+        signature.initVerify(publicKey);
+        signature.update(DsseSigner.pae(DsseSigner.PAYLOAD_TYPE_IN_TOTO, payload));
+        return signature.verify(Base64.getDecoder().decode(sig));
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelTasksTest {
+
+    @Test
+    public void test_map_keepsOrder() throws IOException {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+
+        List<String> results = ParallelTasks.map(items, 4, item -> String.valueOf(item));
+
+        assertEquals(items.size(), results.size(), "Should have gotten a result for every item.");
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(String.valueOf(i), results.get(i), "Result did not match its item.");
+        }
+    }
+
+    @Test
+    public void test_map_empty() throws IOException {
+        assertTrue(ParallelTasks.map(Collections.<Integer> emptyList(), 4, item -> item).isEmpty(), "Should not have gotten any results.");
+    }
+
+    @Test
+    public void test_map_boundsThreads() throws IOException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ParallelTasks.map(Collections.nCopies(50, 1), 3, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return item;
+        });
+
+        assertTrue(maxRunning.get() <= 3, "Should not have run more than 3 tasks at once, but ran " + maxRunning.get() + ".");
+    }
+
+    @Test
+    public void test_map_failure() {
+        AtomicInteger started = new AtomicInteger();
+        IOException failure = new IOException("Expected failure.");
+
+        IOException e = assertThrows(IOException.class, () -> ParallelTasks.map(Collections.nCopies(1000, 1), 2, item -> {
+            if (started.incrementAndGet() == 10) {
+                throw failure;
+            }
+            return item;
+        }));
+
+        assertSame(failure, e, "Should have rethrown the task's failure.");
+        assertTrue(started.get() < 1000, "Items after the failure should have been skipped.");
+    }
+
+    @Test
+    public void test_map_nested() throws IOException {
+        // Tasks that wait for tasks of their own must not wait behind themselves
+        List<List<Integer>> results = ParallelTasks.map(Arrays.asList(1, 2, 3, 4), 4, item -> ParallelTasks.map(Collections.nCopies(8, item), 4, nested -> nested));
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(Collections.nCopies(8, i + 1), results.get(i), "Nested results did not match.");
+        }
+    }
+
+    @Test
+    public void test_getResult() throws IOException {
+        assertEquals("value", ParallelTasks.getResult(ParallelTasks.submit(() -> "value"), IOException.class), "Result did not match.");
+    }
+
+    @Test
+    public void test_getResult_failures() {
+        IOException expected = new IOException("Expected failure.");
+        IllegalArgumentException unchecked = new IllegalArgumentException("Unchecked failure.");
+        Exception other = new Exception("Other failure.");
+
+        Future<Object> expectedFuture = ParallelTasks.submit(() -> {
+            throw expected;
+        });
+        Future<Object> uncheckedFuture = ParallelTasks.submit(() -> {
+            throw unchecked;
+        });
+        Future<Object> otherFuture = ParallelTasks.submit(() -> {
+            throw other;
+        });
+
+        assertSame(expected, assertThrows(IOException.class, () -> ParallelTasks.getResult(expectedFuture, IOException.class)), "Should have rethrown the expected exception type unchanged.");
+        assertSame(unchecked, assertThrows(IllegalArgumentException.class, () -> ParallelTasks.getResult(uncheckedFuture, IOException.class)), "Should have rethrown the unchecked exception unchanged.");
+        assertSame(other, assertThrows(UndeclaredThrowableException.class, () -> ParallelTasks.getResult(otherFuture, IOException.class)).getCause(), "Should have wrapped any other exception.");
+    }
+
+}
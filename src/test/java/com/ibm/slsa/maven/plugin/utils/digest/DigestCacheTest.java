@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+
+public class DigestCacheTest {
+
+    private static final long OLD_TIMESTAMP = 1700000000000L;
+    private static final List<String> SHA256 = Collections.singletonList(DigestUtils.ALG_SHA256);
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_getDigest_cachedOnSecondRead() throws IOException {
+        File file = createFile("app.war", "contents");
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+        DigestUtils utils = new DigestUtils(SHA256, cache);
+
+        DigestSet first = utils.getDigest(file);
+        DigestSet second = utils.getDigest(file);
+
+        assertEquals(first, second, "Cached digest did not match the calculated digest.");
+        assertEquals(1, cache.getHits(), "Did not have the expected number of cache hits.");
+        assertEquals(1, cache.getMisses(), "Did not have the expected number of cache misses.");
+        assertEquals(file.length(), cache.getBytesSaved(), "Did not have the expected number of bytes saved.");
+    }
+
+    @Test
+    public void test_getDigest_sharedAcrossInstances() throws IOException {
+        File file = createFile("app.war", "contents");
+        File cacheDir = new File(tempDir, "cache");
+        new DigestUtils(SHA256, new DigestCache(cacheDir)).getDigest(file);
+
+        DigestCache cache = new DigestCache(cacheDir);
+        new DigestUtils(SHA256, cache).getDigest(file);
+
+        assertEquals(1, cache.getHits(), "A new cache using the same directory should have found the entry.");
+    }
+
+    @Test
+    public void test_getDigest_fileChanged() throws IOException {
+        File file = createFile("app.war", "contents");
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+        DigestUtils utils = new DigestUtils(SHA256, cache);
+
+        DigestSet first = utils.getDigest(file);
+        Files.write(file.toPath(), "different contents".getBytes(StandardCharsets.UTF_8));
+        file.setLastModified(OLD_TIMESTAMP + 1000);
+        DigestSet second = utils.getDigest(file);
+
+        assertEquals(0, cache.getHits(), "Should not have used the cached digest of a changed file.");
+        assertNotEquals(first, second, "Digest of the changed file should have been different.");
+    }
+
+    @Test
+    public void test_getDigest_additionalAlgorithm() throws IOException {
+        File file = createFile("app.war", "contents");
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+        new DigestUtils(SHA256, cache).getDigest(file);
+
+        DigestSet digest = new DigestUtils(Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA512), cache).getDigest(file);
+
+        assertEquals(2, digest.size(), "Should have calculated every requested algorithm. Digest was: " + digest);
+        assertEquals(0, cache.getHits(), "Cached entry did not contain every requested algorithm, so it shouldn't have been used.");
+    }
+
+    @Test
+    public void test_put_recentlyModifiedFile() throws IOException {
+        File file = createFile("app.war", "contents");
+        file.setLastModified(System.currentTimeMillis());
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+
+        new DigestUtils(SHA256, cache).getDigest(file);
+
+        assertNull(cache.get(file, SHA256), "Should not have cached the digest of a file that might still be changing.");
+    }
+
+    @Test
+    public void test_put_freshlyPackagedFile() throws IOException {
+        File file = createFile("app.war", "contents");
+        // Written by the packaging step shortly before the digest is calculated, on a file system with sub-second timestamps
+        file.setLastModified(getSubSecondMillis(System.currentTimeMillis() - 200));
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+
+        new DigestUtils(SHA256, cache).getDigest(file);
+
+        assertNotNull(cache.get(file, SHA256), "Should have cached the digest of a file that was modified before it was hashed.");
+    }
+
+    @Test
+    public void test_get_racilyCachedEntryRewritten() throws IOException, InterruptedException {
+        File file = createFile("app.war", "contents");
+        file.setLastModified(getSubSecondMillis(System.currentTimeMillis()));
+        DigestCache cache = new DigestCache(new File(tempDir, "cache"));
+        DigestUtils utils = new DigestUtils(SHA256, cache);
+        utils.getDigest(file);
+
+        Thread.sleep(100);
+        utils.getDigest(file);
+
+        assertEquals(0, cache.getHits(), "Should not have trusted an entry written in the same tick as the modification.");
+        assertNotNull(cache.get(file, SHA256), "Hashing the file again should have rewritten the entry with a later time.");
+    }
+
+    @Test
+    public void test_evict() throws IOException, InterruptedException {
+        File cacheDir = new File(tempDir, "cache");
+        DigestCache cache = new DigestCache(cacheDir, 2);
+        DigestUtils utils = new DigestUtils(SHA256, cache);
+        File leastRecentlyUsed = createFile("1.war", "one");
+        utils.getDigest(leastRecentlyUsed);
+        File file2 = createFile("2.war", "two");
+        utils.getDigest(file2);
+        File file3 = createFile("3.war", "three");
+        utils.getDigest(file3);
+        for (Path entry : getEntries(cacheDir)) {
+            entry.toFile().setLastModified(OLD_TIMESTAMP);
+        }
+        // Using the entries for these files makes them more recently used than the first file
+        assertNotNull(cache.get(file2, SHA256));
+        assertNotNull(cache.get(file3, SHA256));
+
+        cache.evict();
+
+        assertEquals(2, getEntries(cacheDir).size(), "Cache did not have the expected number of entries after eviction.");
+        assertNull(cache.get(leastRecentlyUsed, SHA256), "The least recently used entry should have been evicted.");
+        assertNotNull(cache.get(file3, SHA256), "A recently used entry should not have been evicted.");
+    }
+
+    @Test
+    public void test_concurrentReadersAndWriters() throws Exception {
+        File file = createFile("app.war", "contents");
+        File cacheDir = new File(tempDir, "cache");
+        String expected = new DigestUtils(SHA256).getDigest(file).get(DigestUtils.ALG_SHA256);
+
+        Thread[] threads = new Thread[8];
+        String[] results = new String[threads.length * 50];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * 50;
+            threads[t] = new Thread(() -> {
+                DigestUtils utils = new DigestUtils(SHA256, new DigestCache(cacheDir));
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        results[offset + i] = utils.getDigest(file).get(DigestUtils.ALG_SHA256);
+                    } catch (IOException e) {
+                        results[offset + i] = e.toString();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (String result : results) {
+            assertEquals(expected, result, "Every thread should have gotten the same digest.");
+        }
+    }
+
+    private long getSubSecondMillis(long millis) {
+        return millis % 1000 == 0 ? millis + 1 : millis;
+    }
+
+    private File createFile(String name, String contents) throws IOException {
+        File file = new File(tempDir, name);
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        // Entries written in the same tick as the file was modified are deliberately not trusted
+        file.setLastModified(OLD_TIMESTAMP);
+        return file;
+    }
+
+    private List<Path> getEntries(File cacheDir) throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+}
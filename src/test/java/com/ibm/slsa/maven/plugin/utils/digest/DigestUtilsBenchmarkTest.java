@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.file.WarResourceDescriptor;
+
+/**
+ * Compares the throughput of {@link DigestUtils} with hashing through {@link WarResourceDescriptor}. Only runs when requested:
+ * <p>
+ * {@code mvn test -Dtest=DigestUtilsBenchmarkTest -Dslsa.benchmark=true [-Dslsa.benchmark.sizesMb=64,256]}
+ */
+@EnabledIfSystemProperty(named = "slsa.benchmark", matches = "true")
+public class DigestUtilsBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @TempDir File tempDir;
+
+    @Test
+    public void benchmark_getDigest() throws Exception {
+        for (String size : System.getProperty("slsa.benchmark.sizesMb", "64,256").split(",")) {
+            int sizeMb = Integer.parseInt(size.trim());
+            File war = createFile(sizeMb);
+
+            DigestUtils utils = new DigestUtils();
+            String expected = new WarResourceDescriptor(war).toJson().getJsonObject("digest").getString(DigestSet.ALG_SHA256);
+            assertEquals(expected, utils.getDigest(war).get(DigestSet.ALG_SHA256), "Both paths should calculate the same digest.");
+
+            double warResourceDescriptorRate = measure(sizeMb, () -> new WarResourceDescriptor(war).toJson());
+            double digestUtilsRate = measure(sizeMb, () -> utils.getDigest(war));
+            System.out.println(String.format("%5d MB: WarResourceDescriptor %8.1f MB/s, DigestUtils %8.1f MB/s", sizeMb, warResourceDescriptorRate, digestUtilsRate));
+        }
+    }
+
+    private double measure(int sizeMb, HashOperation operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return sizeMb * MEASURED_ITERATIONS / seconds;
+    }
+
+    private File createFile(int sizeMb) throws IOException {
+        File file = new File(tempDir, "benchmark-" + sizeMb + ".war");
+        byte[] chunk = new byte[1024 * 1024];
+        Random random = new Random(sizeMb);
+        try (OutputStream output = Files.newOutputStream(file.toPath())) {
+            for (int i = 0; i < sizeMb; i++) {
+                random.nextBytes(chunk);
+                output.write(chunk);
+            }
+        }
+        return file;
+    }
+
+    @FunctionalInterface
+    private interface HashOperation {
+        Object run() throws Exception;
+    }
+
+}
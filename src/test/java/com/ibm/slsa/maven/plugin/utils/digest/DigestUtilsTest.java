@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.digest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.test.CommonTestUtils;
+import com.ibm.slsa.test.Constants;
+
+public class DigestUtilsTest {
+
+    private static final String APP_WAR_PATH = Constants.RESOURCES_DIR + "one-war" + File.separator + Constants.FILE_NAME_APP_WAR;
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private DigestUtils utils = new DigestUtils();
+
+    @Test
+    public void test_getDigest() throws IOException {
+        DigestSet digest = utils.getDigest(new File(Constants.FILE_PATH_SIMPLE_TXT));
+        assertEquals(1, digest.size(), "Digest did not have the expected number of entries: " + digest);
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digest.get(DigestSet.ALG_SHA256), "Digest did not match the expected value.");
+    }
+
+    @Test
+    public void test_getDigest_multipleAlgorithms() throws IOException {
+        DigestUtils utils = new DigestUtils(Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA512, DigestUtils.ALG_SHA1));
+
+        DigestSet digest = utils.getDigest(new File(Constants.FILE_PATH_SIMPLE_TXT));
+        assertEquals(3, digest.size(), "Digest did not have the expected number of entries: " + digest);
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, digest.get(DigestUtils.ALG_SHA256), "SHA-256 digest did not match the expected value.");
+        assertEquals(Constants.SHA512_FILE_SIMPLE_TXT, digest.get(DigestUtils.ALG_SHA512), "SHA-512 digest did not match the expected value.");
+        assertEquals(Constants.SHA1_FILE_SIMPLE_TXT, digest.get(DigestUtils.ALG_SHA1), "SHA-1 digest did not match the expected value.");
+    }
+
+    @Test
+    public void test_constructor_normalizesAlgorithms() {
+        DigestUtils utils = new DigestUtils(Arrays.asList(" SHA512", "sha512", "sha256"));
+        assertEquals(Arrays.asList(DigestUtils.ALG_SHA512, DigestUtils.ALG_SHA256), utils.getAlgorithms(), "Algorithms did not match the expected values.");
+    }
+
+    @Test
+    public void test_constructor_noAlgorithms() {
+        DigestUtils utils = new DigestUtils(Collections.emptyList());
+        assertEquals(Collections.singletonList(DigestUtils.ALG_SHA256), utils.getAlgorithms(), "Should have defaulted to SHA-256.");
+    }
+
+    @Test
+    public void test_constructor_unsupportedAlgorithm() {
+        try {
+            DigestUtils utils = new DigestUtils(Arrays.asList("sha256", "md5"));
+            fail("Should have thrown an exception, but got algorithms: " + utils.getAlgorithms());
+        } catch (IllegalArgumentException e) {
+            // Expected
+            testUtils.assertExceptionMatchesPattern(e, "Unsupported digest algorithm \"md5\"");
+        }
+    }
+
+    @Test
+    public void test_getDigest_fileDoesNotExist() {
+        try {
+            DigestSet digest = utils.getDigest(new File(Constants.RESOURCES_DIR + "does-not-exist.txt"));
+            fail("Should have thrown an exception, but got the following digest: " + digest);
+        } catch (IOException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void test_toHex() {
+        assertEquals("00017f80ff", DigestUtils.toHex(new byte[] { 0x00, 0x01, 0x7f, (byte) 0x80, (byte) 0xff }), "Hex value did not match the expected value.");
+    }
+
+    @Test
+    public void test_getDigests() throws IOException {
+        List<File> files = Arrays.asList(new File(Constants.FILE_PATH_SIMPLE_TXT), new File(APP_WAR_PATH), new File(Constants.FILE_PATH_SIMPLE_TXT));
+
+        List<DigestSet> digests = utils.getDigests(files, 2);
+
+        assertEquals(3, digests.size(), "Did not get a digest for every file.");
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Digest", digests.get(0).toJson(), DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Digest", digests.get(1).toJson(), DigestSet.ALG_SHA256, Constants.SHA_APP_WAR);
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Digest", digests.get(2).toJson(), DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+    }
+
+    @Test
+    public void test_getDigests_fileDoesNotExist() {
+        List<File> files = Arrays.asList(new File(Constants.FILE_PATH_SIMPLE_TXT), new File("does-not-exist.jar"));
+
+        assertThrows(IOException.class, () -> utils.getDigests(files, 2));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AttestationBundleWriterTest {
+
+    private static final int THREADS = 8;
+    private static final int LINES_PER_THREAD = 50;
+
+    @TempDir File tempDir;
+
+    @Mock MavenSession mavenSession;
+    @Mock MavenSession otherModuleSession;
+    @Mock MavenExecutionRequest request;
+
+    @Test
+    public void test_write() throws Exception {
+        File file = new File(tempDir, "bundle/slsa_attestations.jsonl");
+        AttestationBundleWriter writer = new AttestationBundleWriter(file, false);
+
+        writer.write(line(1));
+        writer.write(line(2));
+
+        assertEquals(Arrays.asList(new String(line(1), StandardCharsets.UTF_8), new String(line(2), StandardCharsets.UTF_8)), readLines(file, false));
+    }
+
+    @Test
+    public void test_write_replacesExistingFile() throws Exception {
+        File file = new File(tempDir, "slsa_attestations.jsonl");
+        Files.write(file.toPath(), "{\"previous\":\"build\"}\n".getBytes(StandardCharsets.UTF_8));
+        AttestationBundleWriter writer = new AttestationBundleWriter(file, false);
+
+        writer.write(line(1));
+
+        assertEquals(Arrays.asList(new String(line(1), StandardCharsets.UTF_8)), readLines(file, false), "The bundle of an earlier build should have been replaced.");
+    }
+
+    @Test
+    public void test_append_concurrently() throws Exception {
+        File file = new File(tempDir, "slsa_attestations.jsonl");
+        assertAllLinesWritten(file, false);
+    }
+
+    @Test
+    public void test_append_concurrently_gzip() throws Exception {
+        File file = new File(tempDir, "slsa_attestations.jsonl.gz");
+        assertAllLinesWritten(file, true);
+    }
+
+    @Test
+    public void test_append_lineBreak() {
+        AttestationBundleWriter writer = new AttestationBundleWriter(new File(tempDir, "slsa_attestations.jsonl"), false);
+
+        assertThrows(IllegalArgumentException.class, () -> writer.append("{}\n{}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void test_write_failure() throws Exception {
+        File directory = new File(tempDir, "slsa_attestations.jsonl");
+        directory.mkdirs();
+        AttestationBundleWriter writer = new AttestationBundleWriter(directory, false);
+
+        assertThrows(IOException.class, () -> writer.write(line(1)));
+        // The writer keeps accepting lines after a failed batch
+        assertThrows(IOException.class, () -> writer.write(line(2)));
+    }
+
+    @Test
+    public void test_forSession_sharedAcrossModules() {
+        when(mavenSession.getRequest()).thenReturn(request);
+        when(otherModuleSession.getRequest()).thenReturn(request);
+        File file = new File(tempDir, "slsa_attestations.jsonl");
+
+        AttestationBundleWriter writer = AttestationBundleWriter.forSession(mavenSession, file, false);
+
+        assertSame(writer, AttestationBundleWriter.forSession(otherModuleSession, file, false), "Modules of the same build should share the writer.");
+        assertNotSame(writer, AttestationBundleWriter.forSession(mavenSession, new File(tempDir, "other.jsonl"), false), "Different files should not share a writer.");
+    }
+
+    private void assertAllLinesWritten(File file, boolean gzip) throws Exception {
+        AttestationBundleWriter writer = new AttestationBundleWriter(file, gzip);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < LINES_PER_THREAD; i++) {
+                        writer.write(line(thread * LINES_PER_THREAD + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<String> lines = readLines(file, gzip);
+        Set<String> expectedLines = new HashSet<>();
+        for (int i = 0; i < THREADS * LINES_PER_THREAD; i++) {
+            expectedLines.add(new String(line(i), StandardCharsets.UTF_8));
+        }
+        assertEquals(THREADS * LINES_PER_THREAD, lines.size(), "Every line should have been written once.");
+        assertEquals(expectedLines, new HashSet<>(lines), "Written lines did not match the appended lines.");
+        assertTrue(lines.stream().allMatch(l -> l.startsWith("{") && l.endsWith("}")), "Lines should not have been interleaved.");
+    }
+
+    private static byte[] line(int i) {
+        return ("{\"_type\":\"https://in-toto.io/Statement/v1\",\"module\":" + i + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readLines(File file, boolean gzip) throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(new FileInputStream(file)) : new FileInputStream(file);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+
+public class ProvenanceFileWriterTest {
+
+    private static final String CONTENTS = "{\"_type\":\"https://in-toto.io/Statement/v1\"}";
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_write() throws IOException {
+        File provenanceFile = new File(tempDir, "slsa/slsa_provenance.json");
+
+        new ProvenanceFileWriter(provenanceFile).sync(true).write(out -> out.write(CONTENTS.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(CONTENTS, readFile(provenanceFile), "Provenance file contents did not match the expected value.");
+        assertEquals(1, provenanceFile.getParentFile().list().length, "Only the provenance file should have been left in the directory: " + Arrays.toString(provenanceFile.getParentFile().list()));
+    }
+
+    @Test
+    public void test_write_permissions() throws IOException {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"), "The file system does not support POSIX permissions.");
+        File provenanceFile = new File(tempDir, "slsa_provenance.json");
+        File referenceFile = new File(tempDir, "reference");
+        Files.createFile(referenceFile.toPath());
+
+        new ProvenanceFileWriter(provenanceFile).checksumAlgorithms(Collections.singletonList("sha256")).write(out -> out.write(CONTENTS.getBytes(StandardCharsets.UTF_8)));
+
+        // New files get the same permissions as any other file created with the current umask, not owner-only ones
+        Set<PosixFilePermission> defaultPermissions = Files.getPosixFilePermissions(referenceFile.toPath());
+        assertEquals(defaultPermissions, Files.getPosixFilePermissions(provenanceFile.toPath()), "Provenance file should have the default permissions.");
+        assertEquals(defaultPermissions, Files.getPosixFilePermissions(ProvenanceFileWriter.getChecksumFile(provenanceFile, "sha256").toPath()), "Checksum file should have the default permissions.");
+
+        // Replacing a file keeps its permissions
+        Set<PosixFilePermission> existingPermissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(provenanceFile.toPath(), existingPermissions);
+        new ProvenanceFileWriter(provenanceFile).write(out -> out.write(CONTENTS.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(existingPermissions, Files.getPosixFilePermissions(provenanceFile.toPath()), "Provenance file should have kept its permissions.");
+    }
+
+    @Test
+    public void test_write_checksums() throws IOException {
+        File provenanceFile = new File(tempDir, "slsa_provenance.json");
+
+        new ProvenanceFileWriter(provenanceFile).checksumAlgorithms(Arrays.asList("sha256", "SHA512")).write(out -> {
+            out.write(CONTENTS.getBytes(StandardCharsets.UTF_8));
+            // Closing the stream must not prevent the checksums from being completed
+            out.close();
+        });
+
+        DigestSet expectedDigest = new DigestUtils(Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA512)).getDigest(provenanceFile);
+        assertEquals(expectedDigest.get(DigestUtils.ALG_SHA256) + "  slsa_provenance.json\n", readFile(ProvenanceFileWriter.getChecksumFile(provenanceFile, DigestUtils.ALG_SHA256)), "SHA-256 checksum file did not match the expected value.");
+        assertEquals(expectedDigest.get(DigestUtils.ALG_SHA512) + "  slsa_provenance.json\n", readFile(ProvenanceFileWriter.getChecksumFile(provenanceFile, DigestUtils.ALG_SHA512)), "SHA-512 checksum file did not match the expected value.");
+    }
+
+    @Test
+    public void test_write_removesStaleChecksums() throws IOException {
+        File provenanceFile = new File(tempDir, "slsa_provenance.json");
+        File checksumFile = ProvenanceFileWriter.getChecksumFile(provenanceFile, DigestUtils.ALG_SHA256);
+
+        new ProvenanceFileWriter(provenanceFile).checksumAlgorithms(Collections.singletonList(DigestUtils.ALG_SHA256)).write(out -> out.write('a'));
+        assertTrue(checksumFile.isFile(), "Checksum file should have been written.");
+
+        new ProvenanceFileWriter(provenanceFile).write(out -> out.write('b'));
+        assertFalse(checksumFile.exists(), "Checksum file that no longer matches the provenance file should have been removed.");
+    }
+
+    @Test
+    public void test_write_failureKeepsExistingFile() throws IOException {
+        File provenanceFile = new File(tempDir, "slsa_provenance.json");
+        new ProvenanceFileWriter(provenanceFile).write(out -> out.write(CONTENTS.getBytes(StandardCharsets.UTF_8)));
+
+        IOException e = assertThrows(IOException.class, () -> new ProvenanceFileWriter(provenanceFile).write(out -> {
+            out.write("{\"partial\":".getBytes(StandardCharsets.UTF_8));
+            throw new IllegalStateException("Generation failed");
+        }));
+
+        assertEquals("Generation failed", e.getMessage(), "Exception message did not match the expected value.");
+        assertEquals(CONTENTS, readFile(provenanceFile), "Existing provenance file should not have been modified.");
+        assertEquals(1, tempDir.list().length, "Temporary file should have been removed: " + Arrays.toString(tempDir.list()));
+    }
+
+    @Test
+    public void test_checksumAlgorithms_unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> new ProvenanceFileWriter(new File(tempDir, "slsa_provenance.json")).checksumAlgorithms(Collections.singletonList("md5")));
+    }
+
+    private String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GitHeadReaderTest {
+
+    private static final String ORIGIN_URL = "git@github.com:example/app.git";
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_read_looseRef() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        String commit = createRepository(repositoryDir);
+
+        GitHead head = GitHeadReader.read(new File(repositoryDir, ".git"));
+
+        assertEquals("refs/heads/main", head.getRef(), "Ref did not match the expected value.");
+        assertEquals(commit, head.getCommit(), "Commit did not match the expected value.");
+        assertEquals(ORIGIN_URL, head.getRemoteOriginUrl(), "Origin URL did not match the expected value.");
+        assertMatchesJGit(new File(repositoryDir, ".git"));
+    }
+
+    @Test
+    public void test_read_packedRef() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        String commit = createRepository(repositoryDir);
+        File gitDir = new File(repositoryDir, ".git");
+        Files.delete(new File(gitDir, "refs/heads/main").toPath());
+        write(new File(gitDir, "packed-refs"), "# pack-refs with: peeled fully-peeled sorted \n"
+                + "1111111111111111111111111111111111111111 refs/tags/v1\n"
+                + "^2222222222222222222222222222222222222222\n"
+                + commit + " refs/heads/main\n");
+
+        assertEquals(commit, GitHeadReader.read(gitDir).getCommit(), "Commit did not match the expected value.");
+        assertMatchesJGit(gitDir);
+    }
+
+    @Test
+    public void test_read_detachedHead() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        String commit = createRepository(repositoryDir);
+        File gitDir = new File(repositoryDir, ".git");
+        write(new File(gitDir, "HEAD"), commit + "\n");
+
+        GitHead head = GitHeadReader.read(gitDir);
+
+        assertEquals(commit, head.getRef(), "A detached HEAD should be reported by its commit.");
+        assertEquals(commit, head.getCommit(), "Commit did not match the expected value.");
+        assertMatchesJGit(gitDir);
+    }
+
+    @Test
+    public void test_read_linkedWorktree() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        String commit = createRepository(repositoryDir);
+        File worktreeGitDir = new File(repositoryDir, ".git/worktrees/feature");
+        worktreeGitDir.mkdirs();
+        File worktreeDir = new File(tempDir, "feature");
+        File moduleDir = new File(worktreeDir, "module");
+        moduleDir.mkdirs();
+        write(new File(worktreeGitDir, "HEAD"), "ref: refs/heads/main\n");
+        write(new File(worktreeGitDir, "commondir"), "../..\n");
+        write(new File(worktreeGitDir, "gitdir"), new File(worktreeDir, ".git").getAbsolutePath() + "\n");
+        write(new File(worktreeDir, ".git"), "gitdir: " + worktreeGitDir.getAbsolutePath() + "\n");
+
+        File gitDir = GitHeadReader.findGitDir(moduleDir);
+        assertEquals(worktreeGitDir.getCanonicalFile(), gitDir.getCanonicalFile(), "Git directory did not match the worktree's Git directory.");
+        GitHead head = GitHeadReader.read(gitDir);
+        assertEquals("refs/heads/main", head.getRef(), "Ref did not match the expected value.");
+        assertEquals(commit, head.getCommit(), "Commit did not match the expected value.");
+        assertEquals(ORIGIN_URL, head.getRemoteOriginUrl(), "Origin URL should be read from the main repository's config.");
+    }
+
+    @Test
+    public void test_findGitDir_relativeGitDirFile() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        createRepository(repositoryDir);
+        File submoduleDir = new File(tempDir, "parent/submodule");
+        submoduleDir.mkdirs();
+        write(new File(submoduleDir, ".git"), "gitdir: ../../repository/.git\n");
+
+        File gitDir = GitHeadReader.findGitDir(submoduleDir);
+
+        assertEquals(new File(repositoryDir, ".git").getCanonicalFile(), gitDir.getCanonicalFile(), "Git directory did not match the expected directory.");
+    }
+
+    @Test
+    public void test_findGitDir_parentDirectory() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        createRepository(repositoryDir);
+        File moduleDir = new File(repositoryDir, "parent/module");
+        moduleDir.mkdirs();
+
+        assertEquals(new File(repositoryDir, ".git").getAbsoluteFile(), GitHeadReader.findGitDir(moduleDir), "Git directory did not match the expected directory.");
+    }
+
+    @Test
+    public void test_read_noCommits() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        Git.init().setDirectory(repositoryDir).setInitialBranch("main").call().close();
+
+        assertThrows(IOException.class, () -> GitHeadReader.read(new File(repositoryDir, ".git")));
+    }
+
+    @Test
+    public void test_read_reftable() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        createRepository(repositoryDir);
+        File gitDir = new File(repositoryDir, ".git");
+        new File(gitDir, "reftable").mkdirs();
+
+        assertNull(GitHeadReader.read(gitDir), "Repositories with the reftable ref storage should be left to JGit.");
+    }
+
+    @Test
+    public void test_read_configInclude() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        createRepository(repositoryDir);
+        File gitDir = new File(repositoryDir, ".git");
+        write(new File(gitDir, "config"), "[include]\n\tpath = ../shared.gitconfig\n");
+
+        assertNull(GitHeadReader.read(gitDir), "Config files that include other files should be left to JGit.");
+    }
+
+    @Test
+    public void test_config() throws Exception {
+        File configFile = new File(tempDir, "config");
+        write(configFile, "# comment\n"
+                + "[core]\n"
+                + "\tbare = false\n"
+                + "[Remote \"origin\"]\n"
+                + "\tURL = first\n"
+                + "\turl = \"git@github.com:example/app.git\" ; trailing comment\n"
+                + "\tfetch = +refs/heads/*:refs/remotes/origin/*\n"
+                + "[remote \"Origin\"]\n"
+                + "\turl = other\n"
+                + "[remote.upstream]\n"
+                + "\turl = spaced  value  \\\n"
+                + "continued\n"
+                + "[branch \"a\\\"b\"] merge = refs/heads/a\n"
+                + "[http]\n"
+                + "\tsslVerify\n"
+                + "\tescapes = \"tab\\there\"\n");
+
+        GitHeadReader.Config config = GitHeadReader.Config.read(configFile);
+
+        assertEquals("git@github.com:example/app.git", config.get("remote", "origin", "url"), "The last value of a variable should win.");
+        assertEquals("other", config.get("remote", "Origin", "url"), "Subsection names should be case-sensitive.");
+        assertEquals("spaced  value  continued", config.get("remote", "upstream", "url"), "Value did not match the expected value.");
+        assertEquals("refs/heads/a", config.get("branch", "a\"b", "merge"), "Value did not match the expected value.");
+        assertEquals("true", config.get("http", null, "sslverify"), "A variable without a value should be true.");
+        assertEquals("tab\there", config.get("http", null, "escapes"), "Value did not match the expected value.");
+        assertEquals("false", config.get("CORE", null, "Bare"), "Section and variable names should be case-insensitive.");
+        assertNull(config.get("remote", "missing", "url"), "Missing variables should be null.");
+    }
+
+    @Test
+    public void test_config_missingFile() throws Exception {
+        assertNull(GitHeadReader.Config.read(new File(tempDir, "config")).get("remote", "origin", "url"), "A missing config file should have no variables.");
+    }
+
+    private void assertMatchesJGit(File gitDir) throws IOException {
+        GitHead expected = JGitHeadReader.read(gitDir);
+        GitHead head = GitHeadReader.read(gitDir);
+        assertEquals(expected.getRef(), head.getRef(), "Ref did not match the ref read by JGit.");
+        assertEquals(expected.getCommit(), head.getCommit(), "Commit did not match the commit read by JGit.");
+        assertEquals(expected.getRemoteOriginUrl(), head.getRemoteOriginUrl(), "Origin URL did not match the URL read by JGit.");
+    }
+
+    private static String createRepository(File repositoryDir) throws Exception {
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", ORIGIN_URL);
+            config.save();
+            write(new File(repositoryDir, "README.md"), "app");
+            git.add().addFilepattern("README.md").call();
+            RevCommit commit = git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+            return commit.getName();
+        }
+    }
+
+    private static void write(File file, String contents) throws IOException {
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
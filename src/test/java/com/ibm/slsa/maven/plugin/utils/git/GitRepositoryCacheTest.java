@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.custom.resource.descriptors.git.GitRepositoryResourceDescriptor;
+import com.ibm.slsa.maven.plugin.exceptions.GitRepositoryException;
+
+public class GitRepositoryCacheTest {
+
+    @TempDir File gitDir;
+
+    private AtomicInteger loadCount = new AtomicInteger();
+
+    private GitRepositoryCache.DescriptorLoader loader = dir -> {
+        loadCount.incrementAndGet();
+        return mock(GitRepositoryResourceDescriptor.class);
+    };
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        writeFile("HEAD", "ref: refs/heads/main\n");
+        writeFile("refs/heads/main", "549ec9c0333446e0d31d1c8103d822867c65ce01\n");
+    }
+
+    @Test
+    public void test_forSession_sameSession() {
+        MavenSession mavenSession = mock(MavenSession.class);
+        assertSame(GitRepositoryCache.forSession(mavenSession), GitRepositoryCache.forSession(mavenSession), "Should have gotten the same cache for the same session.");
+    }
+
+    @Test
+    public void test_forSession_differentSessions() {
+        assertNotSame(GitRepositoryCache.forSession(mock(MavenSession.class)), GitRepositoryCache.forSession(mock(MavenSession.class)), "Should have gotten a different cache for each session.");
+    }
+
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_headUnchanged() throws GitRepositoryException {
+        GitRepositoryCache cache = new GitRepositoryCache();
+
+        GitRepositoryResourceDescriptor first = cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+        GitRepositoryResourceDescriptor second = cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+
+        assertSame(first, second, "Should have reused the cached descriptor.");
+        assertEquals(1, loadCount.get(), "Repository should only have been read once.");
+    }
+
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_newCommit() throws Exception {
+        GitRepositoryCache cache = new GitRepositoryCache();
+
+        GitRepositoryResourceDescriptor first = cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+        writeFile("refs/heads/main", "0e91b4b9e2e9d2bd0e6a3e8c4bb01a5e0f12e2c1\n");
+        GitRepositoryResourceDescriptor second = cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+
+        assertNotSame(first, second, "Should have read the repository again after the branch moved.");
+        assertEquals(2, loadCount.get(), "Repository should have been read twice.");
+    }
+
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_branchSwitched() throws Exception {
+        GitRepositoryCache cache = new GitRepositoryCache();
+
+        cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+        writeFile("HEAD", "ref: refs/heads/feature\n");
+        cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+
+        assertEquals(2, loadCount.get(), "Repository should have been read again after switching branches.");
+    }
+
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_concurrentCallers() throws Exception {
+        GitRepositoryCache cache = new GitRepositoryCache();
+
+        Thread[] threads = new Thread[16];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    cache.getGitRepositoryResourceDescriptor(gitDir, loader);
+                } catch (GitRepositoryException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, loadCount.get(), "Repository should only have been read once across all threads.");
+    }
+
+    private void writeFile(String path, String contents) throws IOException {
+        File file = new File(gitDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -16,9 +16,21 @@
 */
 package com.ibm.slsa.maven.plugin.utils.git;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.ibm.intoto.attestation.DigestSet;
 import com.ibm.intoto.attestation.ResourceDescriptor;
@@ -33,6 +45,8 @@ public class GitUtilsTest {
 
     private GitUtils utils = new GitUtils();
 
+    @TempDir File tempDir;
+
     @Test
     public void test_getGitRepositoryResourceDescriptor() {
         final String expectedRefRegex = "refs/heads/[^/]+";
@@ -50,4 +64,119 @@ public class GitUtilsTest {
         }
     }
 
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_searchDirectory() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "git@github.com:example/app.git");
+            config.save();
+            Files.write(new File(repositoryDir, "README.md").toPath(), "app".getBytes(StandardCharsets.UTF_8));
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        File moduleDir = new File(repositoryDir, "module");
+        moduleDir.mkdirs();
+
+        GitRepositoryResourceDescriptor descriptor = new GitUtils(null, moduleDir).getGitRepositoryResourceDescriptor();
+
+        assertEquals("refs/heads/main", descriptor.getRef(), "Ref did not match the expected value.");
+        assertEquals("git+https://github.com/example/app@refs/heads/main", descriptor.toJson().getString(GitRepositoryResourceDescriptor.KEY_URI), "URI did not match the expected value.");
+    }
+
+    @Test
+    public void test_getRemoteOriginUrl() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+            assertNull(new GitUtils(null, repositoryDir).getRemoteOriginUrl(), "Repository without a remote should not have a remote URL.");
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "git@github.com:example/app.git");
+            config.save();
+        }
+
+        assertEquals("git@github.com:example/app.git", new GitUtils(null, repositoryDir).getRemoteOriginUrl(), "Remote URL did not match the configured value.");
+    }
+
+    @Test
+    public void test_getSubmoduleResourceDescriptors() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "git@github.com:example/app.git");
+            config.save();
+            Files.write(new File(repositoryDir, "README.md").toPath(), "app".getBytes(StandardCharsets.UTF_8));
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        File libDir = new File(repositoryDir, "libs/lib");
+        String libCommit;
+        try (Git lib = Git.init().setDirectory(libDir).setInitialBranch("main").call()) {
+            Files.write(new File(libDir, "README.md").toPath(), "lib".getBytes(StandardCharsets.UTF_8));
+            lib.add().addFilepattern("README.md").call();
+            libCommit = lib.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call().getName();
+        }
+        Files.write(new File(repositoryDir, ".gitmodules").toPath(), "[submodule \"lib\"]\n\tpath = libs/lib\n\turl = ../lib.git\n".getBytes(StandardCharsets.UTF_8));
+
+        List<GitRepositoryResourceDescriptor> descriptors = new GitUtils(null, repositoryDir).getSubmoduleResourceDescriptors(2);
+
+        assertEquals(1, descriptors.size(), "Should have found 1 submodule but found: " + descriptors);
+        JsonObject descriptorJson = descriptors.get(0).toJson();
+        assertEquals("libs/lib", descriptorJson.getString(ResourceDescriptor.KEY_NAME), "Name did not match the submodule's path.");
+        assertEquals("git+https://github.com/example/lib@refs/heads/main", descriptorJson.getString(GitRepositoryResourceDescriptor.KEY_URI), "URI did not match the expected value.");
+        assertEquals(libCommit, descriptorJson.getJsonObject(ResourceDescriptor.KEY_DIGEST).getString(DigestSet.GITCOMMIT), "Commit did not match the expected value.");
+    }
+
+    @Test
+    public void test_getSubmoduleResourceDescriptors_notOnGitHub() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url", "https://gitlab.example.com/example/app.git");
+            config.save();
+            Files.write(new File(repositoryDir, "README.md").toPath(), "app".getBytes(StandardCharsets.UTF_8));
+            git.add().addFilepattern("README.md").call();
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        String libCommit = createSubmodule(repositoryDir, "libs/lib");
+        String vendorCommit = createSubmodule(repositoryDir, "vendor");
+        // The vendor submodule doesn't have a URL at all
+        Files.write(new File(repositoryDir, ".gitmodules").toPath(), ("[submodule \"lib\"]\n\tpath = libs/lib\n\turl = ../lib.git\n"
+                + "[submodule \"vendor\"]\n\tpath = vendor\n").getBytes(StandardCharsets.UTF_8));
+
+        List<GitRepositoryResourceDescriptor> descriptors = new GitUtils(null, repositoryDir).getSubmoduleResourceDescriptors(2);
+
+        assertEquals(2, descriptors.size(), "Should have found 2 submodules but found: " + descriptors);
+        assertEquals("https://gitlab.example.com/example/lib.git", descriptors.get(0).getGitRepoUrl(), "URL did not match the resolved submodule URL.");
+        assertNull(descriptors.get(1).getGitRepoUrl(), "Submodule without a URL should not have a URL.");
+        String[] expectedNames = { "libs/lib", "vendor" };
+        String[] expectedCommits = { libCommit, vendorCommit };
+        for (int i = 0; i < descriptors.size(); i++) {
+            JsonObject descriptorJson = descriptors.get(i).toJson();
+            assertEquals(expectedNames[i], descriptorJson.getString(ResourceDescriptor.KEY_NAME), "Name did not match the submodule's path.");
+            assertFalse(descriptorJson.containsKey(ResourceDescriptor.KEY_URI), "Submodule outside of GitHub should not have a URI: " + descriptorJson);
+            assertEquals(expectedCommits[i], descriptorJson.getJsonObject(ResourceDescriptor.KEY_DIGEST).getString(DigestSet.GITCOMMIT), "Commit did not match the expected value.");
+        }
+    }
+
+    private String createSubmodule(File repositoryDir, String path) throws Exception {
+        File submoduleDir = new File(repositoryDir, path);
+        try (Git submodule = Git.init().setDirectory(submoduleDir).setInitialBranch("main").call()) {
+            Files.write(new File(submoduleDir, "README.md").toPath(), path.getBytes(StandardCharsets.UTF_8));
+            submodule.add().addFilepattern("README.md").call();
+            return submodule.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call().getName();
+        }
+    }
+
+    @Test
+    public void test_getGitRepositoryResourceDescriptor_noRepository() {
+        GitUtils searchDirectoryUtils = new GitUtils(null, tempDir);
+        try {
+            searchDirectoryUtils.getGitRepositoryResourceDescriptor();
+            fail("Should have thrown an exception but didn't.");
+        } catch (GitRepositoryException e) {
+            testUtils.assertExceptionMatchesPattern(e, "Could not find a Git repository in .+ or any of its parent directories");
+        }
+    }
+
 }
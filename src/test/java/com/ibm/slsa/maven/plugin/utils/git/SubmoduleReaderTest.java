@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SubmoduleReaderTest {
+
+    private static final String ORIGIN_URL = "git@github.com:example/app.git";
+    private static final int THREADS = 4;
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_read_nestedSubmodules() throws Exception {
+        File coreDir = new File(tempDir, "core");
+        String coreCommit = createRepository(coreDir);
+        File libDir = new File(tempDir, "lib");
+        createRepository(libDir);
+        String libCommit;
+        try (Git lib = Git.open(libDir)) {
+            lib.submoduleAdd().setPath("core").setURI(coreDir.toURI().toString()).call().close();
+            libCommit = commit(lib, "Add core");
+        }
+        File appDir = new File(tempDir, "app");
+        createRepository(appDir);
+        try (Git app = Git.open(appDir); Git lib = Git.wrap(app.submoduleAdd().setPath("libs/lib").setURI(libDir.toURI().toString()).call())) {
+            commit(app, "Add lib");
+            lib.submoduleInit().call();
+            lib.submoduleUpdate().call();
+        }
+
+        List<SubmoduleReader.Submodule> submodules = read(appDir);
+
+        assertEquals(Arrays.asList("libs/lib", "libs/lib/core"), getPaths(submodules), "Submodule paths did not match the expected paths.");
+        assertEquals(libCommit, submodules.get(0).getHead().getCommit(), "Commit of the submodule did not match the expected value.");
+        assertEquals(coreCommit, submodules.get(1).getHead().getCommit(), "Commit of the nested submodule did not match the expected value.");
+        assertEquals(coreCommit, submodules.get(1).getHead().getRef(), "Updated submodules are checked out on a detached HEAD, so the ref should be the commit.");
+        assertTrue(submodules.get(1).getHead().getRemoteOriginUrl().endsWith("/core/"), "URL of the nested submodule did not match the expected value: " + submodules.get(1).getHead().getRemoteOriginUrl());
+    }
+
+    @Test
+    public void test_read_noSubmodules() throws Exception {
+        File appDir = new File(tempDir, "app");
+        createRepository(appDir);
+
+        assertTrue(read(appDir).isEmpty(), "A repository without a .gitmodules file should not have submodules.");
+    }
+
+    @Test
+    public void test_read_notCheckedOut() throws Exception {
+        File appDir = new File(tempDir, "app");
+        createRepository(appDir);
+        write(new File(appDir, ".gitmodules"), "[submodule \"missing\"]\n\tpath = libs/missing\n\turl = ../missing.git\n");
+        new File(appDir, "libs/missing").mkdirs();
+
+        assertTrue(read(appDir).isEmpty(), "Submodules that aren't checked out should be skipped.");
+    }
+
+    @Test
+    public void test_read_relativeUrl() throws Exception {
+        File appDir = new File(tempDir, "app");
+        createRepository(appDir);
+        String extCommit = createRepository(new File(appDir, "ext"));
+        write(new File(appDir, ".gitmodules"), "[submodule \"ext\"]\n\tpath = ext\n\turl = ../ext.git\n");
+
+        List<SubmoduleReader.Submodule> submodules = read(appDir);
+
+        assertEquals(Arrays.asList("ext"), getPaths(submodules), "Submodule paths did not match the expected paths.");
+        assertEquals(extCommit, submodules.get(0).getHead().getCommit(), "Commit of the submodule did not match the expected value.");
+        assertEquals("git@github.com:example/ext.git", submodules.get(0).getHead().getRemoteOriginUrl(), "A submodule without an origin remote should use the URL resolved against its parent.");
+    }
+
+    @Test
+    public void test_read_pathOutsideWorkTree() throws Exception {
+        File appDir = new File(tempDir, "app");
+        createRepository(appDir);
+        createRepository(new File(tempDir, "other"));
+        write(new File(appDir, ".gitmodules"), "[submodule \"other\"]\n\tpath = ../other\n\turl = ../other.git\n");
+
+        assertThrows(IOException.class, () -> read(appDir));
+    }
+
+    @Test
+    public void test_resolveUrl() {
+        assertEquals("git@github.com:example/lib.git", SubmoduleReader.resolveUrl(ORIGIN_URL, "../lib.git"), "URL did not match the expected value.");
+        assertEquals("git@github.com:other/lib.git", SubmoduleReader.resolveUrl(ORIGIN_URL, "../../other/lib.git"), "URL did not match the expected value.");
+        assertEquals("https://github.com/example/lib.git", SubmoduleReader.resolveUrl("https://github.com/example/app.git/", "../lib.git"), "URL did not match the expected value.");
+        assertEquals("https://github.com/example/app.git/lib", SubmoduleReader.resolveUrl("https://github.com/example/app.git", "./lib"), "URL did not match the expected value.");
+        assertEquals("https://example.com/lib.git", SubmoduleReader.resolveUrl(ORIGIN_URL, "https://example.com/lib.git"), "Absolute URLs should not be changed.");
+        assertEquals("../lib.git", SubmoduleReader.resolveUrl(null, "../lib.git"), "Relative URLs without a parent URL should not be changed.");
+    }
+
+    private static List<SubmoduleReader.Submodule> read(File workTree) throws IOException {
+        return SubmoduleReader.read(workTree, new File(workTree, ".git"), ORIGIN_URL, THREADS);
+    }
+
+    private static List<String> getPaths(List<SubmoduleReader.Submodule> submodules) {
+        return submodules.stream().map(SubmoduleReader.Submodule::getPath).collect(Collectors.toList());
+    }
+
+    private static String createRepository(File repositoryDir) throws Exception {
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.unset(ConfigConstants.CONFIG_REMOTE_SECTION, "origin", "url");
+            config.save();
+            write(new File(repositoryDir, "README.md"), repositoryDir.getName());
+            git.add().addFilepattern("README.md").call();
+            return commit(git, "Initial commit");
+        }
+    }
+
+    private static String commit(Git git, String message) throws Exception {
+        return git.commit().setMessage(message).setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call().getName();
+    }
+
+    private static void write(File file, String contents) throws IOException {
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
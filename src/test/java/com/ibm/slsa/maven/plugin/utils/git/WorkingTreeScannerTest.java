@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.git;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.Status;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.util.FS;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+import jakarta.json.JsonObject;
+
+public class WorkingTreeScannerTest {
+
+    private static final int THREADS = 4;
+
+    @TempDir File tempDir;
+
+    @Test
+    public void test_clean() throws Exception {
+        File repositoryDir = createRepository();
+
+        WorkingTreeStatus status = getStatus(repositoryDir);
+
+        assertTrue(status.isClean(), "Working tree should have been clean but had changes: " + status.getChangedPaths());
+        assertNull(status.getChangedPathsDigest(), "A clean working tree should not have a changed paths digest.");
+        assertEquals(Collections.singleton(WorkingTreeStatus.KEY_CLEAN), status.toJson().keySet(), "JSON keys did not match the expected keys.");
+    }
+
+    @Test
+    public void test_modifiedAndDeletedFiles() throws Exception {
+        File repositoryDir = createRepository();
+        write(new File(repositoryDir, "src/a/One.java"), "class One { int changed; }");
+        Files.delete(new File(repositoryDir, "src/b/Three.java").toPath());
+
+        WorkingTreeStatus status = getStatus(new File(repositoryDir, "src"));
+
+        assertFalse(status.isClean(), "Working tree should have had changes.");
+        assertEquals(Arrays.asList("src/a/One.java", "src/b/Three.java"), status.getChangedPaths(), "Changed paths did not match the expected paths.");
+        assertEquals(sha256("src/a/One.java\nsrc/b/Three.java\n"), status.getChangedPathsDigest(), "Changed paths digest did not match the expected value.");
+        JsonObject json = status.toJson();
+        assertFalse(json.getBoolean(WorkingTreeStatus.KEY_CLEAN), "JSON should have reported changes.");
+        assertEquals(status.getChangedPathsDigest(), json.getJsonObject(WorkingTreeStatus.KEY_CHANGED_PATHS_DIGEST).getString(DigestUtils.ALG_SHA256), "JSON digest did not match the expected value.");
+        assertMatchesJGit(repositoryDir, status);
+    }
+
+    @Test
+    public void test_modifiedFileWithSameSize() throws Exception {
+        File repositoryDir = createRepository();
+        File file = new File(repositoryDir, "src/a/Two.java");
+        FileTime lastModified = Files.getLastModifiedTime(file.toPath());
+        write(file, "class Owt {}");
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified.toMillis() + 10000));
+
+        assertEquals(Collections.singletonList("src/a/Two.java"), getStatus(repositoryDir).getChangedPaths(), "Changed paths did not match the expected paths.");
+    }
+
+    @Test
+    public void test_touchedFile() throws Exception {
+        File repositoryDir = createRepository();
+        File file = new File(repositoryDir, "README.md");
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(Files.getLastModifiedTime(file.toPath()).toMillis() + 10000));
+
+        WorkingTreeStatus status = getStatus(repositoryDir);
+
+        assertTrue(status.isClean(), "A file whose timestamp changed but whose content didn't should not be reported: " + status.getChangedPaths());
+    }
+
+    @Test
+    public void test_stagedChanges() throws Exception {
+        File repositoryDir = createRepository();
+        write(new File(repositoryDir, "src/c/New.java"), "class New {}");
+        write(new File(repositoryDir, "README.md"), "staged");
+        try (Git git = Git.open(repositoryDir)) {
+            git.add().addFilepattern("src/c/New.java").addFilepattern("README.md").call();
+        }
+
+        WorkingTreeStatus status = getStatus(repositoryDir);
+
+        assertEquals(Arrays.asList("README.md", "src/c/New.java"), status.getChangedPaths(), "Changed paths did not match the expected paths.");
+        assertMatchesJGit(repositoryDir, status);
+    }
+
+    @Test
+    public void test_untrackedFilesIgnored() throws Exception {
+        File repositoryDir = createRepository();
+        write(new File(repositoryDir, "src/a/Untracked.java"), "class Untracked {}");
+
+        assertTrue(getStatus(repositoryDir).isClean(), "Untracked files should not be reported.");
+    }
+
+    @Test
+    public void test_executableBit() throws Exception {
+        assumeTrue(FS.DETECTED.supportsExecute(), "The file system does not support the executable bit.");
+        File repositoryDir = createRepository();
+        File file = new File(repositoryDir, "README.md");
+        assertTrue(file.setExecutable(true), "Could not make the file executable.");
+
+        assertEquals(Collections.singletonList("README.md"), getStatus(repositoryDir).getChangedPaths(), "Changed paths did not match the expected paths.");
+
+        try (Git git = Git.open(repositoryDir)) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setBoolean(ConfigConstants.CONFIG_CORE_SECTION, null, ConfigConstants.CONFIG_KEY_FILEMODE, false);
+            config.save();
+        }
+        assertTrue(getStatus(repositoryDir).isClean(), "The executable bit should be ignored when core.filemode is false.");
+    }
+
+    @Test
+    public void test_autoCrlf() throws Exception {
+        File repositoryDir = createRepository();
+        try (Git git = Git.open(repositoryDir)) {
+            StoredConfig config = git.getRepository().getConfig();
+            config.setString(ConfigConstants.CONFIG_CORE_SECTION, null, ConfigConstants.CONFIG_KEY_AUTOCRLF, "true");
+            config.save();
+        }
+        write(new File(repositoryDir, "src/a/One.java"), "class One {\r\n}\r\n");
+
+        assertTrue(getStatus(repositoryDir).isClean(), "Files that only differ by CRLF line endings should not be reported when core.autocrlf is set.");
+    }
+
+    @Test
+    public void test_manyDirectories() throws Exception {
+        File repositoryDir = createRepository();
+        try (Git git = Git.open(repositoryDir)) {
+            for (int i = 0; i < 20; i++) {
+                for (int j = 0; j < 5; j++) {
+                    write(new File(repositoryDir, "modules/m" + i + "/File" + j + ".txt"), "content " + i + " " + j);
+                }
+            }
+            git.add().addFilepattern("modules").call();
+            git.commit().setMessage("Add modules").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        write(new File(repositoryDir, "modules/m3/File1.txt"), "changed content");
+        write(new File(repositoryDir, "modules/m17/File4.txt"), "changed content");
+        Files.delete(new File(repositoryDir, "modules/m9/File0.txt").toPath());
+
+        WorkingTreeStatus status = getStatus(repositoryDir);
+
+        assertEquals(Arrays.asList("modules/m17/File4.txt", "modules/m3/File1.txt", "modules/m9/File0.txt"), status.getChangedPaths(), "Changed paths did not match the expected paths.");
+        assertMatchesJGit(repositoryDir, status);
+    }
+
+    @Test
+    public void test_changedPathsSortedAndUnique() {
+        WorkingTreeStatus status = new WorkingTreeStatus(Arrays.asList("b", "a", "b"));
+
+        assertEquals(Arrays.asList("a", "b"), status.getChangedPaths(), "Changed paths should be sorted and unique.");
+    }
+
+    private WorkingTreeStatus getStatus(File directory) throws Exception {
+        return new GitUtils(null, directory).getWorkingTreeStatus(THREADS);
+    }
+
+    private void assertMatchesJGit(File repositoryDir, WorkingTreeStatus status) throws Exception {
+        try (Git git = Git.open(repositoryDir)) {
+            Status jgitStatus = git.status().call();
+            TreeSet<String> expected = new TreeSet<>(jgitStatus.getUncommittedChanges());
+            expected.removeAll(jgitStatus.getUntracked());
+            assertEquals(expected, new TreeSet<>(status.getChangedPaths()), "Changed paths did not match the uncommitted changes found by JGit.");
+        }
+    }
+
+    private File createRepository() throws Exception {
+        File repositoryDir = new File(tempDir, "repository");
+        try (Git git = Git.init().setDirectory(repositoryDir).setInitialBranch("main").call()) {
+            write(new File(repositoryDir, "README.md"), "app");
+            write(new File(repositoryDir, "src/a/One.java"), "class One {\n}\n");
+            write(new File(repositoryDir, "src/a/Two.java"), "class Two {}");
+            write(new File(repositoryDir, "src/b/Three.java"), "class Three {}");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Initial commit").setAuthor("author", "author@example.com").setCommitter("author", "author@example.com").call();
+        }
+        return repositoryDir;
+    }
+
+    private static void write(File file, String contents) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(String value) throws IOException {
+        return DigestUtils.toHex(DigestUtils.createMessageDigest(DigestUtils.ALG_SHA256).digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
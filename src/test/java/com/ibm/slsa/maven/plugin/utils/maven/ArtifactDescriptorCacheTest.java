@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Dependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.CanonicalJsonGenerator;
+
+@ExtendWith(MockitoExtension.class)
+public class ArtifactDescriptorCacheTest {
+
+    @Mock MavenSession mavenSession;
+    @Mock MavenSession otherModuleSession;
+    @Mock MavenExecutionRequest request;
+
+    @Test
+    public void test_getDescriptor_dependency() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache();
+        Dependency dependency = createDependency("org.example", "lib", "1.0", null, "jar", "compile");
+
+        SerializedDescriptor descriptor = cache.getDescriptor(dependency);
+
+        assertEquals(new MavenArtifactResourceDescriptor(dependency).toJson(), descriptor.toJson(), "Cached descriptor did not match the descriptor built directly.");
+        assertSame(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "1.0", null, "jar", "compile")), "Equal coordinates should share the descriptor.");
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void test_getDescriptor_artifact() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache();
+        Artifact artifact = new DefaultArtifact("org.example", "lib", VersionRange.createFromVersion("1.0"), "runtime", "jar", "tests", new DefaultArtifactHandler("jar"));
+
+        SerializedDescriptor descriptor = cache.getDescriptor(artifact, null);
+
+        assertEquals(new MavenArtifactResourceDescriptor(ArtifactDescriptorCache.toDependency(artifact)).toJson(), descriptor.toJson(), "Cached descriptor did not match the descriptor built directly.");
+        assertSame(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "1.0", "tests", "jar", "runtime")), "A dependency with the artifact's coordinates should share its descriptor.");
+    }
+
+    @Test
+    public void test_getDescriptor_keyedByEveryCoordinate() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache();
+        SerializedDescriptor descriptor = cache.getDescriptor(createDependency("org.example", "lib", "1.0", null, "jar", "compile"));
+
+        assertNotEquals(descriptor, cache.getDescriptor(createDependency("org.other", "lib", "1.0", null, "jar", "compile")));
+        assertNotEquals(descriptor, cache.getDescriptor(createDependency("org.example", "other", "1.0", null, "jar", "compile")));
+        assertNotEquals(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "2.0", null, "jar", "compile")));
+        // The classifier is not part of the descriptor, but artifacts that differ by classifier are still cached separately
+        assertNotSame(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "1.0", "sources", "jar", "compile")));
+        assertNotEquals(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "1.0", null, "war", "compile")));
+        assertNotEquals(descriptor, cache.getDescriptor(createDependency("org.example", "lib", "1.0", null, "jar", "runtime")));
+        assertEquals(7, cache.size());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void test_getDescriptor_keyedByDigest() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache();
+        Artifact artifact = new DefaultArtifact("org.example", "lib", VersionRange.createFromVersion("1.0"), "compile", "jar", null, new DefaultArtifactHandler("jar"));
+
+        SerializedDescriptor descriptor = cache.getDescriptor(artifact, createDigest("abc123"));
+
+        assertEquals(createDigest("abc123").toJson(), descriptor.toJson().getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST), "Cached descriptor should have held the digest.");
+        assertSame(descriptor, cache.getDescriptor(artifact, createDigest("abc123")), "Equal digests should share the descriptor.");
+        assertNotEquals(descriptor, cache.getDescriptor(artifact, createDigest("def456")), "A different digest should not have shared the descriptor.");
+        assertNotEquals(descriptor, cache.getDescriptor(artifact, null), "A missing digest should not have shared the descriptor.");
+    }
+
+    @Test
+    public void test_getDescriptor_writesCachedSerialization() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache();
+        Artifact artifact = new DefaultArtifact("org.example", "lib", VersionRange.createFromVersion("1.0"), "compile", "jar", null, new DefaultArtifactHandler("jar"));
+        SerializedDescriptor descriptor = cache.getDescriptor(artifact, createDigest("abc123"));
+
+        assertArrayEquals(CanonicalJson.toBytes(descriptor.toJson()), writeCanonical(descriptor), "Cached descriptor did not match its canonical form.");
+        assertArrayEquals(writeCanonical(descriptor), writeCanonical(cache.getDescriptor(artifact, createDigest("abc123"))), "Every module should have written the same bytes.");
+    }
+
+    @Test
+    public void test_getDescriptor_evictsOldest() {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache(2);
+        SerializedDescriptor first = cache.getDescriptor(createDependency("org.example", "first", "1.0", null, "jar", "compile"));
+        SerializedDescriptor second = cache.getDescriptor(createDependency("org.example", "second", "1.0", null, "jar", "compile"));
+        cache.getDescriptor(createDependency("org.example", "third", "1.0", null, "jar", "compile"));
+
+        assertEquals(2, cache.size());
+        assertSame(second, cache.getDescriptor(createDependency("org.example", "second", "1.0", null, "jar", "compile")), "The newer descriptor should have been kept.");
+        assertNotSame(first, cache.getDescriptor(createDependency("org.example", "first", "1.0", null, "jar", "compile")), "The oldest descriptor should have been evicted.");
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void test_getDescriptor_concurrently() throws Exception {
+        ArtifactDescriptorCache cache = new ArtifactDescriptorCache(50);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        Dependency dependency = createDependency("org.example", "lib" + (i % 100), "1.0", null, "jar", "compile");
+                        assertEquals(new MavenArtifactResourceDescriptor(dependency).toJson(), cache.getDescriptor(dependency).toJson());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(8 * 500, cache.getHits() + cache.getMisses());
+        assertEquals(50, cache.size(), "The cache should not hold more than its maximum number of descriptors.");
+    }
+
+    @Test
+    public void test_forSession_sharedAcrossModules() {
+        when(mavenSession.getRequest()).thenReturn(request);
+        when(otherModuleSession.getRequest()).thenReturn(request);
+
+        assertSame(ArtifactDescriptorCache.forSession(mavenSession), ArtifactDescriptorCache.forSession(otherModuleSession), "Modules of the same build should share the cache.");
+    }
+
+    private static byte[] writeCanonical(SerializedDescriptor descriptor) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CanonicalJsonGenerator generator = CanonicalJson.createGenerator(out);
+        descriptor.writeJson(generator);
+        generator.flush();
+        return out.toByteArray();
+    }
+
+    private static DigestSet createDigest(String sha256) {
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.ALG_SHA256, sha256);
+        return digest;
+    }
+
+    private static Dependency createDependency(String groupId, String artifactId, String version, String classifier, String type, String scope) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId(groupId);
+        dependency.setArtifactId(artifactId);
+        dependency.setVersion(version);
+        dependency.setClassifier(classifier);
+        dependency.setType(type);
+        dependency.setScope(scope);
+        return dependency;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.slsa.CanonicalJson;
+import com.ibm.slsa.CanonicalJsonGenerator;
+import com.ibm.slsa.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class DependencyDescriptorsTest {
+
+    private static final String KEY_DESCRIPTORS = "descriptors";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    private JsonObject codeApi = Json.createObjectBuilder().add(MavenArtifactResourceDescriptor.KEY_NAME, "com.example:code-api:1.0.0").build();
+    private JsonObject fulcrum = Json.createObjectBuilder().add(MavenArtifactResourceDescriptor.KEY_NAME, "org.rebels:fulcrum:0.9.9").build();
+
+    @Test
+    public void test_toJson() {
+        DigestSet digest = createDigest("abc123");
+        DependencyDescriptors descriptors = new DependencyDescriptors().add(codeApi, digest).add(fulcrum, null);
+
+        JsonArray result = descriptors.toJson();
+
+        assertEquals(2, result.size(), "Result did not have the expected number of entries. Result was: " + result);
+        testUtils.assertJsonStringEntryMatches("Dependency", result.getJsonObject(0), MavenArtifactResourceDescriptor.KEY_NAME, "com.example:code-api:1.0.0");
+        assertEquals(digest.toJson(), result.getJsonObject(0).getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST), "Dependency digest did not match.");
+        assertSame(fulcrum, result.getJsonObject(1), "A descriptor without a digest should have been added as is.");
+    }
+
+    @Test
+    public void test_writeJson() {
+        DependencyDescriptors descriptors = new DependencyDescriptors().add(codeApi, createDigest("abc123")).add(fulcrum, null);
+
+        assertEquals(descriptors.toJson(), writeJson(descriptors), "Streamed descriptors did not match the descriptors built in memory.");
+    }
+
+    @Test
+    public void test_writeJson_canonical() {
+        JsonObject descriptor = new MavenArtifactResourceDescriptor(testUtils.createDependency("com.example", "code-api", "1.0.0", "compile", "jar")).toJson();
+        DigestSet digest = createDigest("abc123");
+        digest.put("sha1", "def456");
+        DependencyDescriptors descriptors = new DependencyDescriptors().add(descriptor, digest).add(fulcrum, null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CanonicalJsonGenerator generator = CanonicalJson.createGenerator(out);
+        descriptors.writeJson(generator);
+        generator.flush();
+
+        assertArrayEquals(CanonicalJson.toBytes(descriptors.toJson()), out.toByteArray(), "Streamed descriptors did not match the canonical form of the descriptors built in memory.");
+    }
+
+    @Test
+    public void test_writeJson_empty() {
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+
+        assertEquals(JsonArray.EMPTY_JSON_ARRAY, writeJson(descriptors), "Should not have written any descriptors but did.");
+    }
+
+    @Test
+    public void test_distinct() {
+        DependencyDescriptors descriptors = new DependencyDescriptors()
+                .add(codeApi, createDigest("abc123"))
+                .add(fulcrum, null)
+                .add(codeApi, createDigest("abc123"))
+                .add(codeApi, createDigest("def456"))
+                .add(fulcrum, null);
+
+        DependencyDescriptors distinct = descriptors.distinct();
+
+        assertEquals(3, distinct.size(), "Result did not have the expected number of entries. Result was: " + distinct.toJson());
+        JsonArray result = distinct.toJson();
+        assertEquals(descriptors.toJson().get(0), result.get(0), "First occurrence should have been kept.");
+        assertEquals(descriptors.toJson().get(1), result.get(1), "First occurrence should have been kept.");
+        assertEquals(descriptors.toJson().get(3), result.get(2), "Descriptor with a different digest should have been kept.");
+    }
+
+    private JsonArray writeJson(DependencyDescriptors descriptors) {
+        return testUtils.writeJson(generator -> {
+            generator.writeStartObject();
+            generator.writeKey(KEY_DESCRIPTORS);
+            descriptors.writeJson(generator);
+            generator.writeEnd();
+        }).getJsonArray(KEY_DESCRIPTORS);
+    }
+
+    private DigestSet createDigest(String sha256) {
+        DigestSet digest = new DigestSet();
+        digest.put(DigestSet.ALG_SHA256, sha256);
+        return digest;
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.ibm.slsa.test.CommonTestUtils;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+
+public class DependencyGraphTest {
+
+    private static final String PROJECT = "com.example:app:war:1.0.0";
+    private static final String LIB_A = "com.example:lib-a:jar:1.0.0";
+    private static final String LIB_B = "com.example:lib-b:jar:1.0.0";
+    private static final String COMMON = "org.example:common:jar:2.1.0";
+
+    private CommonTestUtils testUtils = new CommonTestUtils();
+
+    @Test
+    public void test_empty() {
+        DependencyGraph graph = new DependencyGraph();
+
+        assertTrue(graph.isEmpty(), "New graph should have been empty.");
+        assertEquals(Json.createObjectBuilder().add(DependencyGraph.KEY_NODES, JsonArray.EMPTY_JSON_ARRAY).add(DependencyGraph.KEY_EDGES, JsonArray.EMPTY_JSON_ARRAY).build(), graph.toJson(), "Empty graph JSON did not match the expected value.");
+    }
+
+    @Test
+    public void test_addTrail_sharedDependency() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addTrail(Arrays.asList(PROJECT, LIB_A));
+        graph.addTrail(Arrays.asList(PROJECT, LIB_A, COMMON));
+        graph.addTrail(Arrays.asList(PROJECT, LIB_B));
+        graph.addTrail(Arrays.asList(PROJECT, LIB_B, COMMON));
+
+        assertEquals(Arrays.asList(PROJECT, LIB_A, COMMON, LIB_B), graph.getNodes(), "Each artifact should have been recorded once, in the order it was found.");
+        assertEquals(4, graph.getEdgeCount(), "Did not have the expected number of edges.");
+
+        JsonObject json = graph.toJson();
+        JsonArray expectedEdges = Json.createArrayBuilder()
+                .add(Json.createArrayBuilder().add(0).add(1))
+                .add(Json.createArrayBuilder().add(1).add(2))
+                .add(Json.createArrayBuilder().add(0).add(3))
+                .add(Json.createArrayBuilder().add(3).add(2))
+                .build();
+        assertEquals(expectedEdges, json.getJsonArray(DependencyGraph.KEY_EDGES), "Edges did not match the expected value.");
+        assertEquals(4, json.getJsonArray(DependencyGraph.KEY_NODES).size(), "Did not have the expected number of nodes.");
+    }
+
+    @Test
+    public void test_addDependency() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addNode(PROJECT);
+        graph.addDependency(PROJECT, LIB_A);
+        graph.addDependency(LIB_A, COMMON);
+        graph.addDependency(PROJECT, LIB_B);
+        graph.addDependency(LIB_B, COMMON);
+        graph.addDependency(LIB_A, COMMON);
+
+        assertEquals(Arrays.asList(PROJECT, LIB_A, COMMON, LIB_B), graph.getNodes(), "Each artifact should have been recorded once, in the order it was found.");
+        assertEquals(4, graph.getEdgeCount(), "Duplicate edges should not have been recorded.");
+    }
+
+    @Test
+    public void test_writeJson() {
+        DependencyGraph graph = new DependencyGraph();
+        // Enough edges to grow the edge storage
+        for (int i = 0; i < 20; i++) {
+            graph.addTrail(Arrays.asList(PROJECT, LIB_A + i, COMMON));
+        }
+
+        JsonObject json = testUtils.writeJson(generator -> graph.writeJson(generator));
+
+        assertEquals(40, graph.getEdgeCount(), "Did not have the expected number of edges.");
+        assertEquals(graph.toJson(), json, "Streamed graph did not match the graph built in memory.");
+    }
+
+    @Test
+    public void test_addTrail_duplicateTrail() {
+        DependencyGraph graph = new DependencyGraph();
+        graph.addTrail(Arrays.asList(PROJECT, LIB_A, COMMON));
+        graph.addTrail(Arrays.asList(PROJECT, LIB_A, COMMON));
+
+        assertEquals(3, graph.getNodes().size(), "Did not have the expected number of nodes.");
+        assertEquals(2, graph.getEdgeCount(), "Duplicate edges should not have been recorded.");
+    }
+
+}
@@ -17,32 +17,59 @@
 package com.ibm.slsa.maven.plugin.utils.maven;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.Dependency;
+import org.apache.maven.project.DependencyResolutionException;
+import org.apache.maven.project.DependencyResolutionResult;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectDependenciesResolver;
+import org.eclipse.aether.graph.DefaultDependencyNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifactResourceDescriptor;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
 import com.ibm.slsa.test.CommonTestUtils;
-import jakarta.json.Json;
+import com.ibm.slsa.test.Constants;
 import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 
 @ExtendWith(MockitoExtension.class)
 public class MavenUtilsTest {
 
+    private static final String APP_WAR_PATH = Constants.RESOURCES_DIR + "one-war" + File.separator + Constants.FILE_NAME_APP_WAR;
+
     @Mock private MavenProject project;
     @Mock private MavenSession mavenSession;
+    @Mock private ProjectDependenciesResolver dependenciesResolver;
+    @Mock private DependencyResolutionResult dependencyResolutionResult;
+
+    @TempDir File tempDir;
 
     private CommonTestUtils testUtils = new CommonTestUtils();
 
@@ -84,32 +111,32 @@ public class MavenUtilsTest {
 
     @Test
     public void test_addMavenProjectDependencies_noDependencies() {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+        DependencyDescriptors descriptors = new DependencyDescriptors();
 
-        utils.addMavenProjectDependencies(builder);
+        utils.addMavenProjectDependencies(descriptors);
 
-        JsonArray result = builder.build();
+        JsonArray result = descriptors.toJson();
         assertEquals(result, JsonArray.EMPTY_JSON_ARRAY, "Should not have added any dependencies but did.");
     }
 
     @Test
     public void test_addMavenProjectDependencies_emptyDependency() {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+        DependencyDescriptors descriptors = new DependencyDescriptors();
 
         Dependency dependency = new Dependency();
         List<Dependency> dependencies = new ArrayList<>();
         dependencies.add(dependency);
         when(project.getDependencies()).thenReturn(dependencies);
 
-        utils.addMavenProjectDependencies(builder);
+        utils.addMavenProjectDependencies(descriptors);
 
-        JsonArray result = builder.build();
+        JsonArray result = descriptors.toJson();
         assertEquals(result, JsonArray.EMPTY_JSON_ARRAY, "Should not have added any dependencies but did.");
     }
 
     @Test
     public void test_addMavenProjectDependencies_oneDependency_testScope() {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+        DependencyDescriptors descriptors = new DependencyDescriptors();
 
         final Dependency dependency = testUtils.createDependency("com.example", "code-api", "1.0.0", "test", "jar");
 
@@ -117,15 +144,15 @@ public class MavenUtilsTest {
         dependencies.add(dependency);
         when(project.getDependencies()).thenReturn(dependencies);
 
-        utils.addMavenProjectDependencies(builder);
+        utils.addMavenProjectDependencies(descriptors);
 
-        JsonArray result = builder.build();
+        JsonArray result = descriptors.toJson();
         assertEquals(result, JsonArray.EMPTY_JSON_ARRAY, "Should not have added any dependencies but did.");
     }
 
     @Test
     public void test_addMavenProjectDependencies_oneDependency_providedScope() {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+        DependencyDescriptors descriptors = new DependencyDescriptors();
 
         final Dependency dependency = testUtils.createDependency("com.example", "code-api", "1.0.0", "provided", "jar");
 
@@ -133,9 +160,9 @@ public class MavenUtilsTest {
         dependencies.add(dependency);
         when(project.getDependencies()).thenReturn(dependencies);
 
-        utils.addMavenProjectDependencies(builder);
+        utils.addMavenProjectDependencies(descriptors);
 
-        JsonArray result = builder.build();
+        JsonArray result = descriptors.toJson();
         assertEquals(1, result.size(), "Should have had one entry in the result, but didn't. Result was: " + result);
         JsonObject dependencyJson = result.getJsonObject(0);
         testUtils.assertDependencyJsonMatchesValues(dependency, dependencyJson);
@@ -143,7 +170,7 @@ public class MavenUtilsTest {
 
     @Test
     public void test_addMavenProjectDependencies_multipleDependencies() {
-        JsonArrayBuilder builder = Json.createArrayBuilder();
+        DependencyDescriptors descriptors = new DependencyDescriptors();
 
         final Dependency providedDependency1 = testUtils.createDependency("com.example", "code-api", "1.0.0", "provided", "jar");
         final Dependency providedDependency2 = testUtils.createDependency("com.empire", "stardust", "0.9.9", "provided", "pom");
@@ -161,9 +188,9 @@ public class MavenUtilsTest {
         dependencies.add(testDependency2);
         when(project.getDependencies()).thenReturn(dependencies);
 
-        utils.addMavenProjectDependencies(builder);
+        utils.addMavenProjectDependencies(descriptors);
 
-        JsonArray result = builder.build();
+        JsonArray result = descriptors.toJson();
         assertEquals(4, result.size(), "Result did not have the expected number of entries. Result was: " + result);
         JsonObject dependency1Json = result.getJsonObject(0);
         testUtils.assertDependencyJsonMatchesValues(providedDependency1, dependency1Json);
@@ -175,4 +202,140 @@ public class MavenUtilsTest {
         testUtils.assertDependencyJsonMatchesValues(providedDependency4, dependency4Json);
     }
 
+    @Test
+    public void test_addResolvedMavenProjectDependencies() throws IOException {
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+
+        Artifact compileArtifact = createArtifact("com.example", "code-api", "1.0.0", "compile", Constants.FILE_PATH_SIMPLE_TXT);
+        Artifact testArtifact = createArtifact("com.example", "stuff", "0.4.2", "test", Constants.FILE_PATH_SIMPLE_TXT);
+        Artifact unresolvedArtifact = createArtifact("org.rebels", "fulcrum", "0.9.9", "runtime", null);
+        Artifact warArtifact = createArtifact("org.anonymous", "tenet", "1.2.1", "provided", APP_WAR_PATH);
+        Set<Artifact> artifacts = new LinkedHashSet<>(Arrays.asList(compileArtifact, testArtifact, unresolvedArtifact, warArtifact));
+        when(project.getArtifacts()).thenReturn(artifacts);
+
+        utils.addResolvedMavenProjectDependencies(descriptors, new DigestUtils(), null, 2);
+
+        JsonArray result = descriptors.toJson();
+        assertEquals(3, result.size(), "Result did not have the expected number of entries. Result was: " + result);
+        testUtils.assertJsonStringEntryMatches("Dependency", result.getJsonObject(0), MavenArtifactResourceDescriptor.KEY_NAME, "com.example:code-api:1.0.0");
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Dependency digest", result.getJsonObject(0).getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST), DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+        testUtils.assertJsonStringEntryMatches("Dependency", result.getJsonObject(1), MavenArtifactResourceDescriptor.KEY_NAME, "org.rebels:fulcrum:0.9.9");
+        testUtils.assertJsonDoesNotContainKey("Dependency", result.getJsonObject(1), MavenArtifactResourceDescriptor.KEY_DIGEST);
+        testUtils.assertJsonStringEntryMatches("Dependency", result.getJsonObject(2), MavenArtifactResourceDescriptor.KEY_NAME, "org.anonymous:tenet:1.2.1");
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Dependency digest", result.getJsonObject(2).getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST), DigestSet.ALG_SHA256, Constants.SHA_APP_WAR);
+    }
+
+    @Test
+    public void test_addResolvedMavenProjectDependencies_repositoryChecksums() throws IOException {
+        File artifactFile = createRepositoryArtifact("code-api-1.0.0.jar", Constants.SHA_FILE_SIMPLT_TXT);
+        when(project.getArtifacts()).thenReturn(Collections.singleton(createArtifact("com.example", "code-api", "1.0.0", "compile", artifactFile.getPath())));
+
+        // The checksum file is used instead of hashing the artifact, even though it doesn't match
+        Files.write(artifactFile.toPath(), "tampered".getBytes(StandardCharsets.UTF_8));
+        new File(artifactFile.getPath() + ".sha256").setLastModified(artifactFile.lastModified());
+        DependencyDescriptors descriptors = new DependencyDescriptors();
+        utils.addResolvedMavenProjectDependencies(descriptors, new DigestUtils(), new RepositoryChecksums(tempDir, Collections.singletonList(DigestUtils.ALG_SHA256), 0), 2);
+
+        JsonObject digest = descriptors.toJson().getJsonObject(0).getJsonObject(MavenArtifactResourceDescriptor.KEY_DIGEST);
+        testUtils.assertJsonContainsOnlyExpectedStringEntry("Dependency digest", digest, DigestSet.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+    }
+
+    @Test
+    public void test_addResolvedMavenProjectDependencies_repositoryChecksumsVerified() throws IOException {
+        File artifactFile = createRepositoryArtifact("code-api-1.0.0.jar", Constants.SHA_APP_WAR);
+        when(project.getArtifacts()).thenReturn(Collections.singleton(createArtifact("com.example", "code-api", "1.0.0", "compile", artifactFile.getPath())));
+
+        IOException e = assertThrows(IOException.class, () -> utils.addResolvedMavenProjectDependencies(new DependencyDescriptors(), new DigestUtils(), new RepositoryChecksums(tempDir, Collections.singletonList(DigestUtils.ALG_SHA256), 1), 2));
+        testUtils.assertExceptionMatchesPattern(e, "checksum files of .*code-api-1.0.0.jar do not match");
+    }
+
+    @Test
+    public void test_addDependencyTrails() {
+        Artifact directArtifact = createArtifact("com.example", "code-api", "1.0.0", "compile", null);
+        directArtifact.setDependencyTrail(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0"));
+        Artifact transitiveArtifact = createArtifact("org.example", "common", "2.1.0", "compile", null);
+        transitiveArtifact.setDependencyTrail(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0", "org.example:common:jar:2.1.0"));
+        Artifact testArtifact = createArtifact("com.example", "stuff", "0.4.2", "test", null);
+        testArtifact.setDependencyTrail(Arrays.asList("com.example:app:war:1.0.0", "com.example:stuff:jar:0.4.2"));
+        when(project.getArtifacts()).thenReturn(new LinkedHashSet<>(Arrays.asList(directArtifact, transitiveArtifact, testArtifact)));
+
+        DependencyGraph graph = new DependencyGraph();
+        utils.addDependencyTrails(graph);
+
+        assertEquals(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0", "org.example:common:jar:2.1.0"), graph.getNodes(), "Graph nodes did not match the expected value.");
+        assertEquals(2, graph.getEdgeCount(), "Did not have the expected number of edges.");
+    }
+
+    @Test
+    public void test_addDependencyGraph() throws Exception {
+        DefaultDependencyNode common = createNode("org.example:common:2.1.0", "compile");
+        DefaultDependencyNode codeApi = createNode("com.example:code-api:1.0.0", "compile");
+        codeApi.setChildren(new ArrayList<>(Arrays.asList(common)));
+        DefaultDependencyNode nativeLib = createNode("org.example:native:so:linux:3.0", "runtime");
+        // The same node is shared by every dependent that resolved to it
+        nativeLib.setChildren(new ArrayList<>(Arrays.asList(common)));
+        DefaultDependencyNode stuff = createNode("com.example:stuff:0.4.2", "test");
+        stuff.setChildren(new ArrayList<>(Arrays.asList(createNode("org.example:test-utils:1.0.0", "test"))));
+        DefaultDependencyNode root = new DefaultDependencyNode(new org.eclipse.aether.artifact.DefaultArtifact("com.example:app:war:1.0.0"));
+        root.setChildren(new ArrayList<>(Arrays.asList(codeApi, nativeLib, stuff)));
+        when(project.getArtifact()).thenReturn(new DefaultArtifact("com.example", "app", VersionRange.createFromVersion("1.0.0"), null, "war", null, new DefaultArtifactHandler("war")));
+        when(dependencyResolutionResult.getDependencyGraph()).thenReturn(root);
+        when(dependenciesResolver.resolve(any())).thenReturn(dependencyResolutionResult);
+
+        DependencyGraph graph = new DependencyGraph();
+        utils.addDependencyGraph(graph, dependenciesResolver);
+
+        assertEquals(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0", "org.example:native:so:linux:3.0", "org.example:common:jar:2.1.0"), graph.getNodes(), "Graph nodes did not match the expected value.");
+        assertEquals(4, graph.getEdgeCount(), "Did not have the expected number of edges.");
+    }
+
+    @Test
+    public void test_addDependencyGraph_resolutionFailure() throws Exception {
+        when(project.getId()).thenReturn("com.example:app:war:1.0.0");
+        when(dependenciesResolver.resolve(any())).thenThrow(new DependencyResolutionException(dependencyResolutionResult, "Could not find artifact com.example:missing:jar:1.0.0", null));
+
+        IOException e = assertThrows(IOException.class, () -> utils.addDependencyGraph(new DependencyGraph(), dependenciesResolver));
+        testUtils.assertExceptionMatchesPattern(e, "dependency graph of project com.example:app:war:1.0.0: Could not find artifact");
+    }
+
+    @Test
+    public void test_addDependencyGraph_noResolver() throws IOException {
+        Artifact directArtifact = createArtifact("com.example", "code-api", "1.0.0", "compile", null);
+        directArtifact.setDependencyTrail(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0"));
+        when(project.getArtifacts()).thenReturn(Collections.singleton(directArtifact));
+
+        DependencyGraph graph = new DependencyGraph();
+        utils.addDependencyGraph(graph, null);
+
+        assertEquals(Arrays.asList("com.example:app:war:1.0.0", "com.example:code-api:jar:1.0.0"), graph.getNodes(), "Graph should have been built from the dependency trails.");
+    }
+
+    @Test
+    public void test_getResolvedArtifactFiles() {
+        Artifact compileArtifact = createArtifact("com.example", "code-api", "1.0.0", "compile", Constants.FILE_PATH_SIMPLE_TXT);
+        Artifact testArtifact = createArtifact("com.example", "stuff", "0.4.2", "test", APP_WAR_PATH);
+        Artifact unresolvedArtifact = createArtifact("org.rebels", "fulcrum", "0.9.9", "runtime", null);
+        when(project.getArtifacts()).thenReturn(new LinkedHashSet<>(Arrays.asList(compileArtifact, testArtifact, unresolvedArtifact)));
+
+        assertEquals(Arrays.asList(new File(Constants.FILE_PATH_SIMPLE_TXT)), utils.getResolvedArtifactFiles(), "Resolved artifact files did not match the expected value.");
+    }
+
+    private File createRepositoryArtifact(String fileName, String sha256) throws IOException {
+        File artifactFile = new File(tempDir, fileName);
+        Files.copy(new File(Constants.FILE_PATH_SIMPLE_TXT).toPath(), artifactFile.toPath());
+        Files.write(new File(artifactFile.getPath() + ".sha256").toPath(), sha256.getBytes(StandardCharsets.US_ASCII));
+        return artifactFile;
+    }
+
+    private DefaultDependencyNode createNode(String coords, String scope) {
+        return new DefaultDependencyNode(new org.eclipse.aether.graph.Dependency(new org.eclipse.aether.artifact.DefaultArtifact(coords), scope));
+    }
+
+    private Artifact createArtifact(String groupId, String artifactId, String version, String scope, String filePath) {
+        Artifact artifact = new DefaultArtifact(groupId, artifactId, VersionRange.createFromVersion(version), scope, "jar", null, new DefaultArtifactHandler("jar"));
+        if (filePath != null) {
+            artifact.setFile(new File(filePath));
+        }
+        return artifact;
+    }
 }
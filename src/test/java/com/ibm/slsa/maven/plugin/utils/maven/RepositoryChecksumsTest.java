@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ibm.intoto.attestation.DigestSet;
+import com.ibm.slsa.maven.plugin.utils.digest.DigestUtils;
+import com.ibm.slsa.test.Constants;
+
+public class RepositoryChecksumsTest {
+
+    @TempDir File tempDir;
+
+    private File localRepository;
+    private File artifactFile;
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        localRepository = new File(tempDir, "repository");
+        artifactFile = new File(localRepository, "com/example/code-api/1.0.0/code-api-1.0.0.jar");
+        artifactFile.getParentFile().mkdirs();
+        Files.copy(new File(Constants.FILE_PATH_SIMPLE_TXT).toPath(), artifactFile.toPath());
+    }
+
+    @Test
+    public void test_getChecksums() throws IOException {
+        writeChecksumFile(DigestUtils.ALG_SHA1, Constants.SHA1_FILE_SIMPLE_TXT.toUpperCase());
+        writeChecksumFile(DigestUtils.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT + "  code-api-1.0.0.jar\n");
+
+        DigestSet checksums = new RepositoryChecksums(localRepository, Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA1), 0).getChecksums(artifactFile);
+
+        assertEquals(Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA1), Arrays.asList(checksums.keySet().toArray()), "Checksums were not in the order of the algorithms.");
+        assertEquals(Constants.SHA_FILE_SIMPLT_TXT, checksums.get(DigestUtils.ALG_SHA256), "SHA-256 checksum did not match the expected value.");
+        assertEquals(Constants.SHA1_FILE_SIMPLE_TXT, checksums.get(DigestUtils.ALG_SHA1), "SHA-1 checksum did not match the expected value.");
+    }
+
+    @Test
+    public void test_getChecksums_missingAlgorithm() throws IOException {
+        writeChecksumFile(DigestUtils.ALG_SHA1, Constants.SHA1_FILE_SIMPLE_TXT);
+
+        assertNull(new RepositoryChecksums(localRepository, Arrays.asList(DigestUtils.ALG_SHA256, DigestUtils.ALG_SHA1), 0).getChecksums(artifactFile), "Should not have used checksums when one of the algorithms was missing.");
+    }
+
+    @Test
+    public void test_getChecksums_stale() throws IOException {
+        File checksumFile = writeChecksumFile(DigestUtils.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+        checksumFile.setLastModified(artifactFile.lastModified() - 60000);
+
+        assertNull(new RepositoryChecksums(localRepository, Collections.singletonList(DigestUtils.ALG_SHA256), 0).getChecksums(artifactFile), "Should not have used a checksum file older than the artifact.");
+    }
+
+    @Test
+    public void test_getChecksums_malformed() throws IOException {
+        writeChecksumFile(DigestUtils.ALG_SHA256, Constants.SHA1_FILE_SIMPLE_TXT);
+
+        assertNull(new RepositoryChecksums(localRepository, Collections.singletonList(DigestUtils.ALG_SHA256), 0).getChecksums(artifactFile), "Should not have used a checksum of the wrong length.");
+    }
+
+    @Test
+    public void test_getChecksums_outsideLocalRepository() throws IOException {
+        writeChecksumFile(DigestUtils.ALG_SHA256, Constants.SHA_FILE_SIMPLT_TXT);
+
+        assertNull(new RepositoryChecksums(new File(tempDir, "other-repository"), Collections.singletonList(DigestUtils.ALG_SHA256), 0).getChecksums(artifactFile), "Should not have used checksums for a file outside of the local repository.");
+    }
+
+    @Test
+    public void test_shouldVerify() throws IOException {
+        assertFalse(new RepositoryChecksums(localRepository, Collections.singletonList(DigestUtils.ALG_SHA256), 0).shouldVerify(), "Should never verify with a rate of 0.");
+        assertTrue(new RepositoryChecksums(localRepository, Collections.singletonList(DigestUtils.ALG_SHA256), 1).shouldVerify(), "Should always verify with a rate of 1.");
+    }
+
+    private File writeChecksumFile(String algorithm, String contents) throws IOException {
+        File checksumFile = new File(artifactFile.getPath() + "." + algorithm);
+        Files.write(checksumFile.toPath(), contents.getBytes(StandardCharsets.US_ASCII));
+        return checksumFile;
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 International Business Machines Corp..
+ * 
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License, 
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+*/
+package com.ibm.slsa.maven.plugin.utils.maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+
+public class SessionScopedValuesTest {
+
+    private AtomicInteger createCount = new AtomicInteger();
+
+    private SessionScopedValues<Object> values = new SessionScopedValues<>(() -> {
+        createCount.incrementAndGet();
+        return new Object();
+    });
+
+    @Test
+    public void test_get_sameSession() {
+        MavenSession mavenSession = mock(MavenSession.class);
+
+        assertSame(values.get(mavenSession), values.get(mavenSession), "Should have gotten the same value for the same session.");
+        assertEquals(1, createCount.get(), "Value should only have been created once.");
+    }
+
+    @Test
+    public void test_get_moduleSessions() {
+        // Each module is built with its own copy of the session, all of which share the build's request
+        MavenExecutionRequest request = mock(MavenExecutionRequest.class);
+        MavenSession moduleSession1 = mock(MavenSession.class);
+        MavenSession moduleSession2 = mock(MavenSession.class);
+        when(moduleSession1.getRequest()).thenReturn(request);
+        when(moduleSession2.getRequest()).thenReturn(request);
+
+        assertSame(values.get(moduleSession1), values.get(moduleSession2), "Modules of the same build should have shared the value.");
+    }
+
+    @Test
+    public void test_get_differentBuilds() {
+        MavenSession mavenSession1 = mock(MavenSession.class);
+        MavenSession mavenSession2 = mock(MavenSession.class);
+        when(mavenSession1.getRequest()).thenReturn(mock(MavenExecutionRequest.class));
+        when(mavenSession2.getRequest()).thenReturn(mock(MavenExecutionRequest.class));
+
+        assertNotSame(values.get(mavenSession1), values.get(mavenSession2), "Different builds should not have shared the value.");
+        assertEquals(2, createCount.get(), "A value should have been created for each build.");
+    }
+
+}
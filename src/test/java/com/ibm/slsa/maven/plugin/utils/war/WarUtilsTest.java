@@ -17,11 +17,18 @@
 package com.ibm.slsa.maven.plugin.utils.war;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.Arrays;
 
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.model.Build;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
@@ -112,4 +119,51 @@ public class WarUtilsTest {
         }
     }
 
+    @Test
+    public void test_buildsWar_warPackaging() {
+        WarUtils utils = new WarUtils(project, log);
+
+        when(project.getPackaging()).thenReturn("war");
+
+        assertTrue(utils.buildsWar(), "A project with war packaging should build a .war file.");
+    }
+
+    @Test
+    public void test_buildsWar_pomPackaging() {
+        WarUtils utils = new WarUtils(project, log);
+
+        when(project.getPackaging()).thenReturn("pom");
+        when(project.getArtifact()).thenReturn(createArtifact("pom", null));
+
+        assertFalse(utils.buildsWar(), "A project with pom packaging should not build a .war file.");
+    }
+
+    @Test
+    public void test_buildsWar_jarPackaging() {
+        WarUtils utils = new WarUtils(project, log);
+
+        when(project.getPackaging()).thenReturn("jar");
+        when(project.getArtifact()).thenReturn(createArtifact("jar", new File("target" + File.separator + "lib.jar")));
+        when(project.getAttachedArtifacts()).thenReturn(Arrays.asList(createArtifact("java-source", new File("target" + File.separator + "lib-sources.jar"))));
+
+        assertFalse(utils.buildsWar(), "A project with jar packaging and no attached .war file should not build a .war file.");
+    }
+
+    @Test
+    public void test_buildsWar_attachedWar() {
+        WarUtils utils = new WarUtils(project, log);
+
+        when(project.getPackaging()).thenReturn("jar");
+        when(project.getArtifact()).thenReturn(createArtifact("jar", null));
+        when(project.getAttachedArtifacts()).thenReturn(Arrays.asList(createArtifact("zip", new File("target" + File.separator + "app.war"))));
+
+        assertTrue(utils.buildsWar(), "A project that attaches a .war file should build a .war file.");
+    }
+
+    private Artifact createArtifact(String type, File file) {
+        Artifact artifact = new DefaultArtifact("com.example", "app", VersionRange.createFromVersion("1.0"), null, type, null, new DefaultArtifactHandler(type));
+        artifact.setFile(file);
+        return artifact;
+    }
+
 }
@@ -20,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -29,10 +32,25 @@ import com.ibm.intoto.attestation.custom.resource.descriptors.maven.MavenArtifac
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
 
 public class CommonTestUtils {
 
+    /**
+     * Runs the given streaming serialization and parses the JSON object it produced.
+     */
+    public JsonObject writeJson(Consumer<JsonGenerator> writer) {
+        StringWriter output = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(output)) {
+            writer.accept(generator);
+        }
+        try (JsonReader reader = Json.createReader(new StringReader(output.toString()))) {
+            return reader.readObject();
+        }
+    }
+
     public Dependency createDependency(String groupId, String artifactId, String version, String scope, String type) {
         Dependency dependency = new Dependency();
         dependency.setGroupId(groupId);
@@ -31,4 +31,8 @@ public class Constants {
     public static final String SHA_FILE_SIMPLT_TXT = "38d141b35057bbb691b9756c20a6c31a0ab0bbf2076538a7fb6d9ee8835096d7";
     public static final String SHA_APP_WAR = "76f7613c5fbb7320d4aaee3ed17a58d71a5e03783ae5db222687ac0e3fffa0a2";
 
+    public static final String SHA1_FILE_SIMPLE_TXT = "74dbcda6019c2b1e1507009ecc2940b2f3c8eb0d";
+    public static final String SHA512_FILE_SIMPLE_TXT = "c86c1bfea656d1dd8accc4faf4d2788f631f5c3f58c7bcafdd2266f26115c8c8318b750aec2bbed3e4bd2f038af17de4dd35192f8192410bd25371b51fee653a";
+    public static final String SHA512_APP_WAR = "cadfad9d57f1d232dcc133ccccd55273aa851d0c58e7ee7e68f5a4144f9224905b5db65c0ba84b1c3762f2f381c73b64a0820773fae66a22822f8678bb4871c3";
+
 }